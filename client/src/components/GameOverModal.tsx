@@ -17,10 +17,14 @@ export default function GameOverModal({ isOpen, status }: GameOverModalProps) {
     <div className="fixed inset-0 bg-black/50 flex items-center justify-center z-50">
       <div className="bg-white p-8 rounded-xl shadow-2xl max-w-sm w-full mx-4 transform transition-all">
         <h2 className="text-2xl font-bold text-gray-800 mb-4 text-center">
-          {status === GameStatus.DRAW ? "It's a Draw!" : `Player ${winner} Wins! 🎉`}
+          {status === GameStatus.ABANDONED
+            ? 'Game Abandoned'
+            : status === GameStatus.DRAW ? "It's a Draw!" : `Player ${winner} Wins! 🎉`}
         </h2>
         <p className="text-gray-600 mb-6 text-center">
-          {winner === 'DRAW' 
+          {status === GameStatus.ABANDONED
+            ? 'A player ran out of time to make a move.'
+            : winner === 'DRAW' 
             ? "Great game! Both players played excellently."
             : "Congratulations on your victory!"}
         </p>
@@ -1,7 +1,8 @@
+import { useEffect } from 'react';
 import { useParams } from 'react-router-dom';
-import { useQuery, useMutation } from '@tanstack/react-query';
+import { useQuery, useMutation, useQueryClient } from '@tanstack/react-query';
 import { toast } from 'sonner';
-import { type Game, type MoveRequest, type Cell, GameStatus, CellValue } from '../types/game';
+import { type Game, type GameUpdate, type MoveRequest, type Cell, GameStatus, CellValue } from '../types/game';
 import axios from 'axios';
 import { useGameStore } from '../store/gameStore';
 import GameOverModal from '../components/GameOverModal';
@@ -17,9 +18,22 @@ async function getGameStatus(gameId: number) {
   return response.data;
 }
 
-// Auxiliary function to convert the flat array into a 3x3 matrix
-function transformBoard(board: Cell[]): (Cell | null)[][] {
-  const matrix: (Cell | null)[][] = Array(3).fill(null).map(() => Array(3).fill(null));
+// Applies a pushed move to the cached game state; an abandoned game has no move to apply
+function applyUpdate(game: Game, update: GameUpdate): Game {
+  const lastMove = update.lastMove;
+  return {
+    ...game,
+    status: update.status,
+    currentTurn: update.currentTurn,
+    board: lastMove === null ? game.board : game.board.map(cell =>
+      cell.row === lastMove.row && cell.column === lastMove.column ? { ...cell, value: lastMove.value } : cell
+    ),
+  };
+}
+
+// Auxiliary function to convert the flat array into a size x size matrix
+function transformBoard(board: Cell[], size: number): (Cell | null)[][] {
+  const matrix: (Cell | null)[][] = Array(size).fill(null).map(() => Array(size).fill(null));
   
   board.forEach(cell => {
     matrix[cell.row - 1][cell.column - 1] = cell;
@@ -31,7 +45,8 @@ function transformBoard(board: Cell[]): (Cell | null)[][] {
 export default function GameBoard() {
   const { gameId } = useParams();
   const { currentPlayer, setCurrentPlayer } = useGameStore();
-  const { data: gameStatus, refetch: refetchStatus } = useQuery({
+  const queryClient = useQueryClient();
+  const { data: gameStatus } = useQuery({
     queryKey: ['gameStatus', gameId],
     queryFn: async () => {
       if (!gameId) return null;
@@ -43,10 +58,30 @@ export default function GameBoard() {
     enabled: !!gameId
   });
 
+  // The server pushes every committed move, so the board stays current without polling
+  useEffect(() => {
+    if (!gameId || typeof EventSource === 'undefined') return;
+
+    const source = new EventSource(`${config.apiUrl}/games/stream?matchId=${gameId}`);
+    source.addEventListener('state', (event) => {
+      const game: Game = JSON.parse((event as MessageEvent).data);
+      setCurrentPlayer(game.currentTurn);
+      queryClient.setQueryData(['gameStatus', gameId], game);
+    });
+    source.addEventListener('move', (event) => {
+      const update: GameUpdate = JSON.parse((event as MessageEvent).data);
+      setCurrentPlayer(update.currentTurn);
+      queryClient.setQueryData<Game | null>(['gameStatus', gameId], (game) => game && applyUpdate(game, update));
+    });
+
+    return () => source.close();
+  }, [gameId, queryClient, setCurrentPlayer]);
+
   const makeMoveMutation = useMutation({
     mutationFn: makeMove,
-    onSuccess: () => {
-      refetchStatus();
+    onSuccess: (game) => {
+      setCurrentPlayer(game.currentTurn);
+      queryClient.setQueryData(['gameStatus', gameId], game);
     },
     onError: (error) => {
       if (axios.isAxiosError(error)) {
@@ -82,8 +117,11 @@ export default function GameBoard() {
         <h1 className="text-3xl font-bold text-gray-800 tracking-tight">Tic Tac Toe</h1>
       </div>
       
-      <div className="grid grid-cols-3 gap-2 sm:gap-4 mb-8">
-        {transformBoard(gameStatus.board).map((row, i) =>
+      <div
+        className="grid gap-2 sm:gap-4 mb-8"
+        style={{ gridTemplateColumns: `repeat(${gameStatus.size}, minmax(0, 1fr))` }}
+      >
+        {transformBoard(gameStatus.board, gameStatus.size).map((row, i) =>
           row.map((cell, j) => (
             <button
               key={`${i}-${j}`}
@@ -3,11 +3,11 @@ import { useMutation } from '@tanstack/react-query';
 import { useGameStore } from '../store/gameStore';
 import { toast } from 'sonner';
 import axios from 'axios';
-import type { Game } from '../types/game';
+import type { Game, GameMode } from '../types/game';
 import { config } from '../config/env';
 
-async function createGame() {
-  const response = await axios.post<Game>(`${config.apiUrl}/games/create`);
+async function createGame(mode: GameMode) {
+  const response = await axios.post<Game>(`${config.apiUrl}/games/create`, null, { params: { mode } });
   return response.data;
 }
 
@@ -30,8 +30,8 @@ export default function GameCreation() {
     }
   });
 
-  const handleNewGame = () => {
-    createGameMutation.mutate();
+  const handleNewGame = (mode: GameMode) => {
+    createGameMutation.mutate(mode);
   };
 
   return (
@@ -42,9 +42,9 @@ export default function GameCreation() {
       <p className="text-gray-600 mb-8 text-center">
         Click the button below to start a new game!
       </p>
-      <div className="flex justify-center">
+      <div className="flex justify-center gap-4">
         <button
-          onClick={() => handleNewGame()}
+          onClick={() => handleNewGame('TWO_PLAYER')}
           disabled={createGameMutation.isPending}
           className={`appearance-none border-0 transform transition-all duration-200 hover:scale-105 bg-gray-900 text-white px-8 py-3 rounded-lg font-semibold shadow-lg hover:bg-gray-800 hover:shadow-xl focus:outline-none focus:ring-2 focus:ring-gray-700 focus:ring-opacity-50 flex items-center justify-center space-x-2 min-w-[140px] disabled:opacity-50 disabled:cursor-not-allowed ${
             createGameMutation.isPending ? 'opacity-50 cursor-not-allowed' : ''
@@ -54,6 +54,17 @@ export default function GameCreation() {
             {createGameMutation.isPending ? 'Creating...' : 'New Game'}
           </span>
         </button>
+        <button
+          onClick={() => handleNewGame('VS_COMPUTER')}
+          disabled={createGameMutation.isPending}
+          className={`appearance-none border-0 transform transition-all duration-200 hover:scale-105 bg-gray-900 text-white px-8 py-3 rounded-lg font-semibold shadow-lg hover:bg-gray-800 hover:shadow-xl focus:outline-none focus:ring-2 focus:ring-gray-700 focus:ring-opacity-50 flex items-center justify-center space-x-2 min-w-[140px] disabled:opacity-50 disabled:cursor-not-allowed ${
+            createGameMutation.isPending ? 'opacity-50 cursor-not-allowed' : ''
+          }`}
+        >
+          <span className="text-xl">
+            {createGameMutation.isPending ? 'Creating...' : 'Play vs Computer'}
+          </span>
+        </button>
       </div>
     </div>
   );
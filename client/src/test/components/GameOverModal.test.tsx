@@ -39,6 +39,12 @@ describe('GameOverModal', () => {
     expect(screen.getByText("Great game! Both players played excellently.")).toBeInTheDocument();
   });
 
+  it('shows correct message when the game was abandoned', () => {
+    render(<GameOverModal isOpen={true} status={GameStatus.ABANDONED} />);
+    expect(screen.getByText('Game Abandoned')).toBeInTheDocument();
+    expect(screen.getByText('A player ran out of time to make a move.')).toBeInTheDocument();
+  });
+
   it('calls navigate("/") when Play Again button is clicked', () => {
     render(<GameOverModal isOpen={true} status={GameStatus.X_WON} />);
     const button = screen.getByText('Play Again');
@@ -79,6 +79,23 @@ describe('GameCreation', () => {
     });
   });
 
+  it('creates a game against the computer', async () => {
+    const fakeGame = { id: 124, mode: 'VS_COMPUTER' };
+    mockAxios.onPost(/games\/create/).reply((config) => {
+      expect(config.params).toEqual({ mode: 'VS_COMPUTER' });
+      return [200, fakeGame];
+    });
+
+    renderWithClient(<GameCreation />);
+
+    fireEvent.click(screen.getByRole('button', { name: /Play vs Computer/i }));
+
+    await waitFor(() => {
+      expect(setCurrentGameIdMock).toHaveBeenCalledWith(fakeGame.id);
+      expect(mockNavigate).toHaveBeenCalledWith(`/game/${fakeGame.id}`);
+    });
+  });
+
   it('shows toast error when creation fails', async () => {
     mockAxios.onPost(/games\/create/).reply(400, { message: 'Creation failed' });
 
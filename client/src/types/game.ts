@@ -10,9 +10,12 @@ export enum GameStatus {
   IN_PROGRESS = 'IN_PROGRESS',
   X_WON = 'X_WON',
   O_WON = 'O_WON',
-  DRAW = 'DRAW'
+  DRAW = 'DRAW',
+  ABANDONED = 'ABANDONED'
 }
 
+export type GameMode = 'TWO_PLAYER' | 'VS_COMPUTER';
+
 export interface Cell {
   row: number;
   column: number;
@@ -24,9 +27,20 @@ export interface Game {
   createdAt: string;
   status: GameStatus;
   currentTurn: Player;
+  mode: GameMode;
+  size: number;
+  winLength: number;
+  turnDeadline: string | null;
   board: Cell[];
 }
 
+export interface GameUpdate {
+  id: number;
+  status: GameStatus;
+  currentTurn: Player;
+  lastMove: Cell | null;
+}
+
 export interface Square {
   x: number;
   y: number;
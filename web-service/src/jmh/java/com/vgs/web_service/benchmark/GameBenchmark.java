@@ -0,0 +1,123 @@
+package com.vgs.web_service.benchmark;
+
+import com.vgs.web_service.domain.model.Board;
+import com.vgs.web_service.domain.model.CellValue;
+import com.vgs.web_service.domain.model.Game;
+import com.vgs.web_service.domain.model.GameStatus;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Move handling in the domain model. Playouts cycle through pre-generated random games so the
+ * branch predictor cannot learn a single move sequence; {@code cellRows} adds the per-cell rows
+ * kept in CELLS storage mode.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class GameBenchmark {
+
+    private static final int GAMES = 256;
+
+    @Param({"false", "true"})
+    private boolean cellRows;
+
+    private int[][][] playouts;
+    private Board[] finalBoards;
+    private CellValue[] lastPlayers;
+    private int[][] lastMoves;
+    private int next;
+
+    @Setup(Level.Trial)
+    public void generateGames() {
+        Random random = new Random(42);
+        playouts = new int[GAMES][][];
+        finalBoards = new Board[GAMES];
+        lastPlayers = new CellValue[GAMES];
+        lastMoves = new int[GAMES][];
+
+        for (int i = 0; i < GAMES; i++) {
+            List<int[]> cells = new ArrayList<>(Board.CELL_COUNT);
+            for (int row = 1; row <= Board.SIZE; row++) {
+                for (int col = 1; col <= Board.SIZE; col++) {
+                    cells.add(new int[]{row, col});
+                }
+            }
+            Collections.shuffle(cells, random);
+
+            Game game = Game.builder().build();
+            List<int[]> moves = new ArrayList<>();
+            for (int[] cell : cells) {
+                lastPlayers[i] = game.getCurrentTurn();
+                game.makeMove(game.getCurrentTurn(), cell[0], cell[1]);
+                moves.add(cell);
+                if (game.getStatus() != GameStatus.IN_PROGRESS) {
+                    break;
+                }
+            }
+            playouts[i] = moves.toArray(int[][]::new);
+            finalBoards[i] = game.getBoard();
+            lastMoves[i] = moves.get(moves.size() - 1);
+        }
+    }
+
+    @Benchmark
+    public Game newGame() {
+        return createGame();
+    }
+
+    @Benchmark
+    public Game firstMove() {
+        Game game = createGame();
+        game.makeMove(CellValue.X, 2, 2);
+        return game;
+    }
+
+    @Benchmark
+    public GameStatus playout() {
+        int[][] moves = playouts[next++ & (GAMES - 1)];
+        Game game = createGame();
+        for (int[] move : moves) {
+            game.makeMove(game.getCurrentTurn(), move[0], move[1]);
+        }
+        return game.getStatus();
+    }
+
+    @Benchmark
+    public boolean completesLine() {
+        int i = next++ & (GAMES - 1);
+        return finalBoards[i].completesLine(lastPlayers[i], lastMoves[i][0], lastMoves[i][1]);
+    }
+
+    @Benchmark
+    public CellValue winner() {
+        return finalBoards[next++ & (GAMES - 1)].winner();
+    }
+
+    private Game createGame() {
+        Game game = Game.builder().build();
+        if (cellRows) {
+            game.initializeBoard();
+        }
+        return game;
+    }
+}
@@ -0,0 +1,75 @@
+package com.vgs.web_service.benchmark;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.vgs.web_service.domain.model.CellValue;
+import com.vgs.web_service.domain.model.Game;
+import com.vgs.web_service.presentation.cache.GameResponseCache;
+import com.vgs.web_service.presentation.dto.GameResponse;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.util.unit.DataSize;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Building and serializing the response returned by every status and move request, against taking
+ * the serialized body from {@link GameResponseCache}. The mapper is configured the way Spring MVC
+ * configures its own.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class GameResponseBenchmark {
+
+    private Game game;
+    private GameResponse response;
+    private ObjectMapper objectMapper;
+    private GameResponseCache responseCache;
+
+    @Setup
+    public void setUp() {
+        game = Game.builder().id(1L).version(4L).build();
+        game.makeMove(CellValue.X, 2, 2);
+        game.makeMove(CellValue.O, 1, 1);
+        game.makeMove(CellValue.X, 3, 1);
+        game.makeMove(CellValue.O, 1, 3);
+
+        response = GameResponse.fromDomain(game);
+        objectMapper = Jackson2ObjectMapperBuilder.json().build();
+        responseCache = new GameResponseCache(objectMapper, DataSize.ofMegabytes(1));
+        responseCache.get(game);
+    }
+
+    @Benchmark
+    public GameResponse fromDomain() {
+        return GameResponse.fromDomain(game);
+    }
+
+    @Benchmark
+    public byte[] serialize() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(response);
+    }
+
+    @Benchmark
+    public byte[] fromDomainAndSerialize() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(GameResponse.fromDomain(game));
+    }
+
+    @Benchmark
+    public byte[] cached() {
+        return responseCache.get(game).body();
+    }
+}
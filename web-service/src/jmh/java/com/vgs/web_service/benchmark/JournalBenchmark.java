@@ -0,0 +1,107 @@
+package com.vgs.web_service.benchmark;
+
+import com.vgs.web_service.domain.model.Game;
+import com.vgs.web_service.domain.model.GameStatus;
+import com.vgs.web_service.domain.model.Move;
+import com.vgs.web_service.infrastructure.memory.GameJournal;
+import com.vgs.web_service.infrastructure.memory.InMemoryGameRepository;
+import com.vgs.web_service.infrastructure.memory.InMemoryGameStore;
+import com.vgs.web_service.infrastructure.memory.InMemoryMoveRepository;
+import com.vgs.web_service.infrastructure.memory.InMemoryTransactionManager;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+/**
+ * Moves per second committed by eight threads, each playing its own games, through the in-memory
+ * transaction manager: without a journal, journaled to the page cache, and journaled with group
+ * committed fsyncs.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@Threads(8)
+public class JournalBenchmark {
+
+    @State(Scope.Benchmark)
+    public static class Node {
+        @Param({"off", "page-cache", "fsync"})
+        private String journal;
+
+        private Path directory;
+        private GameJournal gameJournal;
+        private InMemoryGameRepository games;
+        private InMemoryMoveRepository moves;
+        private TransactionTemplate transaction;
+
+        @Setup(Level.Trial)
+        public void open() throws IOException {
+            if (!journal.equals("off")) {
+                directory = Files.createTempDirectory("game-journal");
+                gameJournal = new GameJournal(directory, 64 << 20, journal.equals("fsync"));
+            }
+            InMemoryGameStore store = new InMemoryGameStore(64, gameJournal);
+            games = new InMemoryGameRepository(store);
+            moves = new InMemoryMoveRepository(store);
+            transaction = new TransactionTemplate(new InMemoryTransactionManager(store));
+        }
+
+        @TearDown(Level.Trial)
+        public void close() throws IOException {
+            if (gameJournal != null) {
+                gameJournal.close();
+                try (Stream<Path> files = Files.walk(directory)) {
+                    for (Path file : files.sorted(Comparator.reverseOrder()).toList()) {
+                        Files.delete(file);
+                    }
+                }
+            }
+        }
+    }
+
+    @State(Scope.Thread)
+    public static class Player {
+        private long gameId;
+        private int cell;
+    }
+
+    @Benchmark
+    public Game move(Node node, Player player) {
+        return node.transaction.execute(status -> {
+            Game game = player.gameId != 0 ? node.games.findById(player.gameId) : null;
+            if (game == null || game.getStatus() != GameStatus.IN_PROGRESS) {
+                game = node.games.save(Game.builder().build());
+                player.gameId = game.getId();
+                player.cell = 0;
+            }
+            int size = game.getBoard().size();
+            Move move = game.makeMove(game.getCurrentTurn(), player.cell / size + 1, player.cell % size + 1);
+            player.cell++;
+            node.games.save(game);
+            node.moves.appendAll(List.of(move));
+            return game;
+        });
+    }
+}
@@ -0,0 +1,98 @@
+package com.vgs.web_service.benchmark;
+
+import com.vgs.web_service.domain.model.Game;
+import com.vgs.web_service.domain.model.GameStatus;
+import com.vgs.web_service.domain.model.Move;
+import com.vgs.web_service.infrastructure.memory.GameJournal;
+import com.vgs.web_service.infrastructure.memory.GameJournalCheckpointer;
+import com.vgs.web_service.infrastructure.memory.InMemoryGameRepository;
+import com.vgs.web_service.infrastructure.memory.InMemoryGameStore;
+import com.vgs.web_service.infrastructure.memory.InMemoryMoveRepository;
+import com.vgs.web_service.infrastructure.memory.InMemoryTransactionManager;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+/**
+ * Startup time of a node replaying a journal of {@code games} finished games, with no checkpoint
+ * to start from.
+ */
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(1)
+@State(Scope.Benchmark)
+public class JournalReplayBenchmark {
+    private static final int SEGMENT_SIZE = 16 << 20;
+
+    @Param({"10000", "100000"})
+    private int games;
+
+    private Path directory;
+
+    @Setup(Level.Trial)
+    public void writeJournal() throws IOException {
+        directory = Files.createTempDirectory("game-journal");
+        try (GameJournal journal = new GameJournal(directory, SEGMENT_SIZE, false)) {
+            InMemoryGameStore store = new InMemoryGameStore(64, journal);
+            InMemoryGameRepository gameRepository = new InMemoryGameRepository(store);
+            InMemoryMoveRepository moveRepository = new InMemoryMoveRepository(store);
+            TransactionTemplate transaction = new TransactionTemplate(new InMemoryTransactionManager(store));
+            for (int i = 0; i < games; i++) {
+                long id = gameRepository.save(Game.builder().build()).getId();
+                for (int cell = 0; ; cell++) {
+                    int next = cell;
+                    Game game = transaction.execute(status -> {
+                        Game loaded = gameRepository.findById(id);
+                        int size = loaded.getBoard().size();
+                        Move move = loaded.makeMove(loaded.getCurrentTurn(), next / size + 1, next % size + 1);
+                        gameRepository.save(loaded);
+                        moveRepository.appendAll(List.of(move));
+                        return loaded;
+                    });
+                    if (game.getStatus() != GameStatus.IN_PROGRESS) {
+                        break;
+                    }
+                }
+            }
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void deleteJournal() throws IOException {
+        try (Stream<Path> files = Files.walk(directory)) {
+            for (Path file : files.sorted(Comparator.reverseOrder()).toList()) {
+                Files.delete(file);
+            }
+        }
+    }
+
+    @Benchmark
+    public long recover() {
+        try (GameJournal journal = new GameJournal(directory, SEGMENT_SIZE, false)) {
+            InMemoryGameStore store = new InMemoryGameStore(64, journal);
+            new GameJournalCheckpointer(store, journal).recover();
+            return store.count();
+        }
+    }
+}
@@ -0,0 +1,78 @@
+package com.vgs.web_service.benchmark;
+
+import com.vgs.web_service.domain.engine.MinimaxEngine;
+import com.vgs.web_service.domain.model.Board;
+import com.vgs.web_service.domain.model.CellValue;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Move selection by the computer opponent over a spread of positions, and the one-off cost of
+ * solving the game when the engine is created.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class MinimaxEngineBenchmark {
+
+    private static final int POSITIONS = 256;
+
+    private MinimaxEngine engine;
+    private Board[] positions;
+    private int next;
+
+    @Setup
+    public void setUp() {
+        engine = new MinimaxEngine();
+
+        Random random = new Random(42);
+        List<Board> boards = new ArrayList<>(POSITIONS);
+        while (boards.size() < POSITIONS) {
+            Board board = new Board();
+            int moves = random.nextInt(Board.CELL_COUNT - 1);
+            CellValue player = CellValue.X;
+            for (int i = 0; i < moves && board.winner() == null; i++) {
+                int cell;
+                do {
+                    cell = random.nextInt(Board.CELL_COUNT);
+                } while (board.isOccupied(cell / Board.SIZE + 1, cell % Board.SIZE + 1));
+                board.place(player, cell / Board.SIZE + 1, cell % Board.SIZE + 1);
+                player = player == CellValue.X ? CellValue.O : CellValue.X;
+            }
+            if (board.winner() == null) {
+                boards.add(board);
+            }
+        }
+        positions = boards.toArray(Board[]::new);
+    }
+
+    @Benchmark
+    public int bestMove() {
+        return engine.bestMove(positions[next++ & (POSITIONS - 1)]);
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.SingleShotTime)
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    @Warmup(iterations = 0)
+    @Measurement(iterations = 10)
+    public MinimaxEngine precompute() {
+        return new MinimaxEngine();
+    }
+}
@@ -0,0 +1,89 @@
+package com.vgs.web_service.benchmark;
+
+import com.vgs.web_service.domain.exception.InvalidMoveException;
+import com.vgs.web_service.domain.model.CellValue;
+import com.vgs.web_service.domain.model.Game;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.PrintWriter;
+import java.io.StringWriter;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * Throughput of a rejected move (occupied cell). {@code depth} adds the frames that sit below the
+ * domain call in a servlet request. {@code withStackTrace} is what the rejection cost when the
+ * exception captured its trace, and {@code withLoggedStackTrace} adds the trace the controller used
+ * to print for every rejected move.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class RejectedMoveBenchmark {
+
+    @Param({"10", "150"})
+    private int depth;
+
+    private Game game;
+
+    @Setup
+    public void startGame() {
+        game = Game.builder().build();
+        game.makeMove(CellValue.X, 1, 1);
+    }
+
+    @Benchmark
+    public String rejected() {
+        return atDepth(depth, () -> {
+            try {
+                game.makeMove(CellValue.O, 1, 1);
+                return null;
+            } catch (InvalidMoveException ex) {
+                return ex.getMessage();
+            }
+        });
+    }
+
+    @Benchmark
+    public Throwable withStackTrace() {
+        return atDepth(depth, () -> {
+            try {
+                game.makeMove(CellValue.O, 1, 1);
+                return null;
+            } catch (InvalidMoveException ex) {
+                return new IllegalStateException(ex.getMessage());
+            }
+        });
+    }
+
+    @Benchmark
+    public String withLoggedStackTrace() {
+        return atDepth(depth, () -> {
+            try {
+                game.makeMove(CellValue.O, 1, 1);
+                return null;
+            } catch (InvalidMoveException ex) {
+                StringWriter trace = new StringWriter();
+                new IllegalStateException(ex.getMessage()).printStackTrace(new PrintWriter(trace));
+                return trace.toString();
+            }
+        });
+    }
+
+    private static <T> T atDepth(int frames, Supplier<T> action) {
+        return frames == 0 ? action.get() : atDepth(frames - 1, action);
+    }
+}
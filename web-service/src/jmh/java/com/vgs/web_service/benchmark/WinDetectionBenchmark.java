@@ -0,0 +1,86 @@
+package com.vgs.web_service.benchmark;
+
+import com.vgs.web_service.domain.model.Board;
+import com.vgs.web_service.domain.model.CellValue;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Win detection after a move as the board grows: {@code completesLine} only walks the lines through
+ * the last cell, while {@code winner} scans the whole board. Boards are filled to a third with
+ * random marks and without a completed line, the common case while a game is still running.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class WinDetectionBenchmark {
+
+    private static final int BOARDS = 256;
+
+    @Param({"3", "15", "32"})
+    private int size;
+
+    private Board[] boards;
+    private CellValue[] lastPlayers;
+    private int[][] lastMoves;
+    private int next;
+
+    @Setup(Level.Trial)
+    public void generateBoards() {
+        Random random = new Random(42);
+        int winLength = Math.min(size, 5);
+        boards = new Board[BOARDS];
+        lastPlayers = new CellValue[BOARDS];
+        lastMoves = new int[BOARDS][];
+
+        for (int i = 0; i < BOARDS; i++) {
+            Board board = new Board(size, winLength);
+            CellValue player = CellValue.X;
+            for (int placed = 0; placed < Math.max(size * size / 3, 2); ) {
+                int row = random.nextInt(size) + 1;
+                int col = random.nextInt(size) + 1;
+                if (board.isOccupied(row, col)) {
+                    continue;
+                }
+                board.place(player, row, col);
+                if (board.completesLine(player, row, col)) {
+                    board = new Board(size, winLength);
+                    placed = 0;
+                    continue;
+                }
+                lastPlayers[i] = player;
+                lastMoves[i] = new int[]{row, col};
+                player = player == CellValue.X ? CellValue.O : CellValue.X;
+                placed++;
+            }
+            boards[i] = board;
+        }
+    }
+
+    @Benchmark
+    public boolean completesLine() {
+        int i = next++ & (BOARDS - 1);
+        return boards[i].completesLine(lastPlayers[i], lastMoves[i][0], lastMoves[i][1]);
+    }
+
+    @Benchmark
+    public CellValue winner() {
+        return boards[next++ & (BOARDS - 1)].winner();
+    }
+}
@@ -0,0 +1,86 @@
+package com.vgs.web_service.benchmark;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.vgs.web_service.domain.model.CellValue;
+import com.vgs.web_service.domain.model.Game;
+import com.vgs.web_service.presentation.dto.CompactGameResponse;
+import com.vgs.web_service.presentation.dto.GameResponse;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Serializing a game in each representation {@code GET /api/games/status} can return, on a 3x3
+ * and a 15x15 board with a third of the cells played. The setup prints the size of each body,
+ * and of the JSON body after gzip, which is what a compressed response puts on the wire.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class WireFormatBenchmark {
+
+    @Param({"3", "15"})
+    private int size;
+
+    private Game game;
+    private ObjectMapper jsonMapper;
+    private ObjectMapper cborMapper;
+
+    @Setup
+    public void setUp() throws IOException {
+        game = Game.builder().id(1L).version(1L).boardSize(size).winLength(size).build();
+        CellValue player = CellValue.X;
+        for (int index = 0, played = 0; played < size * size / 3; index += 2, played++) {
+            game.makeMove(player, index / size + 1, index % size + 1);
+            player = player == CellValue.X ? CellValue.O : CellValue.X;
+        }
+
+        jsonMapper = Jackson2ObjectMapperBuilder.json().build();
+        cborMapper = Jackson2ObjectMapperBuilder.cbor().build();
+
+        byte[] json = json();
+        System.out.printf("%n%dx%d board: json=%d B, json+gzip=%d B, compact json=%d B, compact cbor=%d B%n",
+                size, size, json.length, gzip(json).length, compactJson().length, compactCbor().length);
+    }
+
+    @Benchmark
+    public byte[] json() throws JsonProcessingException {
+        return jsonMapper.writeValueAsBytes(GameResponse.fromDomain(game));
+    }
+
+    @Benchmark
+    public byte[] compactJson() throws JsonProcessingException {
+        return jsonMapper.writeValueAsBytes(CompactGameResponse.fromDomain(game));
+    }
+
+    @Benchmark
+    public byte[] compactCbor() throws JsonProcessingException {
+        return cborMapper.writeValueAsBytes(CompactGameResponse.fromDomain(game));
+    }
+
+    private static byte[] gzip(byte[] body) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try (GZIPOutputStream gzip = new GZIPOutputStream(out)) {
+            gzip.write(body);
+        }
+        return out.toByteArray();
+    }
+}
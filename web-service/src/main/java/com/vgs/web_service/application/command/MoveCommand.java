@@ -0,0 +1,6 @@
+package com.vgs.web_service.application.command;
+
+import com.vgs.web_service.domain.model.CellValue;
+
+public record MoveCommand(Long gameId, CellValue player, int x, int y) {
+}
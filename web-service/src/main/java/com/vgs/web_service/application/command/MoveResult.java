@@ -0,0 +1,28 @@
+package com.vgs.web_service.application.command;
+
+import com.vgs.web_service.domain.model.CellValue;
+import com.vgs.web_service.domain.model.Game;
+import com.vgs.web_service.domain.model.GameStatus;
+
+/**
+ * Outcome of one move of a batch. Status and current turn are the game's state right after the
+ * move when it was applied, and null otherwise.
+ */
+public record MoveResult(MoveCommand move, Outcome outcome, GameStatus status, CellValue currentTurn, String error) {
+
+    public enum Outcome {
+        APPLIED,
+        REJECTED,
+        NOT_FOUND,
+        CONFLICT,
+        FAILED
+    }
+
+    public static MoveResult applied(MoveCommand move, Game game) {
+        return new MoveResult(move, Outcome.APPLIED, game.getStatus(), game.getCurrentTurn(), null);
+    }
+
+    public static MoveResult failed(MoveCommand move, Outcome outcome, String error) {
+        return new MoveResult(move, outcome, null, null, error);
+    }
+}
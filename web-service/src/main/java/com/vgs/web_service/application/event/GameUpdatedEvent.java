@@ -0,0 +1,22 @@
+package com.vgs.web_service.application.event;
+
+import com.vgs.web_service.domain.model.CellValue;
+import com.vgs.web_service.domain.model.Game;
+
+/**
+ * Published by {@code GameService} when a move has been applied or the game was abandoned.
+ * Listeners bound to the transaction only see it once the change is committed.
+ *
+ * @param game the game after the move; read it from the listener thread only
+ * @param value the player of the move, null when no move was made
+ */
+public record GameUpdatedEvent(Game game, int row, int column, CellValue value) {
+
+    public static GameUpdatedEvent abandoned(Game game) {
+        return new GameUpdatedEvent(game, 0, 0, null);
+    }
+
+    public boolean hasMove() {
+        return value != null;
+    }
+}
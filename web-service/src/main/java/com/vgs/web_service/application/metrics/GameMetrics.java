@@ -0,0 +1,58 @@
+package com.vgs.web_service.application.metrics;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.stereotype.Component;
+
+/**
+ * Meters for the move hot path, registered once so recording is just a timer update.
+ */
+@Component
+public class GameMetrics {
+    private final Timer load;
+    private final Timer validate;
+    private final Timer save;
+    private final Counter conflicts;
+
+    public GameMetrics(MeterRegistry registry) {
+        this.load = phaseTimer(registry, "load");
+        this.validate = phaseTimer(registry, "validate");
+        this.save = phaseTimer(registry, "save");
+        this.conflicts = Counter.builder("game.move.conflicts")
+                .description("Move attempts retried or abandoned after a concurrent update")
+                .register(registry);
+    }
+
+    /**
+     * Reading the game the move applies to.
+     */
+    public Timer load() {
+        return load;
+    }
+
+    /**
+     * Validating and applying the move to the in-memory game.
+     */
+    public Timer validate() {
+        return validate;
+    }
+
+    /**
+     * Writing the updated game to the repository.
+     */
+    public Timer save() {
+        return save;
+    }
+
+    public Counter conflicts() {
+        return conflicts;
+    }
+
+    private static Timer phaseTimer(MeterRegistry registry, String phase) {
+        return Timer.builder("game.move.phase")
+                .description("Time spent in each phase of applying a move")
+                .tag("phase", phase)
+                .register(registry);
+    }
+}
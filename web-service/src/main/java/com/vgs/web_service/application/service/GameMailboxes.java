@@ -0,0 +1,157 @@
+package com.vgs.web_service.application.service;
+
+import org.springframework.core.task.TaskDecorator;
+
+import java.util.ArrayDeque;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.function.Supplier;
+
+/**
+ * Runs the work on each game one task at a time, in the order it was submitted, while work on
+ * different games runs in parallel. A game has a mailbox only while it has work queued: the
+ * thread that finds it empty runs its own task directly, and whatever queued up behind it is
+ * drained on {@code executor}, so an uncontended move never changes thread.
+ * <p>
+ * Each task is decorated on the thread that submits it, so whatever the decorator captures there,
+ * such as per-request state, is in place wherever the task runs.
+ * <p>
+ * A task must not submit work for its own game, which would wait behind itself.
+ */
+public class GameMailboxes {
+    private final Map<Long, ArrayDeque<Task<?>>> mailboxes = new ConcurrentHashMap<>();
+    private final Executor executor;
+    private final TaskDecorator taskDecorator;
+
+    public GameMailboxes(Executor executor) {
+        this(executor, task -> task);
+    }
+
+    public GameMailboxes(Executor executor, TaskDecorator taskDecorator) {
+        this.executor = executor;
+        this.taskDecorator = taskDecorator;
+    }
+
+    /**
+     * Runs {@code task} once the tasks submitted before it for the same game are done, and returns
+     * its result or rethrows its exception.
+     */
+    public <T> T execute(Long gameId, Supplier<T> task) {
+        Task<T> submitted = new Task<>(task, taskDecorator);
+        boolean[] owner = {false};
+        mailboxes.compute(gameId, (id, mailbox) -> {
+            if (mailbox == null) {
+                mailbox = new ArrayDeque<>();
+                owner[0] = true;
+            }
+            mailbox.add(submitted);
+            return mailbox;
+        });
+        if (owner[0]) {
+            drain(gameId, submitted);
+        }
+        return submitted.join();
+    }
+
+    /**
+     * Number of games with work queued or running.
+     */
+    public int active() {
+        return mailboxes.size();
+    }
+
+    // Tasks waiting behind the one running
+    int queued(Long gameId) {
+        int[] queued = {0};
+        mailboxes.computeIfPresent(gameId, (id, mailbox) -> {
+            queued[0] = mailbox.size();
+            return mailbox;
+        });
+        return queued[0];
+    }
+
+    // Runs the game's tasks until its mailbox is empty, handing the rest over once `until` is done
+    private void drain(Long gameId, Task<?> until) {
+        Task<?> next;
+        while ((next = poll(gameId)) != null) {
+            next.run();
+            if (next == until) {
+                if (!closeIfEmpty(gameId)) {
+                    handOver(gameId);
+                }
+                return;
+            }
+        }
+    }
+
+    private void handOver(Long gameId) {
+        try {
+            executor.execute(() -> drain(gameId, null));
+        } catch (RejectedExecutionException ex) {
+            // Shutting down: the waiting tasks still get their answer
+            drain(gameId, null);
+        }
+    }
+
+    // Takes the next task, or removes the mailbox when there is none
+    private Task<?> poll(Long gameId) {
+        Object[] next = {null};
+        mailboxes.computeIfPresent(gameId, (id, mailbox) -> {
+            next[0] = mailbox.poll();
+            return next[0] != null ? mailbox : null;
+        });
+        return (Task<?>) next[0];
+    }
+
+    private boolean closeIfEmpty(Long gameId) {
+        boolean[] closed = {false};
+        mailboxes.computeIfPresent(gameId, (id, mailbox) -> {
+            closed[0] = mailbox.isEmpty();
+            return closed[0] ? null : mailbox;
+        });
+        return closed[0];
+    }
+
+    private static final class Task<T> implements Runnable {
+        private final CompletableFuture<T> result = new CompletableFuture<>();
+        private final Runnable body;
+
+        Task(Supplier<T> work, TaskDecorator decorator) {
+            this.body = decorator.decorate(() -> {
+                try {
+                    result.complete(work.get());
+                } catch (Throwable ex) {
+                    result.completeExceptionally(ex);
+                }
+            });
+        }
+
+        @Override
+        public void run() {
+            try {
+                body.run();
+            } catch (Throwable ex) {
+                // Thrown by the decorator around the work
+                result.completeExceptionally(ex);
+            }
+        }
+
+        T join() {
+            try {
+                return result.join();
+            } catch (CompletionException ex) {
+                if (ex.getCause() instanceof RuntimeException runtime) {
+                    throw runtime;
+                }
+                if (ex.getCause() instanceof Error error) {
+                    throw error;
+                }
+                throw ex;
+            }
+        }
+    }
+}
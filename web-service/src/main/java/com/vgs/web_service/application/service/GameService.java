@@ -1,32 +1,124 @@
 package com.vgs.web_service.application.service;
 
+import com.vgs.web_service.application.command.MoveCommand;
+import com.vgs.web_service.application.command.MoveResult;
+import com.vgs.web_service.application.event.GameUpdatedEvent;
+import com.vgs.web_service.application.metrics.GameMetrics;
+import com.vgs.web_service.domain.engine.MinimaxEngine;
+import com.vgs.web_service.domain.exception.ConcurrentMoveException;
 import com.vgs.web_service.domain.exception.GameNotFoundException;
+import com.vgs.web_service.domain.exception.InvalidGameConfigurationException;
+import com.vgs.web_service.domain.exception.InvalidMoveException;
+import com.vgs.web_service.domain.model.Board;
 import com.vgs.web_service.domain.model.CellValue;
 import com.vgs.web_service.domain.model.Game;
+import com.vgs.web_service.domain.model.GameMode;
+import com.vgs.web_service.domain.model.GameStatus;
+import com.vgs.web_service.domain.model.GameSummary;
+import com.vgs.web_service.domain.model.Move;
+import com.vgs.web_service.domain.repository.GameQuery;
 import com.vgs.web_service.domain.repository.GameRepository;
+import com.vgs.web_service.domain.repository.MoveRepository;
 import lombok.RequiredArgsConstructor;
-import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionOperations;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
 
 @Service
 @RequiredArgsConstructor
 public class GameService {
 
+    // A conflicting move is re-validated against the fresh state, so a few attempts are enough
+    static final int MAX_MOVE_ATTEMPTS = 3;
+
+    // Games created per transaction by createGames; inserts within a chunk go out in JDBC batches
+    static final int CREATE_CHUNK_SIZE = 500;
+
     private final GameRepository gameRepository;
+    private final MoveRepository moveRepository;
+    private final TransactionOperations transactionOperations;
+    private final ApplicationEventPublisher eventPublisher;
+    private final GameMetrics gameMetrics;
+    private final MinimaxEngine minimaxEngine;
+    private final TurnTimer turnTimer;
+    private final GameMailboxes gameMailboxes;
     private static final Logger log = LoggerFactory.getLogger(GameService.class);
 
     @Transactional
     public Game createGame() {
+        return createGame(GameMode.TWO_PLAYER);
+    }
+
+    @Transactional
+    public Game createGame(GameMode mode) {
+        return createGame(mode, Board.SIZE, Board.SIZE);
+    }
 
-        Game game = Game.builder().build();
+    @Transactional
+    public Game createGame(GameMode mode, int boardSize, int winLength) {
 
-        log.info("Creating new game...");
+        Board.validate(boardSize, winLength);
+        if (mode == GameMode.VS_COMPUTER && (boardSize != Board.SIZE || winLength != Board.SIZE)) {
+            throw new InvalidGameConfigurationException(
+                    "Games against the computer are played on the " + Board.SIZE + "x" + Board.SIZE + " board");
+        }
+
+        Game game = Game.builder()
+                .mode(mode)
+                .boardSize(boardSize)
+                .winLength(winLength)
+                .turnDeadline(turnTimer.nextDeadline())
+                .build();
+
+        log.info("Creating new {} game: size={}, winLength={}", mode, boardSize, winLength);
 
         return gameRepository.save(game);
     }
 
+    /**
+     * Creates {@code count} games and returns their ids lazily: each chunk of games is inserted and
+     * committed in its own transaction only when the stream reaches it, so neither the games nor
+     * the ids of a large request are held in memory at once.
+     */
+    public Stream<Long> createGames(int count) {
+
+        int chunks = (count + CREATE_CHUNK_SIZE - 1) / CREATE_CHUNK_SIZE;
+
+        return IntStream.range(0, chunks)
+                .mapToObj(chunk -> createChunk(Math.min(CREATE_CHUNK_SIZE, count - chunk * CREATE_CHUNK_SIZE)))
+                .flatMap(List::stream);
+    }
+
+    private List<Long> createChunk(int size) {
+
+        return transactionOperations.execute(status -> {
+            List<Game> games = new ArrayList<>(size);
+            LocalDateTime deadline = turnTimer.nextDeadline();
+            for (int i = 0; i < size; i++) {
+                games.add(Game.builder().turnDeadline(deadline).build());
+            }
+
+            log.info("Creating {} games...", size);
+
+            return gameRepository.saveAll(games).stream().map(Game::getId).toList();
+        });
+    }
+
     public Game getGame(Long id) {
 
         Game game = gameRepository.findById(id);
@@ -38,16 +130,238 @@ public class GameService {
         return game;
     }
 
-    @Transactional
-    public Game makeMove(Long gameId, CellValue playerId, Integer x, Integer y) {
+    /**
+     * Returns the game for display only; it must not be changed or saved.
+     */
+    public Game getReadOnlyGame(Long id) {
+
+        Game game = gameRepository.findReadOnlyById(id);
+
+        if (game == null) {
+            throw new GameNotFoundException(id);
+        }
+
+        return game;
+    }
+
+    public List<GameSummary> listGames(GameQuery query, int limit) {
+
+        return gameRepository.findSummaries(query, limit);
+    }
+
+    /**
+     * Passes every game matching the query to {@code sink} as it is read. The read-only transaction
+     * keeps the database cursor open, so only one fetch of rows is in memory at a time.
+     */
+    @Transactional(readOnly = true)
+    public void exportGames(GameQuery query, Consumer<GameSummary> sink) {
+
+        try (Stream<GameSummary> games = gameRepository.streamSummaries(query)) {
+            games.forEach(sink);
+        }
+    }
+
+    /**
+     * Returns a page of the game's move history: up to {@code limit} moves with a sequence after
+     * {@code afterSequence}, in the order they were played.
+     */
+    public List<Move> getMoves(Long gameId, int afterSequence, int limit) {
+
+        // Only checks that the game exists, without loading it for a move
+        getReadOnlyGame(gameId);
+
+        return moveRepository.findByGameId(gameId, afterSequence, limit);
+    }
+
+    /**
+     * Ends up to {@code limit} games whose turn deadline has passed as {@link GameStatus#ABANDONED}
+     * and returns how many were ended. A game that got a move in the meantime is left alone.
+     */
+    public int abandonExpiredGames(int limit) {
+
+        LocalDateTime now = turnTimer.now();
+        int abandoned = 0;
+        for (Long gameId : gameRepository.findExpiredIds(now, limit)) {
+            try {
+                if (withRetry(gameId, () -> transactionOperations.execute(status -> abandonIfExpired(gameId, now)))) {
+                    abandoned++;
+                }
+            } catch (GameNotFoundException | ConcurrentMoveException ex) {
+                log.debug("Expired game not abandoned: gameId={}, reason={}", gameId, ex.getMessage());
+            }
+        }
+        return abandoned;
+    }
+
+    private boolean abandonIfExpired(Long gameId, LocalDateTime now) {
 
         Game game = getGame(gameId);
+        if (!game.abandon(now)) {
+            return false;
+        }
+
+        log.info("Game abandoned: gameId={}, player={}", gameId, game.getCurrentTurn());
+
+        Game saved = gameRepository.save(game);
+        eventPublisher.publishEvent(GameUpdatedEvent.abandoned(saved));
+        return true;
+    }
+
+    public Game makeMove(Long gameId, CellValue playerId, Integer x, Integer y) {
+
+        return withRetry(gameId, () -> transactionOperations.execute(status -> applyMove(gameId, playerId, x, y)));
+    }
+
+    /**
+     * Applies moves grouped per game: each game is loaded once and its moves are applied in order
+     * and saved in a single transaction. An invalid move is rejected without affecting the others.
+     * Results are returned in the order of the given moves.
+     */
+    public List<MoveResult> makeMoves(List<MoveCommand> moves) {
+
+        Map<Long, List<MoveCommand>> movesByGame = new LinkedHashMap<>();
+        for (MoveCommand move : moves) {
+            movesByGame.computeIfAbsent(move.gameId(), id -> new ArrayList<>()).add(move);
+        }
+
+        Map<MoveCommand, MoveResult> results = new IdentityHashMap<>(moves.size());
+        movesByGame.forEach((gameId, gameMoves) -> {
+            for (MoveResult result : makeGameMoves(gameId, gameMoves)) {
+                results.put(result.move(), result);
+            }
+        });
+
+        return moves.stream().map(results::get).toList();
+    }
+
+    private List<MoveResult> makeGameMoves(Long gameId, List<MoveCommand> moves) {
+        try {
+            return withRetry(gameId, () -> transactionOperations.execute(status -> applyMoves(gameId, moves)));
+        } catch (GameNotFoundException ex) {
+            return failAll(moves, MoveResult.Outcome.NOT_FOUND, ex.getMessage());
+        } catch (ConcurrentMoveException ex) {
+            return failAll(moves, MoveResult.Outcome.CONFLICT, ex.getMessage());
+        } catch (RuntimeException ex) {
+            // The game's transaction rolled back; the other games of the batch keep their outcomes
+            log.error("Batch moves failed: gameId={}", gameId, ex);
+            return failAll(moves, MoveResult.Outcome.FAILED, "Moves could not be applied for game " + gameId);
+        }
+    }
+
+    // Work on one game runs one task at a time on this node, so it does not conflict with itself;
+    // the retry covers other nodes
+    private <T> T withRetry(Long gameId, Supplier<T> transaction) {
+
+        return gameMailboxes.execute(gameId, () -> retry(gameId, transaction));
+    }
+
+    private <T> T retry(Long gameId, Supplier<T> transaction) {
+
+        for (int attempt = 1; ; attempt++) {
+            try {
+                return transaction.get();
+            } catch (OptimisticLockingFailureException ex) {
+                gameMetrics.conflicts().increment();
+                if (attempt >= MAX_MOVE_ATTEMPTS) {
+                    log.warn("Move abandoned after {} conflicting attempts: gameId={}", attempt, gameId);
+                    throw new ConcurrentMoveException(gameId);
+                }
+                log.debug("Concurrent update, retrying move: gameId={}, attempt={}", gameId, attempt);
+            }
+        }
+    }
+
+    private Game applyMove(Long gameId, CellValue playerId, Integer x, Integer y) {
+
+        Game game = gameMetrics.load().record(() -> getGame(gameId));
         
-        game.makeMove(playerId, x, y);
+        checkTurnNotExpired(game);
+        List<Move> played = new ArrayList<>(2);
+        played.add(gameMetrics.validate().record(() -> game.makeMove(playerId, x, y)));
 
         log.info("Move successful: gameId={}, player={}, position=({},{})", gameId, playerId, x, y);
 
-        return gameRepository.save(game);
-                        
+        boolean computerReplies = isComputerTurn(game);
+        Game afterMove = computerReplies ? game.copy() : null;
+        GameUpdatedEvent reply = computerReplies ? playComputerReply(game, played) : null;
+
+        Game saved = gameMetrics.save().record(() -> save(game, played));
+        eventPublisher.publishEvent(new GameUpdatedEvent(computerReplies ? afterMove : saved, x, y, playerId));
+        if (reply != null) {
+            eventPublisher.publishEvent(reply);
+        }
+        return saved;
+    }
+
+    private List<MoveResult> applyMoves(Long gameId, List<MoveCommand> moves) {
+
+        Game game = gameMetrics.load().record(() -> getGame(gameId));
+
+        List<MoveResult> results = new ArrayList<>(moves.size());
+        List<GameUpdatedEvent> events = new ArrayList<>(moves.size());
+        List<Move> played = new ArrayList<>(moves.size());
+        for (MoveCommand move : moves) {
+            try {
+                checkTurnNotExpired(game);
+                played.add(gameMetrics.validate().record(() -> game.makeMove(move.player(), move.x(), move.y())));
+                // Each event carries the state right after its own move
+                events.add(new GameUpdatedEvent(game.copy(), move.x(), move.y(), move.player()));
+                if (isComputerTurn(game)) {
+                    events.add(playComputerReply(game, played));
+                }
+                results.add(MoveResult.applied(move, game));
+            } catch (InvalidMoveException ex) {
+                results.add(MoveResult.failed(move, MoveResult.Outcome.REJECTED, ex.getMessage()));
+            }
+        }
+
+        long applied = results.stream().filter(result -> result.outcome() == MoveResult.Outcome.APPLIED).count();
+        log.info("Batch applied: gameId={}, applied={}, rejected={}", gameId, applied, moves.size() - applied);
+
+        if (!events.isEmpty()) {
+            gameMetrics.save().record(() -> save(game, played));
+            events.forEach(eventPublisher::publishEvent);
+        }
+        return results;
+    }
+
+    // A late move is rejected even before the reaper has ended the game
+    // With deadlines turned off, deadlines stored while they were on are no longer enforced
+    private void checkTurnNotExpired(Game game) {
+        if (turnTimer.isEnabled() && game.isTurnExpired(turnTimer.now())) {
+            throw new InvalidMoveException("Player " + game.getCurrentTurn() + " ran out of time");
+        }
+    }
+
+    private static boolean isComputerTurn(Game game) {
+        return game.isAgainstComputer()
+                && game.getStatus() == GameStatus.IN_PROGRESS
+                && game.getCurrentTurn() == CellValue.O;
+    }
+
+    // In single-player games the computer answers as O in the same transaction as the player's move.
+    // Those games are always on the classic board the engine is solved for.
+    private GameUpdatedEvent playComputerReply(Game game, List<Move> played) {
+        int cell = minimaxEngine.bestMove(game.getBoard());
+        int row = cell / Board.SIZE + 1;
+        int column = cell % Board.SIZE + 1;
+        played.add(game.makeMove(CellValue.O, row, column));
+
+        log.info("Computer move: gameId={}, position=({},{})", game.getId(), row, column);
+
+        return new GameUpdatedEvent(game.copy(), row, column, CellValue.O);
+    }
+
+    // Moves are appended to the history in the same transaction that saves the game; appending
+    // flushes, so the game is saved first to go out in the same flush
+    private Game save(Game game, List<Move> played) {
+        game.startTurn(turnTimer.nextDeadline());
+        Game saved = gameRepository.save(game);
+        moveRepository.appendAll(played);
+        return saved;
+    }
+
+    private static List<MoveResult> failAll(List<MoveCommand> moves, MoveResult.Outcome outcome, String error) {
+        return moves.stream().map(move -> MoveResult.failed(move, outcome, error)).toList();
     }
-}
\ No newline at end of file
+}
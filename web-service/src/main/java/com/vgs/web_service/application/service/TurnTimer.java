@@ -0,0 +1,33 @@
+package com.vgs.web_service.application.service;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.LocalDateTime;
+
+/**
+ * How long a player has to make a move. A zero timeout means turns never expire.
+ */
+public class TurnTimer {
+    private final Duration timeout;
+    private final Clock clock;
+
+    public TurnTimer(Duration timeout, Clock clock) {
+        this.timeout = timeout;
+        this.clock = clock;
+    }
+
+    public boolean isEnabled() {
+        return timeout.isPositive();
+    }
+
+    public LocalDateTime now() {
+        return LocalDateTime.now(clock);
+    }
+
+    /**
+     * Returns the deadline of a turn starting now, or null when turns don't expire.
+     */
+    public LocalDateTime nextDeadline() {
+        return isEnabled() ? now().plus(timeout) : null;
+    }
+}
@@ -0,0 +1,174 @@
+package com.vgs.web_service.domain.engine;
+
+import com.vgs.web_service.domain.model.Board;
+import com.vgs.web_service.domain.model.CellValue;
+
+import java.util.Arrays;
+
+/**
+ * Perfect tic-tac-toe player. Every position reachable from the empty board is solved once, when
+ * the engine is created, with memoized negamax over positions reduced by the board's 8 symmetries.
+ * The best move of each position is kept in a table indexed by the base-3 encoding of the board,
+ * so choosing a move is a single array lookup.
+ */
+public class MinimaxEngine {
+    public static final int NO_MOVE = -1;
+
+    // 3^9 boards: digit i of the index is cell i, 0 = empty, 1 = X, 2 = O
+    private static final int POSITIONS = 19_683;
+    private static final int FULL_MASK = (1 << Board.CELL_COUNT) - 1;
+    private static final byte UNSOLVED = Byte.MIN_VALUE;
+
+    private static final int[] POW3 = {1, 3, 9, 27, 81, 243, 729, 2187, 6561};
+
+    // Cell i is moved to SYMMETRIES[s][i] by symmetry s
+    private static final int[][] SYMMETRIES = {
+            {0, 1, 2, 3, 4, 5, 6, 7, 8}, // identity
+            {6, 3, 0, 7, 4, 1, 8, 5, 2}, // rotations
+            {8, 7, 6, 5, 4, 3, 2, 1, 0},
+            {2, 5, 8, 1, 4, 7, 0, 3, 6},
+            {2, 1, 0, 5, 4, 3, 8, 7, 6}, // reflections
+            {6, 7, 8, 3, 4, 5, 0, 1, 2},
+            {0, 3, 6, 1, 4, 7, 2, 5, 8},
+            {8, 5, 2, 7, 4, 1, 6, 3, 0}
+    };
+
+    private final byte[] bestMoves = new byte[POSITIONS];
+    // Negamax score per canonical position, only needed while solving
+    private final byte[] scores = new byte[POSITIONS];
+    private int solvedPositions;
+    private int canonicalPositions;
+    private final long precomputeNanos;
+
+    public MinimaxEngine() {
+        long start = System.nanoTime();
+        Arrays.fill(bestMoves, (byte) NO_MOVE);
+        Arrays.fill(scores, UNSOLVED);
+        fillBestMoves(0, 0, new boolean[POSITIONS]);
+        this.precomputeNanos = System.nanoTime() - start;
+    }
+
+    /**
+     * Returns the best cell index (row-major, 0-8) for the player to move, or {@link #NO_MOVE}
+     * when the game is over.
+     */
+    public int bestMove(Board board) {
+        return bestMoves[indexOf(board.getXMask(), board.getOMask())];
+    }
+
+    /**
+     * Non-terminal positions reachable from the empty board.
+     */
+    public int solvedPositions() {
+        return solvedPositions;
+    }
+
+    /**
+     * Distinct positions left to search once symmetric positions are merged.
+     */
+    public int canonicalPositions() {
+        return canonicalPositions;
+    }
+
+    public long precomputeNanos() {
+        return precomputeNanos;
+    }
+
+    private void fillBestMoves(int xMask, int oMask, boolean[] visited) {
+        int index = indexOf(xMask, oMask);
+        if (visited[index]) {
+            return;
+        }
+        visited[index] = true;
+
+        boolean xToMove = Integer.bitCount(xMask) == Integer.bitCount(oMask);
+        int empty = ~(xMask | oMask) & FULL_MASK;
+        int bestScore = Integer.MIN_VALUE;
+        int bestCell = NO_MOVE;
+        for (int cell = 0; cell < Board.CELL_COUNT; cell++) {
+            int bit = 1 << cell;
+            if ((empty & bit) == 0) continue;
+            int nextX = xToMove ? xMask | bit : xMask;
+            int nextO = xToMove ? oMask : oMask | bit;
+            int score = scoreMove(nextX, nextO, xToMove, cell, empty);
+            if (score > bestScore) {
+                bestScore = score;
+                bestCell = cell;
+            }
+            if (!isOver(nextX, nextO, xToMove, cell)) {
+                fillBestMoves(nextX, nextO, visited);
+            }
+        }
+        bestMoves[index] = (byte) bestCell;
+        solvedPositions++;
+    }
+
+    // Score for the player to move: wins are positive and larger the sooner they come, losses negative
+    private int solve(int xMask, int oMask) {
+        int key = canonicalIndex(indexOf(xMask, oMask));
+        if (scores[key] != UNSOLVED) {
+            return scores[key];
+        }
+
+        boolean xToMove = Integer.bitCount(xMask) == Integer.bitCount(oMask);
+        int empty = ~(xMask | oMask) & FULL_MASK;
+        int best = Integer.MIN_VALUE;
+        for (int cell = 0; cell < Board.CELL_COUNT; cell++) {
+            int bit = 1 << cell;
+            if ((empty & bit) == 0) continue;
+            int nextX = xToMove ? xMask | bit : xMask;
+            int nextO = xToMove ? oMask : oMask | bit;
+            best = Math.max(best, scoreMove(nextX, nextO, xToMove, cell, empty));
+        }
+
+        scores[key] = (byte) best;
+        canonicalPositions++;
+        return best;
+    }
+
+    private int scoreMove(int nextX, int nextO, boolean xMoved, int cell, int emptyBefore) {
+        if (wins(nextX, nextO, xMoved, cell)) {
+            return Integer.bitCount(emptyBefore);
+        }
+        if ((nextX | nextO) == FULL_MASK) {
+            return 0;
+        }
+        return -solve(nextX, nextO);
+    }
+
+    private static boolean isOver(int xMask, int oMask, boolean xMoved, int cell) {
+        return wins(xMask, oMask, xMoved, cell) || (xMask | oMask) == FULL_MASK;
+    }
+
+    private static boolean wins(int xMask, int oMask, boolean xMoved, int cell) {
+        return Board.fromMasks(xMask, oMask).completesLine(xMoved ? CellValue.X : CellValue.O,
+                cell / Board.SIZE + 1, cell % Board.SIZE + 1);
+    }
+
+    private static int indexOf(int xMask, int oMask) {
+        int index = 0;
+        for (int cell = 0; cell < Board.CELL_COUNT; cell++) {
+            int bit = 1 << cell;
+            if ((xMask & bit) != 0) {
+                index += POW3[cell];
+            } else if ((oMask & bit) != 0) {
+                index += 2 * POW3[cell];
+            }
+        }
+        return index;
+    }
+
+    private static int canonicalIndex(int index) {
+        int canonical = index;
+        for (int s = 1; s < SYMMETRIES.length; s++) {
+            int transformed = 0;
+            int rest = index;
+            for (int cell = 0; cell < Board.CELL_COUNT; cell++) {
+                transformed += (rest % 3) * POW3[SYMMETRIES[s][cell]];
+                rest /= 3;
+            }
+            canonical = Math.min(canonical, transformed);
+        }
+        return canonical;
+    }
+}
@@ -0,0 +1,7 @@
+package com.vgs.web_service.domain.exception;
+
+public class ConcurrentMoveException extends DomainException {
+    public ConcurrentMoveException(Long gameId) {
+        super(String.format("Game with id %d was modified concurrently, please retry", gameId));
+    }
+}
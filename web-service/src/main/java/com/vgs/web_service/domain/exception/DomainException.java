@@ -1,11 +1,15 @@
 package com.vgs.web_service.domain.exception;
 
+/**
+ * Base class for rejections that are ordinary game outcomes (wrong turn, occupied cell, unknown game).
+ * They are answered with a status code and never need a stack trace, so none is captured.
+ */
 public abstract class DomainException extends RuntimeException {
     public DomainException(String message) {
-        super(message);
+        super(message, null, false, false);
     }
 
     public DomainException(String message, Throwable cause) {
-        super(message, cause);
+        super(message, cause, false, false);
     }
-}
\ No newline at end of file
+}
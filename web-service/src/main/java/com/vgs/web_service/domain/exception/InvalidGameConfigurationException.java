@@ -0,0 +1,7 @@
+package com.vgs.web_service.domain.exception;
+
+public class InvalidGameConfigurationException extends DomainException {
+    public InvalidGameConfigurationException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,269 @@
+package com.vgs.web_service.domain.model;
+
+import com.vgs.web_service.domain.exception.InvalidGameConfigurationException;
+
+import java.util.List;
+
+/**
+ * Bitboard representation of an N x N board won by K marks in a row. Bit {@code i} of each
+ * player's bitset is the cell at row {@code i / size + 1}, column {@code i % size + 1}.
+ */
+public final class Board {
+    // Dimensions of the classic board, used by games that don't choose their own
+    public static final int SIZE = 3;
+    public static final int CELL_COUNT = SIZE * SIZE;
+
+    public static final int MIN_SIZE = 3;
+    public static final int MAX_SIZE = 32;
+    public static final int MAX_CELL_COUNT = MAX_SIZE * MAX_SIZE;
+
+    public static final char EMPTY_CHAR = '-';
+
+    // Row and column steps of the four line directions: horizontal, vertical and both diagonals
+    private static final int[] ROW_STEPS = {0, 1, 1, 1};
+    private static final int[] COL_STEPS = {1, 0, 1, -1};
+
+    private final int size;
+    private final int winLength;
+    private final long[] xBits;
+    private final long[] oBits;
+    private int occupied;
+
+    public Board() {
+        this(SIZE, SIZE);
+    }
+
+    public Board(int size, int winLength) {
+        validate(size, winLength);
+        this.size = size;
+        this.winLength = winLength;
+        int words = (size * size + Long.SIZE - 1) / Long.SIZE;
+        this.xBits = new long[words];
+        this.oBits = new long[words];
+    }
+
+    /**
+     * Creates a classic board from 9-bit masks, which must not share a cell.
+     */
+    public static Board fromMasks(int xMask, int oMask) {
+        if ((xMask | oMask) >>> CELL_COUNT != 0 || (xMask & oMask) != 0) {
+            throw new IllegalArgumentException("Invalid board masks: x=" + Integer.toBinaryString(xMask)
+                    + ", o=" + Integer.toBinaryString(oMask));
+        }
+        Board board = new Board();
+        board.xBits[0] = xMask;
+        board.oBits[0] = oMask;
+        board.occupied = Integer.bitCount(xMask | oMask);
+        return board;
+    }
+
+    /**
+     * Creates a board from the words returned by {@link #toBits()}.
+     */
+    public static Board fromBits(long[] bits, int size, int winLength) {
+        Board board = new Board(size, winLength);
+        int words = board.xBits.length;
+        System.arraycopy(bits, 0, board.xBits, 0, words);
+        System.arraycopy(bits, words, board.oBits, 0, words);
+        for (long word : bits) {
+            board.occupied += Long.bitCount(word);
+        }
+        return board;
+    }
+
+    /**
+     * Returns X's bitset words followed by O's, as a copy.
+     */
+    public long[] toBits() {
+        long[] bits = new long[xBits.length * 2];
+        System.arraycopy(xBits, 0, bits, 0, xBits.length);
+        System.arraycopy(oBits, 0, bits, xBits.length, oBits.length);
+        return bits;
+    }
+
+    public static void validate(int size, int winLength) {
+        if (size < MIN_SIZE || size > MAX_SIZE) {
+            throw new InvalidGameConfigurationException(
+                    "Board size must be between " + MIN_SIZE + " and " + MAX_SIZE + ", got " + size);
+        }
+        if (winLength < MIN_SIZE || winLength > size) {
+            throw new InvalidGameConfigurationException(
+                    "Win length must be between " + MIN_SIZE + " and the board size " + size + ", got " + winLength);
+        }
+    }
+
+    public static Board fromCells(List<Cell> cells) {
+        return fromCells(cells, SIZE, SIZE);
+    }
+
+    public static Board fromCells(List<Cell> cells, int size, int winLength) {
+        Board board = new Board(size, winLength);
+        for (Cell cell : cells) {
+            if (cell.getValue() != CellValue.EMPTY) {
+                board.place(cell.getValue(), cell.getRow_number(), cell.getColumn_number());
+            }
+        }
+        return board;
+    }
+
+    public static Board decode(String encoded) {
+        return decode(encoded, SIZE, SIZE);
+    }
+
+    /**
+     * Decodes the row-major form produced by {@link #encode()}. A string of the wrong length or
+     * with any other character, such as a truncated {@code board_state}, is rejected.
+     */
+    public static Board decode(String encoded, int size, int winLength) {
+        Board board = new Board(size, winLength);
+        if (encoded.length() != board.cellCount()) {
+            throw new IllegalArgumentException("Encoded board has " + encoded.length() + " cells, expected "
+                    + board.cellCount() + " for a " + size + "x" + size + " board");
+        }
+        for (int index = 0; index < board.cellCount(); index++) {
+            char c = encoded.charAt(index);
+            if (c == 'X') {
+                board.set(board.xBits, index);
+            } else if (c == 'O') {
+                board.set(board.oBits, index);
+            } else if (c != EMPTY_CHAR) {
+                throw new IllegalArgumentException("Encoded board has '" + c + "' at cell " + index
+                        + ", expected 'X', 'O' or '" + EMPTY_CHAR + "'");
+            }
+        }
+        return board;
+    }
+
+    /**
+     * Encodes the board as one character per cell in row-major order: 'X', 'O' or '-'.
+     */
+    public String encode() {
+        char[] encoded = new char[cellCount()];
+        for (int index = 0; index < encoded.length; index++) {
+            encoded[index] = test(xBits, index) ? 'X' : test(oBits, index) ? 'O' : EMPTY_CHAR;
+        }
+        return new String(encoded);
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public int winLength() {
+        return winLength;
+    }
+
+    public int cellCount() {
+        return size * size;
+    }
+
+    public boolean isInBounds(int row, int col) {
+        return row >= 1 && row <= size && col >= 1 && col <= size;
+    }
+
+    public int indexOf(int row, int col) {
+        return (row - 1) * size + (col - 1);
+    }
+
+    /**
+     * Returns X's cells as a 9-bit mask. Only defined for the classic board.
+     */
+    public int getXMask() {
+        requireClassic();
+        return (int) xBits[0];
+    }
+
+    /**
+     * Returns O's cells as a 9-bit mask. Only defined for the classic board.
+     */
+    public int getOMask() {
+        requireClassic();
+        return (int) oBits[0];
+    }
+
+    public boolean isOccupied(int row, int col) {
+        int index = indexOf(row, col);
+        return test(xBits, index) || test(oBits, index);
+    }
+
+    public CellValue get(int row, int col) {
+        int index = indexOf(row, col);
+        if (test(xBits, index)) return CellValue.X;
+        if (test(oBits, index)) return CellValue.O;
+        return CellValue.EMPTY;
+    }
+
+    public void place(CellValue player, int row, int col) {
+        int index = indexOf(row, col);
+        if (player == CellValue.X) {
+            set(xBits, index);
+        } else if (player == CellValue.O) {
+            set(oBits, index);
+        }
+    }
+
+    /**
+     * Returns whether the player's last move at (row, col) completed a line of at least
+     * {@link #winLength()} marks. Only the four lines through that cell are walked, at most
+     * {@code winLength - 1} cells each way, so the cost doesn't grow with the board.
+     */
+    public boolean completesLine(CellValue player, int row, int col) {
+        long[] bits = player == CellValue.X ? xBits : oBits;
+        for (int direction = 0; direction < ROW_STEPS.length; direction++) {
+            int dr = ROW_STEPS[direction];
+            int dc = COL_STEPS[direction];
+            int count = 1 + run(bits, row - 1, col - 1, dr, dc) + run(bits, row - 1, col - 1, -dr, -dc);
+            if (count >= winLength) return true;
+        }
+        return false;
+    }
+
+    /**
+     * Scans the whole board for a completed line. Moves should use {@link #completesLine}.
+     */
+    public CellValue winner() {
+        for (int row = 1; row <= size; row++) {
+            for (int col = 1; col <= size; col++) {
+                CellValue value = get(row, col);
+                if (value != CellValue.EMPTY && completesLine(value, row, col)) return value;
+            }
+        }
+        return null;
+    }
+
+    public boolean isFull() {
+        return occupied == cellCount();
+    }
+
+    // Counts the player's consecutive marks from (row, col), exclusive, stepping by (dr, dc)
+    private int run(long[] bits, int row, int col, int dr, int dc) {
+        int count = 0;
+        int r = row + dr;
+        int c = col + dc;
+        while (count < winLength - 1 && r >= 0 && r < size && c >= 0 && c < size && test(bits, r * size + c)) {
+            count++;
+            r += dr;
+            c += dc;
+        }
+        return count;
+    }
+
+    private void set(long[] bits, int index) {
+        long bit = 1L << index;
+        int word = index >>> 6;
+        if (((xBits[word] | oBits[word]) & bit) == 0) {
+            occupied++;
+        }
+        bits[word] |= bit;
+    }
+
+    private static boolean test(long[] bits, int index) {
+        return (bits[index >>> 6] & (1L << index)) != 0;
+    }
+
+    private void requireClassic() {
+        if (size != SIZE) {
+            throw new IllegalStateException("Masks are only defined for the " + SIZE + "x" + SIZE + " board");
+        }
+    }
+}
@@ -7,14 +7,15 @@ import lombok.Data;
 import lombok.NoArgsConstructor;
 
 @Entity
-@Table(name = "cells")
+@Table(name = "cells", indexes = @Index(name = "idx_cells_game_id", columnList = "game_id"))
 @Data
 @Builder
 @NoArgsConstructor
 @AllArgsConstructor
 public class Cell {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "cells_seq")
+    @SequenceGenerator(name = "cells_seq", sequenceName = "cells_seq", allocationSize = 50)
     private Long id;
 
     @ManyToOne(fetch = FetchType.LAZY)
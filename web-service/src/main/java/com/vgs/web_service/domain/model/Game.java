@@ -5,23 +5,39 @@ import jakarta.persistence.*;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
+import lombok.EqualsAndHashCode;
 import lombok.NoArgsConstructor;
+import lombok.ToString;
+import org.hibernate.Hibernate;
+import org.hibernate.annotations.ColumnDefault;
 
 import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.List;
 
 @Entity
-@Table(name = "games")
+@Table(name = "games", indexes = {
+        // Keyset listing: equality on status, then a range seek over (created_at, id)
+        @Index(name = "idx_games_status_created_at_id", columnList = "status, created_at, id"),
+        @Index(name = "idx_games_created_at_id", columnList = "created_at, id"),
+        // Expired turns are found by a range scan up to now; finished games have no deadline
+        @Index(name = "idx_games_turn_deadline", columnList = "turn_deadline"),
+        // Archival: a range scan up to the cutoff; games in progress have no finish time
+        @Index(name = "idx_games_finished_at", columnList = "finished_at")
+})
 @Data
 @Builder
 @NoArgsConstructor
 @AllArgsConstructor
 public class Game {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "games_seq")
+    @SequenceGenerator(name = "games_seq", sequenceName = "games_seq", allocationSize = 50)
     private Long id;
 
+    @Version
+    private Long version;
+
     @Column(nullable = false)
     @Builder.Default
     private LocalDateTime createdAt = LocalDateTime.now();
@@ -36,58 +52,186 @@ public class Game {
     @Builder.Default
     private CellValue currentTurn = CellValue.X;
 
+    // Null for games created before modes existed, which are two-player games
+    @Enumerated(EnumType.STRING)
+    @Builder.Default
+    private GameMode mode = GameMode.TWO_PLAYER;
+
+    // Null for games created before board sizes existed, which are classic 3x3 games
+    @Builder.Default
+    private Integer boardSize = Board.SIZE;
+
+    @Builder.Default
+    private Integer winLength = Board.SIZE;
+
+    // When the player to move forfeits; null once the game is over, or when turns don't expire
+    private LocalDateTime turnDeadline;
+
+    // When the game was won, drawn or abandoned; null while it is in progress
+    private LocalDateTime finishedAt;
+
     @OneToMany(mappedBy = "game", cascade = CascadeType.ALL, orphanRemoval = true)
+    @OrderBy("row_number ASC, column_number ASC")
     @Builder.Default
     private List<Cell> cells = new ArrayList<>();
 
+    // Compact row-major encoding of the board, see Board#encode, as of the first snapshotMoveCount moves
+    @Column(name = "board_state", length = Board.MAX_CELL_COUNT)
+    private String boardState;
+
+    @Column(nullable = false)
+    @ColumnDefault("0")
+    private int moveCount;
+
+    @Column(nullable = false)
+    @ColumnDefault("0")
+    private int snapshotMoveCount;
+
+    @Transient
+    @EqualsAndHashCode.Exclude
+    @ToString.Exclude
+    private Board board;
+
     @PrePersist
     protected void onCreate() {
-        initializeBoard();
+        if (boardState == null) {
+            snapshot();
+        }
     }
 
+    /**
+     * Brings {@code boardState} up to date with the board.
+     */
+    public void snapshot() {
+        boardState = getBoard().encode();
+        snapshotMoveCount = moveCount;
+    }
+
+    /**
+     * Applies moves made after the snapshot the game was loaded with.
+     */
+    public void replay(List<Move> moves) {
+        Board board = getBoard();
+        for (Move move : moves) {
+            board.place(move.getPlayer(), move.getX(), move.getY());
+        }
+    }
+
+    /**
+     * Creates the per-cell rows mirroring the board, used when boards are stored in the cells table.
+     */
     public void initializeBoard() {
         if (cells.isEmpty()) {
-            for (int row = 1; row <= 3; row++) {
-                for (int col = 1; col <= 3; col++) {
+            Board board = getBoard();
+            for (int row = 1; row <= board.size(); row++) {
+                for (int col = 1; col <= board.size(); col++) {
                     cells.add(Cell.builder()
                             .game(this)
                             .row_number(row)
                             .column_number(col)
-                            .value(CellValue.EMPTY)
+                            .value(board.get(row, col))
                             .build());
                 }
             }
         }
     }
 
-    public void makeMove(CellValue playerId, Integer x, Integer y) {
-        validateMove(playerId, x, y);
-        
-        cells.stream()
-                .filter(cell -> cell.getRow_number().equals(x) && cell.getColumn_number().equals(y))
-                .findFirst()
-                .ifPresent(cell -> cell.setValue(playerId));
-
-        CellValue winner = checkWinner();
-        if (winner != null) {
-            if (winner == CellValue.X) {
-                this.status = GameStatus.X_WON;
-            } else {
-                this.status = GameStatus.O_WON;
-            }
-            return;
+    public Board getBoard() {
+        if (board == null) {
+            int size = boardSize != null ? boardSize : Board.SIZE;
+            int length = winLength != null ? winLength : Board.SIZE;
+            board = boardState != null
+                    ? Board.decode(boardState, size, length)
+                    : Board.fromCells(cells, size, length);
+        }
+        return board;
+    }
+
+    /**
+     * Returns a detached copy of the game state, without cell rows. The copy's snapshot is the
+     * current board.
+     */
+    public Game copy() {
+        boolean loaded = board != null;
+        return Game.builder()
+                .id(id)
+                .version(version)
+                .createdAt(createdAt)
+                .status(status)
+                .currentTurn(currentTurn)
+                .mode(mode)
+                .boardSize(boardSize)
+                .winLength(winLength)
+                .moveCount(moveCount)
+                .turnDeadline(turnDeadline)
+                .finishedAt(finishedAt)
+                .boardState(loaded ? board.encode() : boardState)
+                .snapshotMoveCount(loaded ? moveCount : snapshotMoveCount)
+                .build();
+    }
+
+    public boolean isAgainstComputer() {
+        return mode == GameMode.VS_COMPUTER;
+    }
+
+    /**
+     * Starts the clock of the player to move, who has until {@code deadline}. Finished games have
+     * no deadline.
+     */
+    public void startTurn(LocalDateTime deadline) {
+        turnDeadline = status == GameStatus.IN_PROGRESS ? deadline : null;
+    }
+
+    public boolean isTurnExpired(LocalDateTime now) {
+        return status == GameStatus.IN_PROGRESS && turnDeadline != null && !now.isBefore(turnDeadline);
+    }
+
+    /**
+     * Ends the game as abandoned if its turn deadline has passed, and returns whether it did.
+     */
+    public boolean abandon(LocalDateTime now) {
+        if (!isTurnExpired(now)) {
+            return false;
         }
+        status = GameStatus.ABANDONED;
+        turnDeadline = null;
+        finishedAt = now;
+        return true;
+    }
+
+    /**
+     * Applies a move and returns it as the next entry of the game's history.
+     */
+    public Move makeMove(CellValue playerId, Integer x, Integer y) {
+        Board board = getBoard();
+        validateMove(board, playerId, x, y);
+
+        board.place(playerId, x, y);
+        updateCell(board, playerId, x, y);
+        moveCount++;
 
-        // Check for draw
-        if (isDraw()) {
+        if (board.completesLine(playerId, x, y)) {
+            this.status = playerId == CellValue.X ? GameStatus.X_WON : GameStatus.O_WON;
+        } else if (board.isFull()) {
             this.status = GameStatus.DRAW;
-            return;
+        } else {
+            currentTurn = (currentTurn == CellValue.X) ? CellValue.O : CellValue.X;
+        }
+        if (status != GameStatus.IN_PROGRESS) {
+            turnDeadline = null;
+            finishedAt = LocalDateTime.now();
         }
 
-        currentTurn = (currentTurn == CellValue.X) ? CellValue.O : CellValue.X;
+        return Move.builder()
+                .gameId(id)
+                .sequence(moveCount)
+                .player(playerId)
+                .x(x)
+                .y(y)
+                .build();
     }
 
-    private void validateMove(CellValue playerId, Integer x, Integer y) {
+    private void validateMove(Board board, CellValue playerId, Integer x, Integer y) {
         if (status != GameStatus.IN_PROGRESS) {
             
             throw new InvalidMoveException("Game is already finished");
@@ -95,54 +239,33 @@ public class Game {
         if (!playerId.equals(currentTurn)) {
             throw new InvalidMoveException("It's not player " + playerId + "'s turn. Current turn: " + currentTurn);
         }
-        boolean cellOccupied = cells.stream()
-                .anyMatch(cell -> cell.getRow_number().equals(x) 
-                        && cell.getColumn_number().equals(y) 
-                        && cell.getValue() != CellValue.EMPTY);
-        if (cellOccupied) {
+        if (!board.isInBounds(x, y)) {
+            throw new InvalidMoveException("Cell at position (" + x + "," + y + ") is out of bounds");
+        }
+        if (board.isOccupied(x, y)) {
             throw new InvalidMoveException("Cell at position (" + x + "," + y + ") is already occupied");
         }
     }
 
-    private CellValue checkWinner() {
-        // Check rows
-        for (int row = 1; row <= 3; row++) {
-            if (checkLine(row, 1, row, 2, row, 3)) {
-                return getCellValue(row, 1);
-            }
+    // Cells are kept in row-major order, so the persisted row is found by index.
+    // Untouched lazy cells are left alone so compact storage never loads them.
+    private void updateCell(Board board, CellValue playerId, int x, int y) {
+        if (!Hibernate.isInitialized(cells)) {
+            return;
         }
-
-        // Check columns
-        for (int col = 1; col <= 3; col++) {
-            if (checkLine(1, col, 2, col, 3, col)) {
-                return getCellValue(1, col);
+        int index = board.indexOf(x, y);
+        if (index < cells.size()) {
+            Cell cell = cells.get(index);
+            if (cell.getRow_number() == x && cell.getColumn_number() == y) {
+                cell.setValue(playerId);
+                return;
             }
         }
-
-        // Check diagonals
-        if (checkLine(1, 1, 2, 2, 3, 3) || checkLine(1, 3, 2, 2, 3, 1)) {
-            return getCellValue(2, 2);
+        for (Cell cell : cells) {
+            if (cell.getRow_number() == x && cell.getColumn_number() == y) {
+                cell.setValue(playerId);
+                return;
+            }
         }
-
-        return null;
-    }
-
-    private boolean checkLine(int row1, int col1, int row2, int col2, int row3, int col3) {
-        CellValue first = getCellValue(row1, col1);
-        if (first == CellValue.EMPTY) return false;
-        
-        return first == getCellValue(row2, col2) && first == getCellValue(row3, col3);
-    }
-
-    private CellValue getCellValue(int row, int col) {
-        return cells.stream()
-                .filter(cell -> cell.getRow_number() == row && cell.getColumn_number() == col)
-                .findFirst()
-                .map(Cell::getValue)
-                .orElse(CellValue.EMPTY);
-    }
-
-    private boolean isDraw() {
-        return cells.stream().noneMatch(cell -> cell.getValue() == CellValue.EMPTY);
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,7 @@
+package com.vgs.web_service.domain.model;
+
+public enum GameMode {
+    TWO_PLAYER,
+    // The server plays O and replies to every X move
+    VS_COMPUTER
+}
@@ -4,5 +4,7 @@ public enum GameStatus {
     IN_PROGRESS,
     X_WON,
     O_WON,
-    DRAW
-}
\ No newline at end of file
+    DRAW,
+    // The player to move let the turn deadline pass; currentTurn is the player who walked away
+    ABANDONED
+}
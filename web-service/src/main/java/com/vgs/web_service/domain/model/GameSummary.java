@@ -0,0 +1,17 @@
+package com.vgs.web_service.domain.model;
+
+import java.time.LocalDateTime;
+
+/**
+ * Read-only view of a game without its board, as returned by listings.
+ */
+public record GameSummary(
+        Long id,
+        GameStatus status,
+        CellValue currentTurn,
+        GameMode mode,
+        int boardSize,
+        int winLength,
+        int moveCount,
+        LocalDateTime createdAt) {
+}
@@ -0,0 +1,48 @@
+package com.vgs.web_service.domain.model;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * One accepted move, appended to the game's history. Moves are never updated; {@code sequence}
+ * numbers the moves of a game from 1 and doubles as the cursor of the replay API.
+ */
+@Entity
+@Table(name = "moves", uniqueConstraints =
+        @UniqueConstraint(name = "uk_moves_game_sequence", columnNames = {"game_id", "sequence"}))
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class Move {
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "moves_seq")
+    @SequenceGenerator(name = "moves_seq", sequenceName = "moves_seq", allocationSize = 50)
+    private Long id;
+
+    // A plain column rather than an association, so appending never touches the game
+    @Column(name = "game_id", nullable = false)
+    private Long gameId;
+
+    @Column(nullable = false)
+    private int sequence;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    private CellValue player;
+
+    @Column(nullable = false)
+    private int x;
+
+    @Column(nullable = false)
+    private int y;
+
+    @Column(nullable = false)
+    @Builder.Default
+    private LocalDateTime createdAt = LocalDateTime.now();
+}
@@ -0,0 +1,24 @@
+package com.vgs.web_service.domain.repository;
+
+import com.vgs.web_service.domain.model.GameStatus;
+
+import java.time.LocalDateTime;
+
+/**
+ * Filter for game listings, ordered by creation time and id. Every field is optional.
+ *
+ * @param createdFrom    inclusive lower bound of the creation time
+ * @param createdTo      exclusive upper bound of the creation time
+ * @param afterCreatedAt together with {@code afterId}, the position of the last game already returned
+ */
+public record GameQuery(
+        GameStatus status,
+        LocalDateTime createdFrom,
+        LocalDateTime createdTo,
+        LocalDateTime afterCreatedAt,
+        Long afterId) {
+
+    public boolean hasCursor() {
+        return afterCreatedAt != null && afterId != null;
+    }
+}
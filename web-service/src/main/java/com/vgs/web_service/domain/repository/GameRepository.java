@@ -1,9 +1,43 @@
 package com.vgs.web_service.domain.repository;
 
 import com.vgs.web_service.domain.model.Game;
+import com.vgs.web_service.domain.model.GameStatus;
+import com.vgs.web_service.domain.model.GameSummary;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
 
 public interface GameRepository {
     Game save(Game game);
 
+    List<Game> saveAll(List<Game> games);
+
     Game findById(Long id);
+
+    /**
+     * Returns the game for display only, or {@code null} if it does not exist. The game is not
+     * tracked for changes and must not be saved.
+     */
+    Game findReadOnlyById(Long id);
+
+    Map<GameStatus, Long> countByStatus();
+
+    /**
+     * Returns the ids of up to {@code limit} games in progress whose turn deadline is not after
+     * {@code now}, earliest deadline first.
+     */
+    List<Long> findExpiredIds(LocalDateTime now, int limit);
+
+    /**
+     * Returns up to {@code limit} games matching the query that come after its cursor.
+     */
+    List<GameSummary> findSummaries(GameQuery query, int limit);
+
+    /**
+     * Streams every game matching the query. Rows are fetched in chunks as the stream is consumed,
+     * which needs an open transaction; the stream must be closed.
+     */
+    Stream<GameSummary> streamSummaries(GameQuery query);
 }
\ No newline at end of file
@@ -0,0 +1,19 @@
+package com.vgs.web_service.domain.repository;
+
+import com.vgs.web_service.domain.model.Move;
+
+import java.util.List;
+
+public interface MoveRepository {
+    void appendAll(List<Move> moves);
+
+    /**
+     * Returns up to {@code limit} moves of the game with a sequence after {@code afterSequence}, in order.
+     */
+    List<Move> findByGameId(Long gameId, int afterSequence, int limit);
+
+    /**
+     * Returns every move of the game with a sequence after {@code afterSequence}, in order.
+     */
+    List<Move> findByGameId(Long gameId, int afterSequence);
+}
@@ -0,0 +1,584 @@
+package com.vgs.web_service.infrastructure.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.RemovalCause;
+import com.vgs.web_service.domain.model.Game;
+import com.vgs.web_service.domain.model.GameStatus;
+import com.vgs.web_service.domain.model.GameSummary;
+import com.vgs.web_service.domain.model.Move;
+import com.vgs.web_service.domain.repository.GameQuery;
+import com.vgs.web_service.domain.repository.GameRepository;
+import com.vgs.web_service.domain.repository.MoveRepository;
+import com.vgs.web_service.infrastructure.config.GameCacheProperties;
+import com.vgs.web_service.infrastructure.metrics.RoundTrips;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
+import org.springframework.transaction.support.TransactionOperations;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.stream.Stream;
+
+/**
+ * Keeps {@link GameStatus#IN_PROGRESS} games in memory in front of another {@link GameRepository}.
+ * Finished games are evicted as soon as they are saved. Callers always get their own copy, so a
+ * cached game is never mutated outside of {@link #save(Game)}.
+ *
+ * <p>With write-behind enabled, saves of existing games only update the cache and are flushed to
+ * the delegate every flush interval, coalescing several moves of a game into a single write.
+ * The cache then owns optimistic locking: each save must carry the version it read, and the
+ * version written to the delegate is tracked separately. A game evicted with nothing left to
+ * flush is checked against the delegate, with its version advanced by the saves the flushes
+ * coalesced, so versions never go back. Creating a game and finishing a game
+ * are always written through. Moves appended through {@link CachingMoveRepository} wait with the
+ * pending write of their game and are flushed in the same transaction, so the move history never
+ * runs ahead of the game. A save only reaches the cache once its transaction commits, and a game
+ * has at most one uncommitted save at a time.
+ */
+public class CachingGameRepository implements GameRepository, MeterBinder {
+    private static final Logger log = LoggerFactory.getLogger(CachingGameRepository.class);
+
+    private final GameRepository delegate;
+    private final MoveRepository moveDelegate;
+    private final TransactionOperations transactionOperations;
+    private final Cache<Long, Game> cache;
+    private final int maxBatchSize;
+
+    // Latest unflushed state per game; kept outside the cache so eviction never drops a write
+    private final Map<Long, PendingWrite> pendingWrites = new ConcurrentHashMap<>();
+    // Games with a write-behind save in a transaction that has not completed yet
+    private final Set<Long> staging = ConcurrentHashMap.newKeySet();
+    // Version each write-behind game has in the delegate, which lags behind the cached version
+    private final Map<Long, Long> storedVersions = new ConcurrentHashMap<>();
+    // How far the cached version of a game ran ahead of the delegate when it left the cache, so
+    // versions read back from the delegate carry on from the last one handed out
+    private final Map<Long, Long> versionLeads = new ConcurrentHashMap<>();
+    private final ScheduledExecutorService flusher;
+    // Orders flushes against write-through saves so an older snapshot never lands last
+    private final ReentrantLock writeLock = new ReentrantLock();
+
+    private final LongAdder finishedEvictions = new LongAdder();
+    private final LongAdder flushedWrites = new LongAdder();
+    private final LongAdder failedWrites = new LongAdder();
+
+    /**
+     * @param transactionOperations used for delegate writes made by the cache; it should start a new
+     *                              transaction so a flush commits before the cache records its version
+     */
+    public CachingGameRepository(GameRepository delegate, MoveRepository moveDelegate,
+                                 TransactionOperations transactionOperations, GameCacheProperties properties) {
+        this.delegate = delegate;
+        this.moveDelegate = moveDelegate;
+        this.transactionOperations = transactionOperations;
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(properties.getMaxSize())
+                .expireAfterAccess(properties.getTtl())
+                // Runs as part of the eviction, so a read that misses the cache already sees the lead
+                .evictionListener((Long id, Game game, RemovalCause cause) -> {
+                    if (id != null && game != null) {
+                        leftCache(id, game);
+                    }
+                })
+                .recordStats()
+                .build();
+        this.maxBatchSize = properties.getWriteBehind().getMaxBatchSize();
+
+        if (properties.getWriteBehind().isEnabled()) {
+            long intervalMillis = properties.getWriteBehind().getFlushInterval().toMillis();
+            this.flusher = Executors.newSingleThreadScheduledExecutor(runnable -> {
+                Thread thread = new Thread(runnable, "game-write-behind");
+                thread.setDaemon(true);
+                return thread;
+            });
+            this.flusher.scheduleWithFixedDelay(this::flushSafely, intervalMillis, intervalMillis, TimeUnit.MILLISECONDS);
+        } else {
+            this.flusher = null;
+        }
+    }
+
+    @Override
+    public Game save(Game game) {
+        if (game.getId() == null) {
+            Game saved = delegate.save(game);
+            afterCommit(() -> remember(saved, saved.getVersion()));
+            return saved;
+        }
+
+        if (flusher != null) {
+            return saveWriteBehind(game);
+        }
+
+        // Readers fall through to the delegate until the new state is committed
+        if (game.getStatus() == GameStatus.IN_PROGRESS) {
+            cache.invalidate(game.getId());
+        } else {
+            evictFinished(game.getId());
+        }
+        Game saved = delegate.save(game);
+        afterCommit(() -> remember(saved, saved.getVersion()));
+        return saved;
+    }
+
+    @Override
+    public List<Game> saveAll(List<Game> games) {
+        // Bulk-created games are cached on first read rather than displacing active ones
+        return delegate.saveAll(games);
+    }
+
+    @Override
+    public Game findById(Long id) {
+        Game cached = cachedCopy(id);
+        if (cached != null) {
+            return cached;
+        }
+
+        Game stored = delegate.findById(id);
+        if (stored == null) {
+            return null;
+        }
+        Game game = numberedAsCached(stored);
+        if (game == stored && flusher != null) {
+            // Changes to a managed entity would be written at commit, behind the cache's back
+            game = stored.copy();
+        }
+        remember(game, stored.getVersion());
+        return game;
+    }
+
+    // Only games loaded for a move are cached; polling a game that is not cached does not bring it in
+    @Override
+    public Game findReadOnlyById(Long id) {
+        Game cached = cachedCopy(id);
+        if (cached != null) {
+            return cached;
+        }
+        Game stored = delegate.findReadOnlyById(id);
+        return stored != null ? numberedAsCached(stored) : null;
+    }
+
+    private Game cachedCopy(Long id) {
+        PendingWrite pending = pendingWrites.get(id);
+        if (pending != null) {
+            RoundTrips.cacheHit();
+            return pending.game().copy();
+        }
+
+        Game cached = cache.getIfPresent(id);
+        if (cached != null) {
+            RoundTrips.cacheHit();
+            return cached.copy();
+        }
+        return null;
+    }
+
+    @Override
+    public Map<GameStatus, Long> countByStatus() {
+        return delegate.countByStatus();
+    }
+
+    // Deadlines pushed back by moves not yet written are re-checked against the cached game when it is abandoned
+    @Override
+    public List<Long> findExpiredIds(LocalDateTime now, int limit) {
+        return delegate.findExpiredIds(now, limit);
+    }
+
+    // Listings read the database, so with write-behind they lag by up to one flush interval
+    @Override
+    public List<GameSummary> findSummaries(GameQuery query, int limit) {
+        return delegate.findSummaries(query, limit);
+    }
+
+    @Override
+    public Stream<GameSummary> streamSummaries(GameQuery query) {
+        return delegate.streamSummaries(query);
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        CaffeineCacheMetrics.monitor(registry, cache, "games");
+        Gauge.builder("game.cache.pending.writes", pendingWrites, Map::size)
+                .description("Games with moves not yet written to the database")
+                .register(registry);
+        FunctionCounter.builder("game.cache.finished.evictions", finishedEvictions, LongAdder::sum)
+                .register(registry);
+        FunctionCounter.builder("game.cache.flushed.writes", flushedWrites, LongAdder::sum)
+                .register(registry);
+        FunctionCounter.builder("game.cache.failed.writes", failedWrites, LongAdder::sum)
+                .register(registry);
+    }
+
+    public void evict(Long id) {
+        cache.asMap().computeIfPresent(id, (key, game) -> {
+            leftCache(key, game);
+            return null;
+        });
+    }
+
+    public GameCacheStats stats() {
+        var stats = cache.stats();
+        return new GameCacheStats(
+                cache.estimatedSize(),
+                stats.hitCount(),
+                stats.missCount(),
+                stats.evictionCount(),
+                finishedEvictions.sum(),
+                pendingWrites.size(),
+                flushedWrites.sum(),
+                failedWrites.sum());
+    }
+
+    /**
+     * Writes every pending game to the delegate. Called by the flusher and on shutdown.
+     */
+    public void flush() {
+        while (!pendingWrites.isEmpty()) {
+            List<PendingWrite> batch = new ArrayList<>(Math.min(maxBatchSize, pendingWrites.size()));
+            Iterator<PendingWrite> iterator = pendingWrites.values().iterator();
+            while (iterator.hasNext() && batch.size() < maxBatchSize) {
+                batch.add(iterator.next());
+            }
+            writeBatch(batch);
+        }
+    }
+
+    public void shutdown() {
+        if (flusher != null) {
+            flusher.shutdown();
+            flush();
+        }
+    }
+
+    private Game saveWriteBehind(Game game) {
+        StagedWrites staged = stagedWrites();
+        if (staged != null) {
+            return staged.save(game);
+        }
+        // Outside of a transaction the save commits at once
+        StagedWrites immediate = new StagedWrites();
+        try {
+            Game saved = immediate.save(game);
+            immediate.afterCommit();
+            return saved;
+        } finally {
+            immediate.afterCompletion(TransactionSynchronization.STATUS_UNKNOWN);
+        }
+    }
+
+    /**
+     * Keeps the moves with the pending write of their game when the game was saved behind, so both
+     * are flushed together. Returns {@code false} when the moves are to be appended directly.
+     */
+    boolean holdMoves(List<Move> played) {
+        if (flusher == null || played.isEmpty()) {
+            return false;
+        }
+        Long id = played.get(0).getGameId();
+        if (played.stream().anyMatch(move -> !id.equals(move.getGameId()))) {
+            return false;
+        }
+        StagedWrites staged = stagedWrites();
+        if (staged != null) {
+            return staged.hold(id, played);
+        }
+        return pendingWrites.computeIfPresent(id, (key, pending) -> pending.then(pending.game(), played)) != null;
+    }
+
+    /**
+     * Moves of the game that are not written to the delegate yet, in order.
+     */
+    List<Move> pendingMoves(Long gameId) {
+        PendingWrite pending = pendingWrites.get(gameId);
+        return pending != null ? pending.moves() : List.of();
+    }
+
+    // The state a write-behind save is checked against
+    private Game unflushedState(Long id) {
+        PendingWrite pending = pendingWrites.get(id);
+        return pending != null ? pending.game() : cache.asMap().get(id);
+    }
+
+    // A game that is neither pending nor cached has every move in the delegate
+    private Game storedState(Long id) {
+        Game stored = delegate.findReadOnlyById(id);
+        return stored != null ? numberedAsCached(stored) : null;
+    }
+
+    private Game numberedAsCached(Game stored) {
+        Long lead = versionLeads.get(stored.getId());
+        if (lead == null || stored.getVersion() == null) {
+            return stored;
+        }
+        Game game = stored.copy();
+        game.setVersion(stored.getVersion() + lead);
+        return game;
+    }
+
+    private void leftCache(Long id, Game game) {
+        // Serialized with the pending write, which keeps the game's stored version while it exists
+        pendingWrites.compute(id, (key, pending) -> {
+            if (pending == null) {
+                recordLead(id, game.getVersion(), storedVersions.remove(id));
+            }
+            return pending;
+        });
+    }
+
+    private void recordLead(Long id, Long cachedVersion, Long storedVersion) {
+        if (cachedVersion != null && storedVersion != null && cachedVersion > storedVersion) {
+            versionLeads.put(id, cachedVersion - storedVersion);
+        } else {
+            versionLeads.remove(id);
+        }
+    }
+
+    private StagedWrites stagedWrites() {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            return null;
+        }
+        StagedWrites staged = (StagedWrites) TransactionSynchronizationManager.getResource(this);
+        if (staged == null) {
+            staged = new StagedWrites();
+            TransactionSynchronizationManager.bindResource(this, staged);
+            TransactionSynchronizationManager.registerSynchronization(staged);
+        }
+        return staged;
+    }
+
+    private void applyCommitted(Long id, Game game, List<Move> played) {
+        pendingWrites.compute(id, (key, current) -> {
+            if (current != null) {
+                return current.then(game, played);
+            }
+            // If the game left the cache since its save was checked, the delegate is one save behind
+            storedVersions.computeIfAbsent(id, unknown -> game.getVersion() - 1 - versionLeads.getOrDefault(id, 0L));
+            return new PendingWrite(game, List.copyOf(played));
+        });
+        cache.put(id, game);
+
+        if (game.getStatus() != GameStatus.IN_PROGRESS) {
+            writeLock.lock();
+            try {
+                // Looked up under the lock: a flush running meanwhile may have trimmed the pending write
+                PendingWrite pending = pendingWrites.get(id);
+                if (pending != null) {
+                    writeBatchLocked(new ArrayList<>(List.of(pending)));
+                }
+            } finally {
+                writeLock.unlock();
+            }
+            evictFinished(id);
+        }
+    }
+
+    private void writeBatch(List<PendingWrite> batch) {
+        writeLock.lock();
+        try {
+            writeBatchLocked(batch);
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    private void writeBatchLocked(List<PendingWrite> batch) {
+        // Writes replaced by a newer move while waiting for the lock are written with that move
+        batch.removeIf(write -> pendingWrites.get(write.game().getId()) != write);
+        if (batch.isEmpty()) {
+            return;
+        }
+        try {
+            List<Game> saved = transactionOperations.execute(status -> {
+                List<Game> rows = new ArrayList<>(batch.size());
+                batch.forEach(write -> rows.add(store(write)));
+                return rows;
+            });
+            for (int i = 0; i < batch.size(); i++) {
+                markFlushed(batch.get(i), saved.get(i));
+            }
+        } catch (RuntimeException batchFailure) {
+            // Retry one by one so a single bad game does not hold back the rest
+            for (PendingWrite write : batch) {
+                try {
+                    markFlushed(write, transactionOperations.execute(status -> store(write)));
+                } catch (RuntimeException ex) {
+                    Long id = write.game().getId();
+                    failedWrites.increment();
+                    // Later moves of the game build on this write, so they are dropped with it
+                    pendingWrites.remove(id);
+                    cache.invalidate(id);
+                    storedVersions.remove(id);
+                    versionLeads.remove(id);
+                    log.error("Write-behind failed, dropping cached state: gameId={}", id, ex);
+                }
+            }
+        }
+    }
+
+    // The game row and the moves that led to it are written in the same transaction
+    private Game store(PendingWrite write) {
+        Game saved = delegate.save(toStoredRow(write.game()));
+        if (!write.moves().isEmpty()) {
+            moveDelegate.appendAll(write.moves());
+        }
+        return saved;
+    }
+
+    private Game toStoredRow(Game snapshot) {
+        Game row = snapshot.copy();
+        row.setVersion(storedVersions.get(snapshot.getId()));
+        return row;
+    }
+
+    private void markFlushed(PendingWrite write, Game saved) {
+        Long id = write.game().getId();
+        if (saved.getVersion() != null) {
+            storedVersions.put(id, saved.getVersion());
+        }
+        // A newer move may have replaced the write while it was being written; it keeps only its own moves
+        pendingWrites.computeIfPresent(id, (key, current) -> {
+            if (current == write) {
+                flushedWrites.increment();
+                if (!cache.asMap().containsKey(id)) {
+                    // Evicted while pending; from now on it is read back from the delegate
+                    recordLead(id, write.game().getVersion(), storedVersions.remove(id));
+                }
+                return null;
+            }
+            return current.withoutFirst(write.moves().size());
+        });
+    }
+
+    private void flushSafely() {
+        try {
+            flush();
+        } catch (RuntimeException ex) {
+            log.error("Write-behind flush failed", ex);
+        }
+    }
+
+    private void remember(Game game, Long storedVersion) {
+        if (game.getStatus() == GameStatus.IN_PROGRESS) {
+            if (storedVersion != null) {
+                storedVersions.put(game.getId(), storedVersion);
+            }
+            cache.put(game.getId(), game.copy());
+        } else {
+            evictFinished(game.getId());
+        }
+    }
+
+    private void evictFinished(Long id) {
+        storedVersions.remove(id);
+        versionLeads.remove(id);
+        if (cache.asMap().remove(id) != null) {
+            finishedEvictions.increment();
+        }
+    }
+
+    private static void afterCommit(Runnable action) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    action.run();
+                }
+            });
+        } else {
+            action.run();
+        }
+    }
+
+    // A game's latest unflushed state and the moves played since its last flush
+    private record PendingWrite(Game game, List<Move> moves) {
+
+        PendingWrite then(Game next, List<Move> played) {
+            List<Move> all = new ArrayList<>(moves.size() + played.size());
+            all.addAll(moves);
+            all.addAll(played);
+            return new PendingWrite(next, List.copyOf(all));
+        }
+
+        PendingWrite withoutFirst(int flushed) {
+            return new PendingWrite(game, List.copyOf(moves.subList(flushed, moves.size())));
+        }
+    }
+
+    /**
+     * Write-behind saves and moves of one transaction, applied to the cache once it commits. Each
+     * game saved here is reserved until the transaction completes.
+     */
+    private final class StagedWrites implements TransactionSynchronization {
+        // A null state marks a game that is reserved but whose save was rejected
+        private final Map<Long, Game> games = new LinkedHashMap<>();
+        private final Map<Long, List<Move>> moves = new HashMap<>();
+
+        Game save(Game game) {
+            Long id = game.getId();
+            Game current = games.get(id);
+            if (!games.containsKey(id)) {
+                if (!staging.add(id)) {
+                    // Another transaction has an uncommitted save of this game
+                    throw new ObjectOptimisticLockingFailureException(Game.class, id);
+                }
+                games.put(id, null);
+                current = unflushedState(id);
+                if (current == null) {
+                    // Evicted since the caller loaded it
+                    current = storedState(id);
+                }
+            }
+            if (current == null || !Objects.equals(current.getVersion(), game.getVersion())) {
+                throw new ObjectOptimisticLockingFailureException(Game.class, id);
+            }
+            Game next = game.copy();
+            next.setVersion(game.getVersion() == null ? 1L : game.getVersion() + 1);
+            games.put(id, next);
+            game.setVersion(next.getVersion());
+            return game;
+        }
+
+        boolean hold(Long id, List<Move> played) {
+            if (games.get(id) == null) {
+                return false;
+            }
+            moves.computeIfAbsent(id, key -> new ArrayList<>()).addAll(played);
+            return true;
+        }
+
+        @Override
+        public void afterCommit() {
+            games.forEach((id, game) -> {
+                if (game != null) {
+                    applyCommitted(id, game, moves.getOrDefault(id, List.of()));
+                }
+            });
+        }
+
+        @Override
+        public void afterCompletion(int status) {
+            staging.removeAll(games.keySet());
+            TransactionSynchronizationManager.unbindResourceIfPossible(CachingGameRepository.this);
+        }
+    }
+}
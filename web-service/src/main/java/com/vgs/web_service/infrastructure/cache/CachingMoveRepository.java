@@ -0,0 +1,59 @@
+package com.vgs.web_service.infrastructure.cache;
+
+import com.vgs.web_service.domain.model.Move;
+import com.vgs.web_service.domain.repository.MoveRepository;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Move history in front of a {@link CachingGameRepository}. With write-behind, moves wait with the
+ * pending write of their game and are listed after the stored ones until they are flushed.
+ */
+public class CachingMoveRepository implements MoveRepository {
+    private final MoveRepository delegate;
+    private final CachingGameRepository games;
+
+    public CachingMoveRepository(MoveRepository delegate, CachingGameRepository games) {
+        this.delegate = delegate;
+        this.games = games;
+    }
+
+    @Override
+    public void appendAll(List<Move> moves) {
+        if (!games.holdMoves(moves)) {
+            delegate.appendAll(moves);
+        }
+    }
+
+    @Override
+    public List<Move> findByGameId(Long gameId, int afterSequence, int limit) {
+        // Read first: a flush in between then shows a move in both lists rather than in neither
+        List<Move> pending = games.pendingMoves(gameId);
+        return merge(delegate.findByGameId(gameId, afterSequence, limit), pending, afterSequence, limit);
+    }
+
+    @Override
+    public List<Move> findByGameId(Long gameId, int afterSequence) {
+        List<Move> pending = games.pendingMoves(gameId);
+        return merge(delegate.findByGameId(gameId, afterSequence), pending, afterSequence, Integer.MAX_VALUE);
+    }
+
+    private static List<Move> merge(List<Move> stored, List<Move> pending, int afterSequence, int limit) {
+        if (pending.isEmpty()) {
+            return stored;
+        }
+        List<Move> moves = new ArrayList<>(stored);
+        int last = moves.isEmpty() ? afterSequence : moves.get(moves.size() - 1).getSequence();
+        for (Move move : pending) {
+            if (moves.size() >= limit) {
+                break;
+            }
+            if (move.getSequence() > last) {
+                moves.add(move);
+                last = move.getSequence();
+            }
+        }
+        return moves;
+    }
+}
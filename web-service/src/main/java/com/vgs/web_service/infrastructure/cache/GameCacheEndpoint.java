@@ -0,0 +1,16 @@
+package com.vgs.web_service.infrastructure.cache;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+
+@Endpoint(id = "gamecache")
+@RequiredArgsConstructor
+public class GameCacheEndpoint {
+    private final CachingGameRepository cachingGameRepository;
+
+    @ReadOperation
+    public GameCacheStats stats() {
+        return cachingGameRepository.stats();
+    }
+}
@@ -0,0 +1,12 @@
+package com.vgs.web_service.infrastructure.cache;
+
+public record GameCacheStats(
+        long size,
+        long hits,
+        long misses,
+        long evictions,
+        long finishedEvictions,
+        long pendingWrites,
+        long flushedWrites,
+        long failedWrites) {
+}
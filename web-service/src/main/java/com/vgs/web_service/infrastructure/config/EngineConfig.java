@@ -0,0 +1,28 @@
+package com.vgs.web_service.infrastructure.config;
+
+import com.vgs.web_service.domain.engine.MinimaxEngine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.TimeGauge;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.concurrent.TimeUnit;
+
+@Configuration
+public class EngineConfig {
+    private static final Logger log = LoggerFactory.getLogger(EngineConfig.class);
+
+    @Bean
+    public MinimaxEngine minimaxEngine(MeterRegistry meterRegistry) {
+        MinimaxEngine engine = new MinimaxEngine();
+        log.info("Solved {} positions ({} up to symmetry) in {} ms",
+                engine.solvedPositions(), engine.canonicalPositions(),
+                TimeUnit.NANOSECONDS.toMillis(engine.precomputeNanos()));
+        TimeGauge.builder("game.engine.precompute", engine, TimeUnit.NANOSECONDS, MinimaxEngine::precomputeNanos)
+                .description("Time taken to solve every position at startup")
+                .register(meterRegistry);
+        return engine;
+    }
+}
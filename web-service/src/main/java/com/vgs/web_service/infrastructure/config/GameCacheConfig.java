@@ -0,0 +1,51 @@
+package com.vgs.web_service.infrastructure.config;
+
+import com.vgs.web_service.infrastructure.cache.CachingGameRepository;
+import com.vgs.web_service.infrastructure.cache.CachingMoveRepository;
+import com.vgs.web_service.infrastructure.cache.GameCacheEndpoint;
+import com.vgs.web_service.infrastructure.persistence.BoardStorage;
+import com.vgs.web_service.infrastructure.persistence.GameRepositoryImpl;
+import com.vgs.web_service.infrastructure.persistence.MoveRepositoryImpl;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+@Configuration
+@EnableConfigurationProperties(GameCacheProperties.class)
+@ConditionalOnProperty(prefix = "game.cache", name = "enabled", havingValue = "true")
+public class GameCacheConfig {
+
+    @Bean(destroyMethod = "shutdown")
+    @Primary
+    public CachingGameRepository cachingGameRepository(GameRepositoryImpl gameRepositoryImpl,
+                                                       MoveRepositoryImpl moveRepositoryImpl,
+                                                       PlatformTransactionManager transactionManager,
+                                                       GameCacheProperties cacheProperties,
+                                                       GamePersistenceProperties persistenceProperties) {
+        // Cached games are detached copies without cell rows, which only the compact storage supports
+        if (persistenceProperties.getBoardStorage() != BoardStorage.COMPACT) {
+            throw new IllegalStateException("game.cache.enabled requires game.persistence.board-storage=COMPACT");
+        }
+        TransactionTemplate flushTransactions = new TransactionTemplate(transactionManager);
+        flushTransactions.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        return new CachingGameRepository(gameRepositoryImpl, moveRepositoryImpl, flushTransactions, cacheProperties);
+    }
+
+    // Holds the moves of write-behind games so they are written with their game
+    @Bean
+    @Primary
+    public CachingMoveRepository cachingMoveRepository(MoveRepositoryImpl moveRepositoryImpl,
+                                                       CachingGameRepository cachingGameRepository) {
+        return new CachingMoveRepository(moveRepositoryImpl, cachingGameRepository);
+    }
+
+    @Bean
+    public GameCacheEndpoint gameCacheEndpoint(CachingGameRepository cachingGameRepository) {
+        return new GameCacheEndpoint(cachingGameRepository);
+    }
+}
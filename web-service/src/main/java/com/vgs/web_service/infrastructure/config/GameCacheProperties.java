@@ -0,0 +1,24 @@
+package com.vgs.web_service.infrastructure.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+@Data
+@ConfigurationProperties(prefix = "game.cache")
+public class GameCacheProperties {
+    private boolean enabled = false;
+    private long maxSize = 10_000;
+    // Time since last access after which an active game is dropped from the cache
+    private Duration ttl = Duration.ofMinutes(10);
+    private WriteBehind writeBehind = new WriteBehind();
+
+    @Data
+    public static class WriteBehind {
+        private boolean enabled = false;
+        // Upper bound on how long an acknowledged move may exist only in memory
+        private Duration flushInterval = Duration.ofMillis(200);
+        private int maxBatchSize = 500;
+    }
+}
@@ -0,0 +1,51 @@
+package com.vgs.web_service.infrastructure.config;
+
+import com.vgs.web_service.application.service.GameMailboxes;
+import com.vgs.web_service.infrastructure.metrics.RoundTrips;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.MDC;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.Map;
+import java.util.concurrent.Executors;
+
+@Configuration
+public class GameMailboxConfig {
+
+    // Queued moves are drained on virtual threads, one per busy game
+    @Bean
+    public GameMailboxes gameMailboxes(MeterRegistry meterRegistry) {
+        GameMailboxes mailboxes = new GameMailboxes(
+                Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name("game-mailbox-", 0).factory()),
+                GameMailboxConfig::withRequestContext);
+        Gauge.builder("game.mailboxes.active", mailboxes, GameMailboxes::active)
+                .description("Games with moves queued or running")
+                .register(meterRegistry);
+        return mailboxes;
+    }
+
+    // A queued move keeps counting toward the request that sent it and logs with its MDC
+    private static Runnable withRequestContext(Runnable task) {
+        Runnable counted = RoundTrips.propagate(task);
+        Map<String, String> context = MDC.getCopyOfContextMap();
+        return () -> {
+            Map<String, String> previous = MDC.getCopyOfContextMap();
+            setContext(context);
+            try {
+                counted.run();
+            } finally {
+                setContext(previous);
+            }
+        };
+    }
+
+    private static void setContext(Map<String, String> context) {
+        if (context != null) {
+            MDC.setContextMap(context);
+        } else {
+            MDC.clear();
+        }
+    }
+}
@@ -0,0 +1,39 @@
+package com.vgs.web_service.infrastructure.config;
+
+import com.vgs.web_service.infrastructure.persistence.BoardStorage;
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+@Data
+@ConfigurationProperties(prefix = "game.persistence")
+public class GamePersistenceProperties {
+    private BoardStorage boardStorage = BoardStorage.CELLS;
+    // Moves between board_state snapshots in EVENTS mode
+    private int snapshotInterval = 16;
+    private Migration migration = new Migration();
+    private Archive archive = new Archive();
+
+    @Data
+    public static class Migration {
+        // Backfill board_state from the cells table on startup
+        private boolean enabled = false;
+        private int batchSize = 500;
+        // Delete cell rows once their game has a board_state (only honoured in COMPACT mode)
+        private boolean dropCells = false;
+    }
+
+    @Data
+    public static class Archive {
+        // Move finished games, with their cells and moves, to the *_archive tables on a schedule
+        private boolean enabled = false;
+        // Finished games created longer ago than this are archived
+        private Duration maxAge = Duration.ofDays(30);
+        private int batchSize = 500;
+        // Sleep between batches so archiving never competes with moves for long
+        private Duration batchPause = Duration.ofMillis(100);
+        // Caps the work of one run; whatever is left is picked up by the next one
+        private int maxBatchesPerRun = 100;
+    }
+}
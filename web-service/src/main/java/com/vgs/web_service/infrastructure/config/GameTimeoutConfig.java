@@ -0,0 +1,18 @@
+package com.vgs.web_service.infrastructure.config;
+
+import com.vgs.web_service.application.service.TurnTimer;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Clock;
+
+@Configuration
+@EnableConfigurationProperties(GameTimeoutProperties.class)
+public class GameTimeoutConfig {
+
+    @Bean
+    public TurnTimer turnTimer(GameTimeoutProperties properties) {
+        return new TurnTimer(properties.getTurn(), Clock.systemDefaultZone());
+    }
+}
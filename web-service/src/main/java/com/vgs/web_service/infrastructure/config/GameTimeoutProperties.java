@@ -0,0 +1,16 @@
+package com.vgs.web_service.infrastructure.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+@Data
+@ConfigurationProperties(prefix = "game.timeout")
+public class GameTimeoutProperties {
+    // Time the player to move has before the game is abandoned; zero, the default, disables turn deadlines
+    private Duration turn = Duration.ZERO;
+    private Duration reapInterval = Duration.ofSeconds(10);
+    // Expired games loaded per query by the reaper
+    private int reapBatchSize = 500;
+}
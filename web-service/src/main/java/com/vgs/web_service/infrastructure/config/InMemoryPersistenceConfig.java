@@ -0,0 +1,72 @@
+package com.vgs.web_service.infrastructure.config;
+
+import com.vgs.web_service.infrastructure.memory.GameJournal;
+import com.vgs.web_service.infrastructure.memory.GameJournalCheckpointer;
+import com.vgs.web_service.infrastructure.memory.InMemoryGameRepository;
+import com.vgs.web_service.infrastructure.memory.InMemoryGameStore;
+import com.vgs.web_service.infrastructure.memory.InMemoryMoveRepository;
+import com.vgs.web_service.infrastructure.memory.InMemorySnapshots;
+import com.vgs.web_service.infrastructure.memory.InMemoryTransactionManager;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
+import org.springframework.transaction.PlatformTransactionManager;
+
+/**
+ * Games and moves kept in memory instead of PostgreSQL, for load tests and nodes without a
+ * database. Activated by the {@code in-memory} profile, which also leaves out the data source and
+ * JPA; the JPA repositories are only created without it. The games survive a restart through
+ * either periodic snapshots or a journal of every commit, not both.
+ */
+@Configuration
+@Profile(InMemoryPersistenceConfig.PROFILE)
+@EnableConfigurationProperties(InMemoryProperties.class)
+public class InMemoryPersistenceConfig {
+    public static final String PROFILE = "in-memory";
+
+    @Bean(destroyMethod = "close")
+    @ConditionalOnProperty(prefix = "game.in-memory.journal", name = "path")
+    public GameJournal gameJournal(InMemoryProperties properties) {
+        if (properties.getSnapshot().getPath() != null) {
+            throw new IllegalStateException(
+                    "Set either game.in-memory.journal.path or game.in-memory.snapshot.path, not both");
+        }
+        InMemoryProperties.Journal journal = properties.getJournal();
+        return new GameJournal(journal.getPath(), Math.toIntExact(journal.getSegmentSize().toBytes()), journal.isFsync());
+    }
+
+    @Bean
+    public InMemoryGameStore inMemoryGameStore(InMemoryProperties properties, ObjectProvider<GameJournal> journal) {
+        return new InMemoryGameStore(properties.getShards(), journal.getIfAvailable());
+    }
+
+    @Bean
+    public InMemoryGameRepository inMemoryGameRepository(InMemoryGameStore store) {
+        return new InMemoryGameRepository(store);
+    }
+
+    @Bean
+    public InMemoryMoveRepository inMemoryMoveRepository(InMemoryGameStore store) {
+        return new InMemoryMoveRepository(store);
+    }
+
+    @Bean
+    public PlatformTransactionManager transactionManager(InMemoryGameStore store) {
+        return new InMemoryTransactionManager(store);
+    }
+
+    @Bean(initMethod = "restore", destroyMethod = "write")
+    @ConditionalOnProperty(prefix = "game.in-memory.snapshot", name = "path")
+    public InMemorySnapshots inMemorySnapshots(InMemoryGameStore store, InMemoryProperties properties) {
+        return new InMemorySnapshots(store, properties.getSnapshot().getPath());
+    }
+
+    @Bean(initMethod = "recover", destroyMethod = "checkpoint")
+    @ConditionalOnProperty(prefix = "game.in-memory.journal", name = "path")
+    public GameJournalCheckpointer gameJournalCheckpointer(InMemoryGameStore store, GameJournal journal) {
+        return new GameJournalCheckpointer(store, journal);
+    }
+}
@@ -0,0 +1,34 @@
+package com.vgs.web_service.infrastructure.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.util.unit.DataSize;
+
+import java.nio.file.Path;
+import java.time.Duration;
+
+@Data
+@ConfigurationProperties(prefix = "game.in-memory")
+public class InMemoryProperties {
+    // Concurrent maps the games are spread over by id; rounded up to a power of two
+    private int shards = 64;
+    private Snapshot snapshot = new Snapshot();
+    private Journal journal = new Journal();
+
+    @Data
+    public static class Snapshot {
+        // File the games are written to every interval and on shutdown, and restored from on startup
+        private Path path;
+        private Duration interval = Duration.ofMinutes(1);
+    }
+
+    @Data
+    public static class Journal {
+        // Directory of the journal segments and checkpoints; every commit is journaled when set
+        private Path path;
+        private DataSize segmentSize = DataSize.ofMegabytes(64);
+        // Commits wait for their records to be forced to disk, sharing one fsync per flush
+        private boolean fsync = true;
+        private Duration checkpointInterval = Duration.ofMinutes(5);
+    }
+}
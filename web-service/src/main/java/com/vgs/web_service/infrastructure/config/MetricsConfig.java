@@ -0,0 +1,40 @@
+package com.vgs.web_service.infrastructure.config;
+
+import com.vgs.web_service.infrastructure.metrics.RoundTripJdbcTemplate;
+import com.vgs.web_service.infrastructure.metrics.RoundTripStatementInspector;
+import org.hibernate.cfg.AvailableSettings;
+import org.springframework.boot.autoconfigure.jdbc.JdbcProperties;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import javax.sql.DataSource;
+
+@Configuration
+public class MetricsConfig {
+
+    @Bean
+    public HibernatePropertiesCustomizer roundTripStatementInspector() {
+        return properties -> properties.put(AvailableSettings.STATEMENT_INSPECTOR, new RoundTripStatementInspector());
+    }
+
+    // Replaces the auto-configured template, keeping its spring.jdbc.template settings
+    @Bean
+    @Profile("!" + InMemoryPersistenceConfig.PROFILE)
+    public JdbcTemplate jdbcTemplate(DataSource dataSource, JdbcProperties properties) {
+        JdbcProperties.Template template = properties.getTemplate();
+        JdbcTemplate jdbcTemplate = new RoundTripJdbcTemplate(dataSource);
+        jdbcTemplate.setIgnoreWarnings(template.isIgnoreWarnings());
+        jdbcTemplate.setFetchSize(template.getFetchSize());
+        jdbcTemplate.setMaxRows(template.getMaxRows());
+        if (template.getQueryTimeout() != null) {
+            jdbcTemplate.setQueryTimeout((int) template.getQueryTimeout().getSeconds());
+        }
+        jdbcTemplate.setSkipResultsProcessing(template.isSkipResultsProcessing());
+        jdbcTemplate.setSkipUndeclaredResults(template.isSkipUndeclaredResults());
+        jdbcTemplate.setResultsMapCaseInsensitive(template.isResultsMapCaseInsensitive());
+        return jdbcTemplate;
+    }
+}
@@ -0,0 +1,9 @@
+package com.vgs.web_service.infrastructure.config;
+
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+@EnableConfigurationProperties(GamePersistenceProperties.class)
+public class PersistenceConfig {
+}
@@ -0,0 +1,321 @@
+package com.vgs.web_service.infrastructure.memory;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+import java.util.zip.CRC32C;
+
+/**
+ * Append-only log of fixed-size records in memory-mapped segment files. Appends copy into the
+ * mapping and return the position after them; {@link #awaitDurable} blocks until a position is on
+ * disk. One flusher thread forces the mapping, and every commit that arrived while it was forcing
+ * is covered by its next force, so concurrent commits share an fsync (group commit).
+ * <p>
+ * Each record ends with a CRC32C of the rest of it. The records of one {@link #append} form a
+ * group: before the checksum every record holds how many records of its group follow it, so the
+ * last one holds zero. Replay only passes on whole groups, and stops reading a segment at the first
+ * empty or damaged record, which is where the process stopped writing it; the group that record
+ * belongs to is dropped with it. Positions are {@code segment * segmentSize + offset}.
+ */
+public class GameJournal implements AutoCloseable {
+    private static final Logger log = LoggerFactory.getLogger(GameJournal.class);
+
+    public static final int RECORD_SIZE = 48;
+    static final int PAYLOAD_SIZE = RECORD_SIZE - Integer.BYTES;
+    // Records of the same group after this one; the record layouts leave these bytes free
+    static final int FOLLOWING_OFFSET = PAYLOAD_SIZE - Integer.BYTES;
+
+    private static final String SEGMENT_PREFIX = "journal-";
+    private static final String SEGMENT_SUFFIX = ".log";
+
+    private final Path directory;
+    private final int segmentSize;
+    private final boolean fsync;
+
+    private final ReentrantLock appendLock = new ReentrantLock();
+    private long segment;
+    private FileChannel channel;
+    private MappedByteBuffer mapping;
+    private int offset;
+
+    private final ReentrantLock flushLock = new ReentrantLock();
+    private final Condition flushRequested = flushLock.newCondition();
+    private final Condition flushed = flushLock.newCondition();
+    private volatile long written;
+    private long durable;
+    private long requested;
+    private volatile boolean running = true;
+    private final Thread flusher;
+
+    /**
+     * Opens the journal in {@code directory}, with segments of {@code segmentSize} rounded down to
+     * whole records. Appends go to a new segment after the existing ones, so a segment cut short
+     * by a crash is never written to again.
+     */
+    public GameJournal(Path directory, int segmentSize, boolean fsync) {
+        if (segmentSize < RECORD_SIZE) {
+            throw new IllegalArgumentException("Journal segment size must be at least " + RECORD_SIZE + " bytes");
+        }
+        this.directory = directory;
+        this.segmentSize = segmentSize - segmentSize % RECORD_SIZE;
+        this.fsync = fsync;
+        try {
+            Files.createDirectories(directory);
+            List<Long> segments = segments();
+            openSegment(segments.isEmpty() ? 0 : segments.get(segments.size() - 1) + 1);
+        } catch (IOException ex) {
+            throw new UncheckedIOException("Could not open the game journal in " + directory, ex);
+        }
+        durable = written;
+        flusher = Thread.ofPlatform().daemon().name("game-journal-flusher").start(this::flushLoop);
+    }
+
+    /**
+     * Appends whole records as one group, whose framing and checksums are filled in here, and
+     * returns the position after them.
+     */
+    public long append(ByteBuffer records) {
+        int count = records.remaining() / RECORD_SIZE;
+        if (count * RECORD_SIZE > segmentSize) {
+            throw new IllegalArgumentException("Journal group of " + count + " records does not fit in a segment");
+        }
+        CRC32C crc = new CRC32C();
+        for (int record = 0; record < count; record++) {
+            int start = records.position() + record * RECORD_SIZE;
+            records.putInt(start + FOLLOWING_OFFSET, count - 1 - record);
+            crc.reset();
+            crc.update(records.slice(start, PAYLOAD_SIZE));
+            records.putInt(start + PAYLOAD_SIZE, (int) crc.getValue());
+        }
+        appendLock.lock();
+        try {
+            if (offset + records.remaining() > segmentSize) {
+                roll();
+            }
+            mapping.put(offset, records, records.position(), records.remaining());
+            offset += records.remaining();
+            written = position(segment, offset);
+            return written;
+        } finally {
+            appendLock.unlock();
+        }
+    }
+
+    /**
+     * Waits until everything up to {@code position} has been forced to disk. Returns immediately
+     * when fsync is off: the records are then in the page cache and survive the process, but not
+     * the machine.
+     */
+    public void awaitDurable(long position) {
+        if (!fsync) {
+            return;
+        }
+        flushLock.lock();
+        try {
+            requested = Math.max(requested, position);
+            flushRequested.signal();
+            while (durable < position) {
+                if (!running) {
+                    throw new IllegalStateException("Game journal is closed");
+                }
+                flushed.awaitUninterruptibly();
+            }
+        } finally {
+            flushLock.unlock();
+        }
+    }
+
+    /**
+     * Starts a new segment and returns its number. Everything appended before is in earlier segments.
+     */
+    public long roll() {
+        appendLock.lock();
+        try {
+            mapping.force();
+            channel.close();
+            openSegment(segment + 1);
+            written = position(segment, 0);
+            return segment;
+        } catch (IOException ex) {
+            throw new UncheckedIOException("Could not roll the game journal in " + directory, ex);
+        } finally {
+            appendLock.unlock();
+        }
+    }
+
+    /**
+     * Passes every valid record of the whole groups in the segments from {@code firstSegment} on,
+     * up to the segment being appended to, to {@code consumer} in order, and returns how many
+     * there were.
+     */
+    public long replay(long firstSegment, Consumer<ByteBuffer> consumer) {
+        long replayed = 0;
+        CRC32C crc = new CRC32C();
+        try {
+            for (long number : segments()) {
+                if (number < firstSegment || number >= segment) {
+                    continue;
+                }
+                try (FileChannel file = FileChannel.open(segmentPath(number), StandardOpenOption.READ)) {
+                    ByteBuffer records = file.map(FileChannel.MapMode.READ_ONLY, 0, file.size());
+                    int groupStart = 0;
+                    int following = -1;
+                    int start = 0;
+                    for (; start + RECORD_SIZE <= records.limit(); start += RECORD_SIZE) {
+                        ByteBuffer record = records.slice(start, RECORD_SIZE);
+                        if (record.get(0) == 0) {
+                            break;
+                        }
+                        crc.reset();
+                        crc.update(record.slice(0, PAYLOAD_SIZE));
+                        int next = record.getInt(FOLLOWING_OFFSET);
+                        if (record.getInt(PAYLOAD_SIZE) != (int) crc.getValue()
+                                || next < 0 || following >= 0 && next != following - 1) {
+                            log.warn("Game journal: damaged record in segment {} at offset {}, ignoring the rest of it",
+                                    number, start);
+                            break;
+                        }
+                        following = next;
+                        if (following == 0) {
+                            for (int grouped = groupStart; grouped <= start; grouped += RECORD_SIZE) {
+                                consumer.accept(records.slice(grouped, RECORD_SIZE));
+                                replayed++;
+                            }
+                            groupStart = start + RECORD_SIZE;
+                            following = -1;
+                        }
+                    }
+                    if (groupStart < start) {
+                        log.warn("Game journal: incomplete group in segment {} at offset {}, dropping it",
+                                number, groupStart);
+                    }
+                }
+            }
+        } catch (IOException ex) {
+            throw new UncheckedIOException("Could not replay the game journal in " + directory, ex);
+        }
+        return replayed;
+    }
+
+    /**
+     * Deletes the segments before {@code segment}.
+     */
+    public void deleteSegmentsBefore(long segment) {
+        try {
+            for (long number : segments()) {
+                if (number < segment) {
+                    Files.delete(segmentPath(number));
+                }
+            }
+        } catch (IOException ex) {
+            throw new UncheckedIOException("Could not delete game journal segments in " + directory, ex);
+        }
+    }
+
+    public Path directory() {
+        return directory;
+    }
+
+    @Override
+    public void close() {
+        flushLock.lock();
+        try {
+            running = false;
+            flushRequested.signal();
+        } finally {
+            flushLock.unlock();
+        }
+        try {
+            flusher.join(TimeUnit.SECONDS.toMillis(10));
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        }
+        appendLock.lock();
+        try {
+            mapping.force();
+            channel.close();
+        } catch (IOException ex) {
+            log.warn("Could not close the game journal", ex);
+        } finally {
+            appendLock.unlock();
+        }
+        flushLock.lock();
+        try {
+            durable = written;
+            flushed.signalAll();
+        } finally {
+            flushLock.unlock();
+        }
+    }
+
+    private void flushLoop() {
+        while (running) {
+            long target;
+            flushLock.lock();
+            try {
+                while (requested <= durable && running) {
+                    flushRequested.awaitUninterruptibly();
+                }
+                target = written;
+            } finally {
+                flushLock.unlock();
+            }
+            if (!running) {
+                return;
+            }
+            appendLock.lock();
+            MappedByteBuffer current = mapping;
+            appendLock.unlock();
+            // A roll in the meantime forced the earlier segment itself
+            current.force();
+            flushLock.lock();
+            try {
+                durable = Math.max(durable, target);
+                flushed.signalAll();
+            } finally {
+                flushLock.unlock();
+            }
+        }
+    }
+
+    private void openSegment(long number) throws IOException {
+        channel = FileChannel.open(segmentPath(number),
+                StandardOpenOption.CREATE_NEW, StandardOpenOption.READ, StandardOpenOption.WRITE);
+        mapping = channel.map(FileChannel.MapMode.READ_WRITE, 0, segmentSize);
+        segment = number;
+        offset = 0;
+        written = position(number, 0);
+    }
+
+    private long position(long segment, int offset) {
+        return segment * segmentSize + offset;
+    }
+
+    private List<Long> segments() throws IOException {
+        try (Stream<Path> files = Files.list(directory)) {
+            return files.map(file -> file.getFileName().toString())
+                    .filter(name -> name.startsWith(SEGMENT_PREFIX) && name.endsWith(SEGMENT_SUFFIX))
+                    .map(name -> Long.parseLong(name, SEGMENT_PREFIX.length(), name.length() - SEGMENT_SUFFIX.length(), 10))
+                    .sorted()
+                    .toList();
+        }
+    }
+
+    private Path segmentPath(long number) {
+        return directory.resolve(SEGMENT_PREFIX + String.format("%016d", number) + SEGMENT_SUFFIX);
+    }
+}
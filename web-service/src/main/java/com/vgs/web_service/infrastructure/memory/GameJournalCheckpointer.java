@@ -0,0 +1,97 @@
+package com.vgs.web_service.infrastructure.memory;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.scheduling.annotation.Scheduled;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+import java.util.stream.Stream;
+
+/**
+ * Rebuilds an {@link InMemoryGameStore} from its journal on startup and keeps the journal short.
+ * A checkpoint rolls the journal to a new segment {@code S}, writes every game to
+ * {@code snapshot-S.bin} and then deletes the older snapshots and the segments before {@code S}.
+ * Recovery loads the latest snapshot and replays the segments from its number on; games committed
+ * while the snapshot was written are in both, which replay tolerates.
+ */
+public class GameJournalCheckpointer {
+    private static final Logger log = LoggerFactory.getLogger(GameJournalCheckpointer.class);
+
+    private static final String SNAPSHOT_PREFIX = "snapshot-";
+    private static final String SNAPSHOT_SUFFIX = ".bin";
+
+    private final InMemoryGameStore store;
+    private final GameJournal journal;
+
+    public GameJournalCheckpointer(InMemoryGameStore store, GameJournal journal) {
+        this.store = store;
+        this.journal = journal;
+    }
+
+    /**
+     * Restores the latest snapshot and replays the journal after it, returning how many records
+     * were replayed.
+     */
+    public long recover() {
+        long started = System.nanoTime();
+        List<Long> snapshots = snapshots();
+        long first = 0;
+        if (!snapshots.isEmpty()) {
+            first = snapshots.get(snapshots.size() - 1);
+            new InMemorySnapshots(store, snapshotPath(first)).restore();
+        }
+        long replayed = journal.replay(first, store::replay);
+        log.info("Game journal: recovered {} games, replaying {} records from segment {} on ({} ms)",
+                store.count(), replayed, first, Duration.ofNanos(System.nanoTime() - started).toMillis());
+        return replayed;
+    }
+
+    /**
+     * Writes a snapshot and deletes the journal segments and snapshots it replaces.
+     */
+    public void checkpoint() {
+        long segment = store.rollJournal();
+        new InMemorySnapshots(store, snapshotPath(segment)).write();
+        try {
+            for (long snapshot : snapshots()) {
+                if (snapshot < segment) {
+                    Files.delete(snapshotPath(snapshot));
+                }
+            }
+        } catch (IOException ex) {
+            throw new UncheckedIOException("Could not delete old snapshots in " + journal.directory(), ex);
+        }
+        journal.deleteSegmentsBefore(segment);
+    }
+
+    @Scheduled(initialDelayString = "${game.in-memory.journal.checkpoint-interval:5m}",
+            fixedDelayString = "${game.in-memory.journal.checkpoint-interval:5m}")
+    public void scheduledCheckpoint() {
+        try {
+            checkpoint();
+        } catch (RuntimeException ex) {
+            log.warn("Game journal checkpoint failed", ex);
+        }
+    }
+
+    private List<Long> snapshots() {
+        try (Stream<Path> files = Files.list(journal.directory())) {
+            return files.map(file -> file.getFileName().toString())
+                    .filter(name -> name.startsWith(SNAPSHOT_PREFIX) && name.endsWith(SNAPSHOT_SUFFIX))
+                    .map(name -> Long.parseLong(name, SNAPSHOT_PREFIX.length(), name.length() - SNAPSHOT_SUFFIX.length(), 10))
+                    .sorted()
+                    .toList();
+        } catch (IOException ex) {
+            throw new UncheckedIOException("Could not list snapshots in " + journal.directory(), ex);
+        }
+    }
+
+    private Path snapshotPath(long segment) {
+        return journal.directory().resolve(SNAPSHOT_PREFIX + String.format("%016d", segment) + SNAPSHOT_SUFFIX);
+    }
+}
@@ -0,0 +1,141 @@
+package com.vgs.web_service.infrastructure.memory;
+
+import com.vgs.web_service.domain.model.Game;
+import com.vgs.web_service.domain.model.GameStatus;
+import com.vgs.web_service.domain.model.GameSummary;
+import com.vgs.web_service.domain.repository.GameQuery;
+import com.vgs.web_service.domain.repository.GameRepository;
+import org.springframework.dao.OptimisticLockingFailureException;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+
+/**
+ * Games kept in an {@link InMemoryGameStore}, without a database. A save is checked against the
+ * stored version when it commits, so a concurrent move fails with the same optimistic locking
+ * error as with JPA and is retried by the service. Games are returned as new instances, never
+ * shared. Listings and the expired game lookup scan every shard.
+ */
+public class InMemoryGameRepository implements GameRepository {
+    private static final Comparator<StoredGame> LISTING_ORDER =
+            Comparator.comparingLong(StoredGame::createdAt).thenComparingLong(StoredGame::id);
+    private static final Comparator<StoredGame> DEADLINE_ORDER =
+            Comparator.comparingLong(StoredGame::turnDeadline).thenComparingLong(StoredGame::id);
+
+    private final InMemoryGameStore store;
+
+    public InMemoryGameRepository(InMemoryGameStore store) {
+        this.store = store;
+    }
+
+    @Override
+    public Game save(Game game) {
+        if (game.getId() == null) {
+            game.setId(store.nextId());
+            game.setVersion(0L);
+            store.save(StoredGame.of(game, 0), PendingWrites.NEW_GAME);
+            return game;
+        }
+        if (game.getVersion() == null) {
+            throw new OptimisticLockingFailureException("Game without a version: gameId=" + game.getId());
+        }
+        long version = game.getVersion() + 1;
+        store.save(StoredGame.of(game, version), game.getVersion());
+        game.setVersion(version);
+        return game;
+    }
+
+    @Override
+    public List<Game> saveAll(List<Game> games) {
+        games.forEach(this::save);
+        return games;
+    }
+
+    @Override
+    public Game findById(Long id) {
+        StoredGame game = store.game(id);
+        return game != null ? game.toGame() : null;
+    }
+
+    @Override
+    public Game findReadOnlyById(Long id) {
+        return findById(id);
+    }
+
+    @Override
+    public Map<GameStatus, Long> countByStatus() {
+        Map<GameStatus, Long> counts = new EnumMap<>(GameStatus.class);
+        store.forEachGame(game -> counts.merge(game.status(), 1L, Long::sum));
+        return counts;
+    }
+
+    @Override
+    public List<Long> findExpiredIds(LocalDateTime now, int limit) {
+        long nowNanos = StoredGame.toNanos(now);
+        return first(limit, DEADLINE_ORDER, sink -> store.forEachGame(game -> {
+            if (game.status() == GameStatus.IN_PROGRESS
+                    && game.turnDeadline() != StoredGame.NO_DEADLINE
+                    && game.turnDeadline() <= nowNanos) {
+                sink.accept(game);
+            }
+        })).stream().map(StoredGame::id).toList();
+    }
+
+    @Override
+    public List<GameSummary> findSummaries(GameQuery query, int limit) {
+        return first(limit, LISTING_ORDER, matching(query)).stream().map(StoredGame::toSummary).toList();
+    }
+
+    /**
+     * Streams the matching games in listing order. The matches are sorted up front, holding one
+     * reference per game; the summaries are created as the stream is consumed.
+     */
+    @Override
+    public Stream<GameSummary> streamSummaries(GameQuery query) {
+        List<StoredGame> matches = new ArrayList<>();
+        matching(query).accept(matches::add);
+        matches.sort(LISTING_ORDER);
+        return matches.stream().map(StoredGame::toSummary);
+    }
+
+    private Consumer<Consumer<StoredGame>> matching(GameQuery query) {
+        long from = query.createdFrom() != null ? StoredGame.toNanos(query.createdFrom()) : Long.MIN_VALUE;
+        long to = query.createdTo() != null ? StoredGame.toNanos(query.createdTo()) : Long.MAX_VALUE;
+        long afterCreatedAt = query.hasCursor() ? StoredGame.toNanos(query.afterCreatedAt()) : Long.MIN_VALUE;
+        long afterId = query.hasCursor() ? query.afterId() : Long.MIN_VALUE;
+        return sink -> store.forEachGame(game -> {
+            if ((query.status() == null || game.status() == query.status())
+                    && game.createdAt() >= from
+                    && game.createdAt() < to
+                    && (game.createdAt() > afterCreatedAt || game.createdAt() == afterCreatedAt && game.id() > afterId)) {
+                sink.accept(game);
+            }
+        });
+    }
+
+    // Keeps the first limit games in a bounded heap instead of sorting every match
+    private static List<StoredGame> first(int limit, Comparator<StoredGame> order, Consumer<Consumer<StoredGame>> source) {
+        if (limit <= 0) {
+            return List.of();
+        }
+        PriorityQueue<StoredGame> heap = new PriorityQueue<>(Math.min(limit, 1024) + 1, order.reversed());
+        source.accept(game -> {
+            if (heap.size() < limit) {
+                heap.add(game);
+            } else if (order.compare(game, heap.peek()) < 0) {
+                heap.poll();
+                heap.add(game);
+            }
+        });
+        List<StoredGame> first = new ArrayList<>(heap);
+        first.sort(order);
+        return first;
+    }
+}
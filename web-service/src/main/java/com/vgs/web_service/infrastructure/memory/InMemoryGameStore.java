@@ -0,0 +1,193 @@
+package com.vgs.web_service.infrastructure.memory;
+
+import com.vgs.web_service.domain.model.Move;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.nio.ByteBuffer;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Consumer;
+
+/**
+ * Games and move histories of the in-memory repositories, spread over shards by game id.
+ * <p>
+ * Writes made in a transaction are kept aside and applied when it commits, so reads only see
+ * committed state; outside a transaction each write commits on its own. A commit applies its
+ * writes game by game while holding the game's map entry: the version is checked, the records are
+ * appended to the journal, if there is one, and only then is the new state visible. A game's
+ * saves therefore reach the journal in version order, and the commit returns once the journal has
+ * forced them to disk. Each game's writes are one journal group, so replay never applies a state
+ * without its moves.
+ * <p>
+ * The new state is visible before it is forced, so a plain read can see a commit that a crash then
+ * loses. Nothing acknowledged can depend on it: a commit that read it is appended after it and
+ * waits for the journal up to its own records, and the events of a commit are only published
+ * once it has returned.
+ */
+public class InMemoryGameStore {
+    private final Shards<StoredGame> games;
+    private final Shards<MoveLog> moves;
+    private final AtomicLong lastId = new AtomicLong();
+    private final GameJournal journal;
+    // Commits share the read lock, so a checkpoint can let the ones in flight finish before rolling the journal
+    private final ReadWriteLock commits = new ReentrantReadWriteLock();
+
+    public InMemoryGameStore(int shards) {
+        this(shards, null);
+    }
+
+    public InMemoryGameStore(int shards, GameJournal journal) {
+        this.games = new Shards<>(shards);
+        this.moves = new Shards<>(shards);
+        this.journal = journal;
+    }
+
+    long nextId() {
+        return lastId.incrementAndGet();
+    }
+
+    StoredGame game(long id) {
+        return games.of(id).get(id);
+    }
+
+    MoveLog moveLog(long gameId) {
+        return moves.of(gameId).get(gameId);
+    }
+
+    void forEachGame(Consumer<StoredGame> action) {
+        games.forEach(action);
+    }
+
+    public long count() {
+        return games.size();
+    }
+
+    void save(StoredGame game, long expectedVersion) {
+        stage(writes -> writes.save(game, expectedVersion));
+    }
+
+    void append(List<Move> moves) {
+        stage(writes -> moves.forEach(writes::append));
+    }
+
+    void commit(PendingWrites writes) {
+        long position = -1;
+        commits.readLock().lock();
+        try {
+            for (PendingWrites.GameWrite write : writes.games()) {
+                position = Math.max(position, apply(write));
+            }
+        } finally {
+            commits.readLock().unlock();
+        }
+        if (position >= 0) {
+            journal.awaitDurable(position);
+        }
+    }
+
+    /**
+     * Starts a new journal segment once the commits in flight are done, and returns its number:
+     * every commit in earlier segments is already visible in the store.
+     */
+    long rollJournal() {
+        commits.writeLock().lock();
+        try {
+            return journal.roll();
+        } finally {
+            commits.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Applies one journal record. Records may repeat what a snapshot already holds: a game is only
+     * created once, a state only replaces an older version, and moves are set by sequence.
+     */
+    void replay(ByteBuffer record) {
+        long id = JournalRecords.gameId(record);
+        switch (JournalRecords.type(record)) {
+            case JournalRecords.GAME -> {
+                games.of(id).putIfAbsent(id, JournalRecords.newGame(record));
+                lastId.accumulateAndGet(id, Math::max);
+            }
+            case JournalRecords.STATE -> {
+                StoredGame game = game(id);
+                if (game != null && JournalRecords.version(record) > game.version()) {
+                    games.of(id).put(id, JournalRecords.withState(game, record));
+                }
+            }
+            case JournalRecords.MOVE -> {
+                Move move = JournalRecords.move(record);
+                moves.of(id).computeIfAbsent(id, key -> new MoveLog()).restore(move);
+                StoredGame game = game(id);
+                if (game != null) {
+                    game.place(move.getPlayer(), move.getX(), move.getY());
+                }
+            }
+            default -> throw new IllegalStateException("Unknown journal record type " + JournalRecords.type(record));
+        }
+    }
+
+    void restore(StoredGame game, MoveLog moveLog) {
+        games.of(game.id()).put(game.id(), game);
+        moves.of(game.id()).put(game.id(), moveLog);
+        lastId.accumulateAndGet(game.id(), Math::max);
+    }
+
+    private void stage(Consumer<PendingWrites> write) {
+        PendingWrites pending = (PendingWrites) TransactionSynchronizationManager.getResource(this);
+        if (pending != null) {
+            write.accept(pending);
+        } else {
+            PendingWrites single = new PendingWrites();
+            write.accept(single);
+            commit(single);
+        }
+    }
+
+    private long apply(PendingWrites.GameWrite write) {
+        long[] position = {-1};
+        games.of(write.gameId).compute(write.gameId, (id, current) -> {
+            if (write.game != null) {
+                checkVersion(current, write);
+            }
+            if (journal != null) {
+                position[0] = journal.append(records(write));
+            }
+            if (!write.moves.isEmpty()) {
+                MoveLog moveLog = moves.of(id).computeIfAbsent(id, key -> new MoveLog());
+                write.moves.forEach(moveLog::append);
+            }
+            return write.game != null ? write.game : current;
+        });
+        return position[0];
+    }
+
+    private static void checkVersion(StoredGame current, PendingWrites.GameWrite write) {
+        boolean expected = current == null
+                ? write.expectedVersion == PendingWrites.NEW_GAME
+                : current.version() == write.expectedVersion;
+        if (!expected) {
+            throw new OptimisticLockingFailureException("Game was updated or deleted concurrently: gameId=" + write.gameId);
+        }
+    }
+
+    private static ByteBuffer records(PendingWrites.GameWrite write) {
+        boolean created = write.game != null && write.expectedVersion == PendingWrites.NEW_GAME;
+        int count = (created ? 2 : write.game != null ? 1 : 0) + write.moves.size();
+        ByteBuffer records = ByteBuffer.allocate(count * GameJournal.RECORD_SIZE);
+        int record = 0;
+        if (created) {
+            JournalRecords.putGame(records.slice(record++ * GameJournal.RECORD_SIZE, GameJournal.RECORD_SIZE), write.game);
+        }
+        if (write.game != null) {
+            JournalRecords.putState(records.slice(record++ * GameJournal.RECORD_SIZE, GameJournal.RECORD_SIZE), write.game);
+        }
+        for (Move move : write.moves) {
+            JournalRecords.putMove(records.slice(record++ * GameJournal.RECORD_SIZE, GameJournal.RECORD_SIZE), move);
+        }
+        return records;
+    }
+}
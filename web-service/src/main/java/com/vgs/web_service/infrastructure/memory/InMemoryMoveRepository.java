@@ -0,0 +1,34 @@
+package com.vgs.web_service.infrastructure.memory;
+
+import com.vgs.web_service.domain.model.Move;
+import com.vgs.web_service.domain.repository.MoveRepository;
+
+import java.util.List;
+
+/**
+ * Move histories kept in an {@link InMemoryGameStore} as one {@link MoveLog} per game. Moves are
+ * appended when the save of their game commits, so sequences never collide.
+ */
+public class InMemoryMoveRepository implements MoveRepository {
+    private final InMemoryGameStore store;
+
+    public InMemoryMoveRepository(InMemoryGameStore store) {
+        this.store = store;
+    }
+
+    @Override
+    public void appendAll(List<Move> moves) {
+        store.append(moves);
+    }
+
+    @Override
+    public List<Move> findByGameId(Long gameId, int afterSequence, int limit) {
+        MoveLog log = store.moveLog(gameId);
+        return log != null ? log.after(gameId, afterSequence, limit) : List.of();
+    }
+
+    @Override
+    public List<Move> findByGameId(Long gameId, int afterSequence) {
+        return findByGameId(gameId, afterSequence, Integer.MAX_VALUE);
+    }
+}
@@ -0,0 +1,120 @@
+package com.vgs.web_service.infrastructure.memory;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.scheduling.annotation.Scheduled;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+
+/**
+ * Writes every in-memory game, with its moves, to a local file and restores them on startup. A
+ * snapshot goes to a temporary file first and is then moved over the previous one, so a crash
+ * while writing leaves the last complete snapshot. Games keep being played while it is written,
+ * so each game is as of the moment it was reached.
+ */
+public class InMemorySnapshots {
+    private static final Logger log = LoggerFactory.getLogger(InMemorySnapshots.class);
+
+    private static final int MAGIC = 0x54545447;
+    private static final int FORMAT = 1;
+
+    private final InMemoryGameStore store;
+    private final Path path;
+
+    public InMemorySnapshots(InMemoryGameStore store, Path path) {
+        this.store = store;
+        this.path = path;
+    }
+
+    /**
+     * Loads the snapshot file, if there is one, and returns how many games it held.
+     */
+    public long restore() {
+        if (!Files.exists(path)) {
+            log.info("In-memory snapshot: {} does not exist, starting empty", path);
+            return 0;
+        }
+        long started = System.nanoTime();
+        long restored = 0;
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(Files.newInputStream(path)))) {
+            if (in.readInt() != MAGIC || in.readInt() != FORMAT) {
+                throw new IOException("Not a game snapshot of format " + FORMAT + ": " + path);
+            }
+            while (in.readBoolean()) {
+                store.restore(StoredGame.readFrom(in), MoveLog.readFrom(in));
+                restored++;
+            }
+        } catch (IOException ex) {
+            throw new UncheckedIOException("Could not restore games from " + path, ex);
+        }
+        log.info("In-memory snapshot: restored {} games from {} ({} ms)",
+                restored, path, Duration.ofNanos(System.nanoTime() - started).toMillis());
+        return restored;
+    }
+
+    /**
+     * Writes a snapshot of every game and returns how many were written.
+     */
+    public long write() {
+        long started = System.nanoTime();
+        long[] written = {0};
+        Path temporary = path.resolveSibling(path.getFileName() + ".tmp");
+        try {
+            if (path.getParent() != null) {
+                Files.createDirectories(path.getParent());
+            }
+            try (FileChannel channel = FileChannel.open(temporary, StandardOpenOption.CREATE,
+                    StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE)) {
+                DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Channels.newOutputStream(channel)));
+                out.writeInt(MAGIC);
+                out.writeInt(FORMAT);
+                store.forEachGame(game -> {
+                    try {
+                        out.writeBoolean(true);
+                        game.writeTo(out);
+                        MoveLog moveLog = store.moveLog(game.id());
+                        if (moveLog != null) {
+                            moveLog.writeTo(out);
+                        } else {
+                            out.writeInt(0);
+                        }
+                        written[0]++;
+                    } catch (IOException ex) {
+                        throw new UncheckedIOException(ex);
+                    }
+                });
+                out.writeBoolean(false);
+                out.flush();
+                channel.force(true);
+            }
+            Files.move(temporary, path, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException ex) {
+            throw new UncheckedIOException("Could not write games to " + path, ex);
+        }
+        log.info("In-memory snapshot: wrote {} games to {} ({} ms)",
+                written[0], path, Duration.ofNanos(System.nanoTime() - started).toMillis());
+        return written[0];
+    }
+
+    @Scheduled(initialDelayString = "${game.in-memory.snapshot.interval:1m}",
+            fixedDelayString = "${game.in-memory.snapshot.interval:1m}")
+    public void scheduledWrite() {
+        try {
+            write();
+        } catch (RuntimeException ex) {
+            log.warn("In-memory snapshot failed", ex);
+        }
+    }
+}
@@ -0,0 +1,66 @@
+package com.vgs.web_service.infrastructure.memory;
+
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.AbstractPlatformTransactionManager;
+import org.springframework.transaction.support.DefaultTransactionStatus;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * Transactions over an {@link InMemoryGameStore}: the repositories' writes are collected in
+ * {@link PendingWrites} bound to the thread and applied on commit. A rollback drops them.
+ */
+public class InMemoryTransactionManager extends AbstractPlatformTransactionManager {
+    private final InMemoryGameStore store;
+
+    public InMemoryTransactionManager(InMemoryGameStore store) {
+        this.store = store;
+    }
+
+    private static final class Transaction {
+        PendingWrites writes;
+    }
+
+    @Override
+    protected Object doGetTransaction() {
+        Transaction transaction = new Transaction();
+        transaction.writes = (PendingWrites) TransactionSynchronizationManager.getResource(store);
+        return transaction;
+    }
+
+    @Override
+    protected boolean isExistingTransaction(Object transaction) {
+        return ((Transaction) transaction).writes != null;
+    }
+
+    @Override
+    protected void doBegin(Object transaction, TransactionDefinition definition) {
+        PendingWrites writes = new PendingWrites();
+        ((Transaction) transaction).writes = writes;
+        TransactionSynchronizationManager.bindResource(store, writes);
+    }
+
+    @Override
+    protected Object doSuspend(Object transaction) {
+        ((Transaction) transaction).writes = null;
+        return TransactionSynchronizationManager.unbindResource(store);
+    }
+
+    @Override
+    protected void doResume(Object transaction, Object suspendedResources) {
+        TransactionSynchronizationManager.bindResource(store, suspendedResources);
+    }
+
+    @Override
+    protected void doCommit(DefaultTransactionStatus status) {
+        store.commit(((Transaction) status.getTransaction()).writes);
+    }
+
+    @Override
+    protected void doRollback(DefaultTransactionStatus status) {
+    }
+
+    @Override
+    protected void doCleanupAfterCompletion(Object transaction) {
+        TransactionSynchronizationManager.unbindResourceIfPossible(store);
+    }
+}
@@ -0,0 +1,106 @@
+package com.vgs.web_service.infrastructure.memory;
+
+import com.vgs.web_service.domain.model.CellValue;
+import com.vgs.web_service.domain.model.GameMode;
+import com.vgs.web_service.domain.model.GameStatus;
+import com.vgs.web_service.domain.model.Move;
+
+import java.nio.ByteBuffer;
+
+/**
+ * Layout of the fixed-size journal records. A new game is a {@code GAME} record with what never
+ * changes followed by a {@code STATE} record; every later save is a {@code STATE} record and every
+ * move a {@code MOVE} record. Enums are stored by ordinal, so new constants may only be appended.
+ *
+ * <pre>
+ * offset  GAME           STATE          MOVE
+ * 0       type           type           type
+ * 1       mode           status         player
+ * 2       board size     current turn   x
+ * 3       win length     -              y
+ * 4       -              move count     sequence
+ * 8       game id        game id        game id
+ * 16      created at     version        played at
+ * 24      -              turn deadline  -
+ * 40      records of the same commit that follow, written by the journal
+ * </pre>
+ */
+final class JournalRecords {
+    static final byte GAME = 1;
+    static final byte STATE = 2;
+    static final byte MOVE = 3;
+
+    private static final GameMode[] MODES = GameMode.values();
+    private static final GameStatus[] STATUSES = GameStatus.values();
+    private static final CellValue[] CELL_VALUES = CellValue.values();
+
+    private JournalRecords() {
+    }
+
+    static void putGame(ByteBuffer record, StoredGame game) {
+        record.put(0, GAME)
+                .put(1, (byte) game.mode().ordinal())
+                .put(2, (byte) game.boardSize())
+                .put(3, (byte) game.winLength())
+                .putLong(8, game.id())
+                .putLong(16, game.createdAt());
+    }
+
+    static void putState(ByteBuffer record, StoredGame game) {
+        record.put(0, STATE)
+                .put(1, (byte) game.status().ordinal())
+                .put(2, (byte) game.currentTurn().ordinal())
+                .putInt(4, game.moveCount())
+                .putLong(8, game.id())
+                .putLong(16, game.version())
+                .putLong(24, game.turnDeadline());
+    }
+
+    static void putMove(ByteBuffer record, Move move) {
+        record.put(0, MOVE)
+                .put(1, (byte) move.getPlayer().ordinal())
+                .put(2, (byte) move.getX())
+                .put(3, (byte) move.getY())
+                .putInt(4, move.getSequence())
+                .putLong(8, move.getGameId())
+                .putLong(16, StoredGame.toNanos(move.getCreatedAt()));
+    }
+
+    static byte type(ByteBuffer record) {
+        return record.get(0);
+    }
+
+    static long gameId(ByteBuffer record) {
+        return record.getLong(8);
+    }
+
+    // A new game starts empty at version -1, so the STATE record that follows it always applies
+    static StoredGame newGame(ByteBuffer record) {
+        int size = record.get(2);
+        int winLength = record.get(3);
+        return new StoredGame(gameId(record), -1, record.getLong(16), StoredGame.NO_DEADLINE,
+                GameStatus.IN_PROGRESS, CellValue.X, MODES[record.get(1)], size, winLength, 0,
+                StoredGame.emptyBoard(size));
+    }
+
+    static long version(ByteBuffer record) {
+        return record.getLong(16);
+    }
+
+    static StoredGame withState(StoredGame game, ByteBuffer record) {
+        return new StoredGame(game.id(), record.getLong(16), game.createdAt(), record.getLong(24),
+                STATUSES[record.get(1)], CELL_VALUES[record.get(2)], game.mode(), game.boardSize(),
+                game.winLength(), record.getInt(4), game.board());
+    }
+
+    static Move move(ByteBuffer record) {
+        return Move.builder()
+                .gameId(gameId(record))
+                .sequence(record.getInt(4))
+                .player(CELL_VALUES[record.get(1)])
+                .x(record.get(2))
+                .y(record.get(3))
+                .createdAt(StoredGame.toDateTime(record.getLong(16)))
+                .build();
+    }
+}
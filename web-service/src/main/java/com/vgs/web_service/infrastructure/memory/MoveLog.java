@@ -0,0 +1,105 @@
+package com.vgs.web_service.infrastructure.memory;
+
+import com.vgs.web_service.domain.model.CellValue;
+import com.vgs.web_service.domain.model.Move;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * The moves of one game, indexed by sequence: each move packed into an int (player, row and
+ * column) with the time it was played in epoch nanoseconds. A packed move is never 0, so 0 marks
+ * a sequence not appended yet; reads stop at the first one.
+ */
+final class MoveLog {
+    private static final int INITIAL_CAPACITY = 16;
+
+    private int[] moves;
+    private long[] playedAt;
+
+    MoveLog() {
+        this(new int[INITIAL_CAPACITY], new long[INITIAL_CAPACITY]);
+    }
+
+    private MoveLog(int[] moves, long[] playedAt) {
+        this.moves = moves;
+        this.playedAt = playedAt;
+    }
+
+    synchronized void append(Move move) {
+        int index = move.getSequence() - 1;
+        if (index < moves.length && moves[index] != 0) {
+            throw new IllegalStateException("Move sequence already appended: gameId=" + move.getGameId()
+                    + ", sequence=" + move.getSequence());
+        }
+        restore(move);
+    }
+
+    /**
+     * Sets the move at its sequence, whether or not it was already there.
+     */
+    synchronized void restore(Move move) {
+        int index = move.getSequence() - 1;
+        if (index >= moves.length) {
+            int capacity = Math.max(index + 1, moves.length * 2);
+            moves = Arrays.copyOf(moves, capacity);
+            playedAt = Arrays.copyOf(playedAt, capacity);
+        }
+        moves[index] = pack(move.getPlayer(), move.getX(), move.getY());
+        playedAt[index] = StoredGame.toNanos(move.getCreatedAt());
+    }
+
+    synchronized List<Move> after(long gameId, int afterSequence, int limit) {
+        List<Move> page = new ArrayList<>(Math.min(limit, 64));
+        for (int index = Math.max(afterSequence, 0); index < moves.length && moves[index] != 0 && page.size() < limit; index++) {
+            int packed = moves[index];
+            page.add(Move.builder()
+                    .gameId(gameId)
+                    .sequence(index + 1)
+                    .player((packed & 1) == 0 ? CellValue.X : CellValue.O)
+                    .x(packed >>> 1 & 0xFF)
+                    .y(packed >>> 9 & 0xFF)
+                    .createdAt(StoredGame.toDateTime(playedAt[index]))
+                    .build());
+        }
+        return page;
+    }
+
+    synchronized void writeTo(DataOutput out) throws IOException {
+        int count = appended();
+        out.writeInt(count);
+        for (int index = 0; index < count; index++) {
+            out.writeInt(moves[index]);
+            out.writeLong(playedAt[index]);
+        }
+    }
+
+    static MoveLog readFrom(DataInput in) throws IOException {
+        int count = in.readInt();
+        int capacity = Math.max(count, INITIAL_CAPACITY);
+        int[] moves = new int[capacity];
+        long[] playedAt = new long[capacity];
+        for (int index = 0; index < count; index++) {
+            moves[index] = in.readInt();
+            playedAt[index] = in.readLong();
+        }
+        return new MoveLog(moves, playedAt);
+    }
+
+    private int appended() {
+        int count = 0;
+        while (count < moves.length && moves[count] != 0) {
+            count++;
+        }
+        return count;
+    }
+
+    // Rows and columns start at 1, so a packed move is never 0
+    private static int pack(CellValue player, int x, int y) {
+        return (player == CellValue.O ? 1 : 0) | x << 1 | y << 9;
+    }
+}
@@ -0,0 +1,50 @@
+package com.vgs.web_service.infrastructure.memory;
+
+import com.vgs.web_service.domain.model.Move;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * The saves and appended moves of one transaction, grouped by game and applied when it commits.
+ */
+final class PendingWrites {
+    static final long NEW_GAME = -1;
+
+    private final Map<Long, GameWrite> writes = new LinkedHashMap<>();
+
+    static final class GameWrite {
+        final long gameId;
+        StoredGame game;
+        long expectedVersion = NEW_GAME;
+        final List<Move> moves = new ArrayList<>(2);
+
+        private GameWrite(long gameId) {
+            this.gameId = gameId;
+        }
+    }
+
+    // A game saved twice in one transaction is checked against the version it was loaded with
+    void save(StoredGame game, long expectedVersion) {
+        GameWrite write = writes.get(game.id());
+        if (write == null) {
+            write = new GameWrite(game.id());
+            write.expectedVersion = expectedVersion;
+            writes.put(game.id(), write);
+        } else if (write.game == null) {
+            write.expectedVersion = expectedVersion;
+        }
+        write.game = game;
+    }
+
+    void append(Move move) {
+        writes.computeIfAbsent(move.getGameId(), GameWrite::new).moves.add(move);
+    }
+
+    Collection<GameWrite> games() {
+        return writes.values();
+    }
+}
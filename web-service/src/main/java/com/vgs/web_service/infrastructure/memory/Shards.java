@@ -0,0 +1,41 @@
+package com.vgs.web_service.infrastructure.memory;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
+
+/**
+ * A fixed number of concurrent maps keyed by game id. Ids are sequential, so their low bits spread
+ * games evenly, and each map stays small enough to resize and scan without stalling the others.
+ */
+final class Shards<V> {
+    private final ConcurrentHashMap<Long, V>[] maps;
+    private final int mask;
+
+    @SuppressWarnings("unchecked")
+    Shards(int count) {
+        int size = count <= 1 ? 1 : Integer.highestOneBit(count - 1) << 1;
+        maps = new ConcurrentHashMap[size];
+        for (int i = 0; i < size; i++) {
+            maps[i] = new ConcurrentHashMap<>();
+        }
+        mask = size - 1;
+    }
+
+    ConcurrentHashMap<Long, V> of(long id) {
+        return maps[Long.hashCode(id) & mask];
+    }
+
+    void forEach(Consumer<V> action) {
+        for (ConcurrentHashMap<Long, V> map : maps) {
+            map.values().forEach(action);
+        }
+    }
+
+    long size() {
+        long size = 0;
+        for (ConcurrentHashMap<Long, V> map : maps) {
+            size += map.size();
+        }
+        return size;
+    }
+}
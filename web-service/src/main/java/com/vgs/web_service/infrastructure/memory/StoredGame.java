@@ -0,0 +1,130 @@
+package com.vgs.web_service.infrastructure.memory;
+
+import com.vgs.web_service.domain.model.Board;
+import com.vgs.web_service.domain.model.CellValue;
+import com.vgs.web_service.domain.model.Game;
+import com.vgs.web_service.domain.model.GameMode;
+import com.vgs.web_service.domain.model.GameStatus;
+import com.vgs.web_service.domain.model.GameSummary;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+
+/**
+ * Immutable state of a game as kept in memory: times as epoch nanoseconds and the board as the
+ * bitset words of {@link Board#toBits()}. Every save replaces the whole record.
+ */
+record StoredGame(
+        long id,
+        long version,
+        long createdAt,
+        long turnDeadline,
+        GameStatus status,
+        CellValue currentTurn,
+        GameMode mode,
+        int boardSize,
+        int winLength,
+        int moveCount,
+        long[] board) {
+
+    static final long NO_DEADLINE = Long.MIN_VALUE;
+
+    static StoredGame of(Game game, long version) {
+        Board board = game.getBoard();
+        return new StoredGame(
+                game.getId(),
+                version,
+                toNanos(game.getCreatedAt()),
+                game.getTurnDeadline() != null ? toNanos(game.getTurnDeadline()) : NO_DEADLINE,
+                game.getStatus(),
+                game.getCurrentTurn(),
+                game.getMode() != null ? game.getMode() : GameMode.TWO_PLAYER,
+                board.size(),
+                board.winLength(),
+                game.getMoveCount(),
+                board.toBits());
+    }
+
+    Game toGame() {
+        return Game.builder()
+                .id(id)
+                .version(version)
+                .createdAt(toDateTime(createdAt))
+                .turnDeadline(turnDeadline != NO_DEADLINE ? toDateTime(turnDeadline) : null)
+                .status(status)
+                .currentTurn(currentTurn)
+                .mode(mode)
+                .boardSize(boardSize)
+                .winLength(winLength)
+                .moveCount(moveCount)
+                .snapshotMoveCount(moveCount)
+                .board(Board.fromBits(board, boardSize, winLength))
+                .build();
+    }
+
+    GameSummary toSummary() {
+        return new GameSummary(id, status, currentTurn, mode, boardSize, winLength, moveCount, toDateTime(createdAt));
+    }
+
+    static long[] emptyBoard(int size) {
+        return new long[2 * ((size * size + Long.SIZE - 1) / Long.SIZE)];
+    }
+
+    /**
+     * Marks a move on the board words in place. Only used while the journal is replayed, before
+     * the record is shared.
+     */
+    void place(CellValue player, int x, int y) {
+        int index = (x - 1) * boardSize + (y - 1);
+        int word = (player == CellValue.O ? board.length / 2 : 0) + (index >>> 6);
+        board[word] |= 1L << index;
+    }
+
+    void writeTo(DataOutput out) throws IOException {
+        out.writeLong(id);
+        out.writeLong(version);
+        out.writeLong(createdAt);
+        out.writeLong(turnDeadline);
+        out.writeUTF(status.name());
+        out.writeUTF(currentTurn.name());
+        out.writeUTF(mode.name());
+        out.writeByte(boardSize);
+        out.writeByte(winLength);
+        out.writeInt(moveCount);
+        out.writeShort(board.length);
+        for (long word : board) {
+            out.writeLong(word);
+        }
+    }
+
+    static StoredGame readFrom(DataInput in) throws IOException {
+        long id = in.readLong();
+        long version = in.readLong();
+        long createdAt = in.readLong();
+        long turnDeadline = in.readLong();
+        GameStatus status = GameStatus.valueOf(in.readUTF());
+        CellValue currentTurn = CellValue.valueOf(in.readUTF());
+        GameMode mode = GameMode.valueOf(in.readUTF());
+        int boardSize = in.readByte();
+        int winLength = in.readByte();
+        int moveCount = in.readInt();
+        long[] board = new long[in.readShort()];
+        for (int word = 0; word < board.length; word++) {
+            board[word] = in.readLong();
+        }
+        return new StoredGame(id, version, createdAt, turnDeadline, status, currentTurn, mode,
+                boardSize, winLength, moveCount, board);
+    }
+
+    static long toNanos(LocalDateTime time) {
+        return time.toEpochSecond(ZoneOffset.UTC) * 1_000_000_000L + time.getNano();
+    }
+
+    static LocalDateTime toDateTime(long nanos) {
+        return LocalDateTime.ofEpochSecond(Math.floorDiv(nanos, 1_000_000_000L),
+                (int) Math.floorMod(nanos, 1_000_000_000L), ZoneOffset.UTC);
+    }
+}
@@ -0,0 +1,48 @@
+package com.vgs.web_service.infrastructure.metrics;
+
+import com.vgs.web_service.domain.model.GameStatus;
+import com.vgs.web_service.domain.repository.GameRepository;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Number of games per {@link GameStatus}. Counting is a database query, so it is refreshed on a
+ * schedule rather than on every scrape.
+ */
+@Component
+public class GameStatusGauges {
+    private static final Logger log = LoggerFactory.getLogger(GameStatusGauges.class);
+
+    private final GameRepository gameRepository;
+    private final Map<GameStatus, AtomicLong> counts = new EnumMap<>(GameStatus.class);
+
+    public GameStatusGauges(GameRepository gameRepository, MeterRegistry meterRegistry) {
+        this.gameRepository = gameRepository;
+        for (GameStatus status : GameStatus.values()) {
+            AtomicLong count = new AtomicLong();
+            counts.put(status, count);
+            Gauge.builder("game.count", count, AtomicLong::get)
+                    .description("Games per status, as of the last refresh")
+                    .tag("status", status.name())
+                    .register(meterRegistry);
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${game.metrics.status-refresh-interval:30s}")
+    public void refresh() {
+        try {
+            Map<GameStatus, Long> current = gameRepository.countByStatus();
+            counts.forEach((status, count) -> count.set(current.getOrDefault(status, 0L)));
+        } catch (RuntimeException ex) {
+            log.warn("Could not refresh game status counts", ex);
+        }
+    }
+}
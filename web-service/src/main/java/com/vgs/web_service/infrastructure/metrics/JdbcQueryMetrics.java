@@ -0,0 +1,50 @@
+package com.vgs.web_service.infrastructure.metrics;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.stereotype.Component;
+
+/**
+ * Timers for the queries run through {@code JdbcTemplate}, which the Spring Data repository
+ * metrics don't see. Registered once, like the move phase timers.
+ */
+@Component
+public class JdbcQueryMetrics {
+    private final Timer readOnly;
+    private final Timer summaries;
+    private final Timer export;
+
+    public JdbcQueryMetrics(MeterRegistry registry) {
+        this.readOnly = queryTimer(registry, "read_only");
+        this.summaries = queryTimer(registry, "summaries");
+        this.export = queryTimer(registry, "export");
+    }
+
+    /**
+     * The single-query read of a game and the moves after its snapshot.
+     */
+    public Timer readOnly() {
+        return readOnly;
+    }
+
+    /**
+     * A page of the game listing.
+     */
+    public Timer summaries() {
+        return summaries;
+    }
+
+    /**
+     * Opening the cursor of an export, up to its first fetch; reading the rest is paced by the client.
+     */
+    public Timer export() {
+        return export;
+    }
+
+    private static Timer queryTimer(MeterRegistry registry, String query) {
+        return Timer.builder("game.jdbc.queries")
+                .description("Latency of the queries made outside of Spring Data repositories")
+                .tag("query", query)
+                .register(registry);
+    }
+}
@@ -0,0 +1,23 @@
+package com.vgs.web_service.infrastructure.metrics;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import javax.sql.DataSource;
+import java.sql.SQLException;
+import java.sql.Statement;
+
+/**
+ * Counts every statement run through the template, the queries made outside of Hibernate.
+ */
+public class RoundTripJdbcTemplate extends JdbcTemplate {
+
+    public RoundTripJdbcTemplate(DataSource dataSource) {
+        super(dataSource);
+    }
+
+    @Override
+    protected void applyStatementSettings(Statement stmt) throws SQLException {
+        RoundTrips.database();
+        super.applyStatementSettings(stmt);
+    }
+}
@@ -0,0 +1,61 @@
+package com.vgs.web_service.infrastructure.metrics;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.io.IOException;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Records how many database statements and cache hits each API request needed, tagged by endpoint.
+ * Work done after an asynchronous request has started (streamed responses) is not counted.
+ */
+@Component
+@RequiredArgsConstructor
+public class RoundTripMetricsFilter extends OncePerRequestFilter {
+    private final MeterRegistry meterRegistry;
+    // Built once per endpoint, so a request only records into them
+    private final Map<String, Summaries> summaries = new ConcurrentHashMap<>();
+
+    private record Summaries(DistributionSummary database, DistributionSummary cache) {
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !request.getRequestURI().startsWith("/api/");
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        RoundTrips.Counts counts = RoundTrips.start();
+        try {
+            chain.doFilter(request, response);
+        } finally {
+            RoundTrips.stop();
+            Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+            String uri = pattern != null ? pattern.toString() : "UNKNOWN";
+            Summaries endpoint = summaries.computeIfAbsent(uri,
+                    key -> new Summaries(summary(key, "database"), summary(key, "cache")));
+            endpoint.database().record(counts.database);
+            endpoint.cache().record(counts.cacheHits);
+        }
+    }
+
+    private DistributionSummary summary(String uri, String target) {
+        return DistributionSummary.builder("game.request.round.trips")
+                .description("Database statements or cache hits needed to serve a request")
+                .tag("uri", uri)
+                .tag("target", target)
+                .register(meterRegistry);
+    }
+}
@@ -0,0 +1,16 @@
+package com.vgs.web_service.infrastructure.metrics;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+/**
+ * Counts every statement Hibernate prepares. A JDBC batch is prepared once, so it counts as the
+ * single round trip it is.
+ */
+public class RoundTripStatementInspector implements StatementInspector {
+
+    @Override
+    public String inspect(String sql) {
+        RoundTrips.database();
+        return sql;
+    }
+}
@@ -0,0 +1,64 @@
+package com.vgs.web_service.infrastructure.metrics;
+
+/**
+ * Counts the database statements and cache hits made on behalf of the current request thread.
+ * Counting is a no-op outside of a request started by {@link RoundTripMetricsFilter}.
+ */
+public final class RoundTrips {
+    private static final ThreadLocal<Counts> CURRENT = new ThreadLocal<>();
+
+    private RoundTrips() {
+    }
+
+    public static void database() {
+        Counts counts = CURRENT.get();
+        if (counts != null) {
+            counts.database++;
+        }
+    }
+
+    public static void cacheHit() {
+        Counts counts = CURRENT.get();
+        if (counts != null) {
+            counts.cacheHits++;
+        }
+    }
+
+    /**
+     * Wraps {@code task} so what it does on another thread counts for the current request.
+     */
+    public static Runnable propagate(Runnable task) {
+        Counts counts = CURRENT.get();
+        if (counts == null) {
+            return task;
+        }
+        return () -> {
+            Counts previous = CURRENT.get();
+            CURRENT.set(counts);
+            try {
+                task.run();
+            } finally {
+                if (previous != null) {
+                    CURRENT.set(previous);
+                } else {
+                    CURRENT.remove();
+                }
+            }
+        };
+    }
+
+    static Counts start() {
+        Counts counts = new Counts();
+        CURRENT.set(counts);
+        return counts;
+    }
+
+    static void stop() {
+        CURRENT.remove();
+    }
+
+    static final class Counts {
+        int database;
+        int cacheHits;
+    }
+}
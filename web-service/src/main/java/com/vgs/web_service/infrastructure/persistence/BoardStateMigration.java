@@ -0,0 +1,77 @@
+package com.vgs.web_service.infrastructure.persistence;
+
+import com.vgs.web_service.domain.model.Board;
+import com.vgs.web_service.infrastructure.config.GamePersistenceProperties;
+import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+/**
+ * Backfills {@code games.board_state} from the legacy {@code cells} rows in bounded batches,
+ * and optionally deletes those rows afterwards when running with compact storage.
+ */
+@Component
+@ConditionalOnProperty(prefix = "game.persistence.migration", name = "enabled", havingValue = "true")
+@RequiredArgsConstructor
+public class BoardStateMigration implements ApplicationRunner {
+    private static final Logger log = LoggerFactory.getLogger(BoardStateMigration.class);
+
+    private static final String EMPTY_BOARD = String.valueOf(Board.EMPTY_CHAR).repeat(Board.CELL_COUNT);
+
+    private static final String BACKFILL_BATCH = """
+            UPDATE games g SET board_state = s.state
+            FROM (
+                SELECT pending.id,
+                       COALESCE(string_agg(CASE c.value WHEN 'X' THEN 'X' WHEN 'O' THEN 'O' ELSE '%s' END, ''
+                                ORDER BY c.row_number, c.column_number), '%s') AS state
+                FROM (SELECT id FROM games WHERE board_state IS NULL ORDER BY id LIMIT ?) pending
+                LEFT JOIN cells c ON c.game_id = pending.id
+                GROUP BY pending.id
+            ) s
+            WHERE g.id = s.id
+            """.formatted(Board.EMPTY_CHAR, EMPTY_BOARD);
+
+    private static final String DROP_CELLS_BATCH = """
+            DELETE FROM cells WHERE id IN (
+                SELECT c.id FROM cells c JOIN games g ON g.id = c.game_id
+                WHERE g.board_state IS NOT NULL
+                LIMIT ?
+            )
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final GamePersistenceProperties properties;
+
+    @Override
+    public void run(ApplicationArguments args) {
+        int batchSize = properties.getMigration().getBatchSize();
+
+        long backfilled = runInBatches(BACKFILL_BATCH, batchSize);
+        log.info("Board state migration: backfilled {} games from cells", backfilled);
+
+        if (properties.getMigration().isDropCells()) {
+            if (properties.getBoardStorage() != BoardStorage.COMPACT) {
+                log.warn("Board state migration: drop-cells ignored because board storage is {}", properties.getBoardStorage());
+                return;
+            }
+            long dropped = runInBatches(DROP_CELLS_BATCH, batchSize * Board.CELL_COUNT);
+            log.info("Board state migration: deleted {} migrated cell rows", dropped);
+        }
+    }
+
+    // Each statement auto-commits, so a batch never holds locks for longer than one round trip
+    private long runInBatches(String sql, int batchSize) {
+        long total = 0;
+        int updated;
+        do {
+            updated = jdbcTemplate.update(sql, batchSize);
+            total += updated;
+        } while (updated > 0);
+        return total;
+    }
+}
@@ -0,0 +1,16 @@
+package com.vgs.web_service.infrastructure.persistence;
+
+/**
+ * Where the board of a game is persisted.
+ */
+public enum BoardStorage {
+    /** One row per cell in the {@code cells} table, mirrored from the board. */
+    CELLS,
+    /** Only the encoded {@code board_state} column on the {@code games} row. */
+    COMPACT,
+    /**
+     * The {@code moves} history, with {@code board_state} as a snapshot refreshed every
+     * {@code snapshot-interval} moves. Loading a game replays the moves made after its snapshot.
+     */
+    EVENTS
+}
@@ -0,0 +1,140 @@
+package com.vgs.web_service.infrastructure.persistence;
+
+import com.vgs.web_service.infrastructure.config.GamePersistenceProperties;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+
+/**
+ * Moves games finished more than {@code game.persistence.archive.max-age} ago, together with their
+ * cells and moves, into {@code games_archive}, {@code cells_archive} and {@code moves_archive}.
+ * Each batch is one statement, so a game is never half archived, and the hot tables only keep
+ * games that are still played or recently finished.
+ */
+@Component
+@ConditionalOnProperty(prefix = "game.persistence.archive", name = "enabled", havingValue = "true")
+public class GameArchiver {
+    private static final Logger log = LoggerFactory.getLogger(GameArchiver.class);
+
+    private static final String GAME_COLUMNS = "id, version, created_at, status, current_turn, mode, board_size,"
+            + " win_length, turn_deadline, finished_at, board_state, move_count, snapshot_move_count";
+    private static final String CELL_COLUMNS = "id, game_id, row_number, column_number, value";
+    private static final String MOVE_COLUMNS = "id, game_id, sequence, player, x, y, created_at";
+
+    // One statement per batch: the cells foreign key is checked once both the cells and their games are gone.
+    // Columns are named, so the archive tables created by V4 need not list them in the same order.
+    private static final String ARCHIVE_BATCH = """
+            WITH batch AS (
+                SELECT id FROM games
+                WHERE finished_at < ?
+                LIMIT ?
+                FOR UPDATE SKIP LOCKED
+            ), deleted_cells AS (
+                DELETE FROM cells WHERE game_id IN (SELECT id FROM batch) RETURNING %1$s
+            ), archived_cells AS (
+                INSERT INTO cells_archive (%1$s) SELECT %1$s FROM deleted_cells RETURNING 1
+            ), deleted_moves AS (
+                DELETE FROM moves WHERE game_id IN (SELECT id FROM batch) RETURNING %2$s
+            ), archived_moves AS (
+                INSERT INTO moves_archive (%2$s) SELECT %2$s FROM deleted_moves RETURNING 1
+            ), deleted_games AS (
+                DELETE FROM games WHERE id IN (SELECT id FROM batch) RETURNING %3$s
+            ), archived_games AS (
+                INSERT INTO games_archive (%3$s) SELECT %3$s FROM deleted_games RETURNING 1
+            )
+            SELECT (SELECT count(*) FROM archived_games) AS games,
+                   (SELECT count(*) FROM archived_cells) AS cells,
+                   (SELECT count(*) FROM archived_moves) AS moves
+            """.formatted(CELL_COLUMNS, MOVE_COLUMNS, GAME_COLUMNS);
+
+    private final JdbcTemplate jdbcTemplate;
+    private final GamePersistenceProperties.Archive properties;
+    private final Counter archivedGames;
+    private final Counter archivedCells;
+    private final Counter archivedMoves;
+
+    public GameArchiver(JdbcTemplate jdbcTemplate, GamePersistenceProperties properties, MeterRegistry meterRegistry) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.properties = properties.getArchive();
+        this.archivedGames = archivedRows(meterRegistry, "games");
+        this.archivedCells = archivedRows(meterRegistry, "cells");
+        this.archivedMoves = archivedRows(meterRegistry, "moves");
+    }
+
+    public record Result(int batches, long games, long cells, long moves) {
+        Result plus(Result batch) {
+            return new Result(batches + batch.batches, games + batch.games, cells + batch.cells, moves + batch.moves);
+        }
+    }
+
+    @Scheduled(initialDelayString = "${game.persistence.archive.interval:1h}",
+            fixedDelayString = "${game.persistence.archive.interval:1h}")
+    public void scheduledRun() {
+        try {
+            archive();
+        } catch (RuntimeException ex) {
+            log.warn("Game archival failed", ex);
+        }
+    }
+
+    /**
+     * Archives up to {@code max-batches-per-run} batches of eligible games, pausing between them,
+     * and returns how many rows were moved.
+     */
+    public Result archive() {
+        LocalDateTime cutoff = LocalDateTime.now().minus(properties.getMaxAge());
+        long started = System.nanoTime();
+
+        Result total = new Result(0, 0, 0, 0);
+        while (total.batches() < properties.getMaxBatchesPerRun()) {
+            Result batch = archiveBatch(cutoff);
+            if (batch.games() == 0) {
+                break;
+            }
+            total = total.plus(batch);
+            if (batch.games() < properties.getBatchSize() || !pause()) {
+                break;
+            }
+        }
+
+        log.info("Game archival: moved {} games, {} cells and {} moves finished before {} in {} batches ({} ms)",
+                total.games(), total.cells(), total.moves(), cutoff, total.batches(),
+                Duration.ofNanos(System.nanoTime() - started).toMillis());
+        return total;
+    }
+
+    private Result archiveBatch(LocalDateTime cutoff) {
+        Result batch = jdbcTemplate.queryForObject(ARCHIVE_BATCH,
+                (rs, rowNum) -> new Result(1, rs.getLong("games"), rs.getLong("cells"), rs.getLong("moves")),
+                cutoff, properties.getBatchSize());
+        archivedGames.increment(batch.games());
+        archivedCells.increment(batch.cells());
+        archivedMoves.increment(batch.moves());
+        return batch;
+    }
+
+    private boolean pause() {
+        try {
+            Thread.sleep(properties.getBatchPause());
+            return true;
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    private static Counter archivedRows(MeterRegistry meterRegistry, String table) {
+        return Counter.builder("game.archive.rows")
+                .description("Rows moved to the archive tables")
+                .tag("table", table)
+                .register(meterRegistry);
+    }
+}
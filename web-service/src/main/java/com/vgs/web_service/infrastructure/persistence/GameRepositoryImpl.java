@@ -1,22 +1,234 @@
 package com.vgs.web_service.infrastructure.persistence;
 
+import com.vgs.web_service.domain.model.Board;
+import com.vgs.web_service.domain.model.CellValue;
 import com.vgs.web_service.domain.model.Game;
+import com.vgs.web_service.domain.model.GameMode;
+import com.vgs.web_service.domain.model.GameStatus;
+import com.vgs.web_service.domain.model.GameSummary;
+import com.vgs.web_service.domain.model.Move;
+import com.vgs.web_service.domain.repository.GameQuery;
 import com.vgs.web_service.domain.repository.GameRepository;
+import com.vgs.web_service.infrastructure.config.GamePersistenceProperties;
+import com.vgs.web_service.infrastructure.config.InMemoryPersistenceConfig;
+import com.vgs.web_service.infrastructure.metrics.JdbcQueryMetrics;
 import lombok.RequiredArgsConstructor;
+import org.hibernate.Hibernate;
+import org.springframework.context.annotation.Profile;
+import org.springframework.data.domain.Limit;
+import org.springframework.jdbc.core.ArgumentPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
 
 @Repository
+@Profile("!" + InMemoryPersistenceConfig.PROFILE)
 @RequiredArgsConstructor
 public class GameRepositoryImpl implements GameRepository {
+    // Rows the driver fetches per round trip when streaming; PostgreSQL only honours it inside a transaction
+    static final int STREAM_FETCH_SIZE = 500;
+
+    private static final String SUMMARY_SELECT =
+            "SELECT id, status, current_turn, mode, board_size, win_length, move_count, created_at FROM games";
+
+    // The game row repeated once per move made after its board snapshot, which in CELLS and COMPACT
+    // modes is none
+    private static final String READ_ONLY_SELECT = """
+            SELECT g.id, g.version, g.created_at, g.status, g.current_turn, g.mode, g.board_size, g.win_length,
+                   g.turn_deadline, g.finished_at, g.move_count, g.board_state, g.snapshot_move_count, m.player, m.x, m.y
+            FROM games g
+            LEFT JOIN moves m ON m.game_id = g.id AND m.sequence > g.snapshot_move_count
+            WHERE g.id = ?
+            ORDER BY m.sequence
+            """;
+
     private final JpaGameRepository jpaGameRepository;
+    // The stored moves; the primary MoveRepository may be the cache's, which is built on this repository
+    private final MoveRepositoryImpl moveRepository;
+    private final JdbcTemplate jdbcTemplate;
+    private final GamePersistenceProperties properties;
+    private final JdbcQueryMetrics queryMetrics;
 
     @Override
     public Game save(Game game) {
+        prepareForSave(game);
         return jpaGameRepository.save(game);
     }
 
     @Override
+    public List<Game> saveAll(List<Game> games) {
+        games.forEach(this::prepareForSave);
+        return jpaGameRepository.saveAll(games);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
     public Game findById(Long id) {
-        return jpaGameRepository.findById(id).orElse(null);
+        Game game = jpaGameRepository.findById(id).orElse(null);
+        if (game == null) {
+            return null;
+        }
+        if (properties.getBoardStorage() == BoardStorage.CELLS) {
+            // Moves keep the cell rows in sync only when they are loaded
+            Hibernate.initialize(game.getCells());
+        } else if (properties.getBoardStorage() == BoardStorage.EVENTS && game.getMoveCount() > game.getSnapshotMoveCount()) {
+            game.replay(moveRepository.findByGameId(id, game.getSnapshotMoveCount()));
+        }
+        return game;
+    }
+
+    /**
+     * Reads the game and its board in a single query, without creating an entity or loading cells.
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public Game findReadOnlyById(Long id) {
+        Game game = queryMetrics.readOnly().record(
+                () -> jdbcTemplate.query(READ_ONLY_SELECT, GameRepositoryImpl::extractReadOnly, id));
+        // Games saved before board_state existed only have their board in the cell rows
+        if (game != null && game.getBoardState() == null) {
+            return findById(id);
+        }
+        return game;
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Map<GameStatus, Long> countByStatus() {
+        Map<GameStatus, Long> counts = new EnumMap<>(GameStatus.class);
+        for (Object[] row : jpaGameRepository.countGroupedByStatus()) {
+            counts.put((GameStatus) row[0], (Long) row[1]);
+        }
+        return counts;
+    }
+
+    @Override
+    public List<Long> findExpiredIds(LocalDateTime now, int limit) {
+        return jpaGameRepository.findExpiredIds(now, Limit.of(limit));
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<GameSummary> findSummaries(GameQuery query, int limit) {
+        SummarySql sql = summarySql(query);
+        sql.args().add(limit);
+        return queryMetrics.summaries().record(
+                () -> jdbcTemplate.query(sql.text() + " LIMIT ?", GameRepositoryImpl::mapSummary, sql.args().toArray()));
+    }
+
+    @Override
+    public Stream<GameSummary> streamSummaries(GameQuery query) {
+        SummarySql sql = summarySql(query);
+        return queryMetrics.export().record(() -> jdbcTemplate.queryForStream(connection -> {
+            PreparedStatement statement = connection.prepareStatement(sql.text());
+            statement.setFetchSize(STREAM_FETCH_SIZE);
+            new ArgumentPreparedStatementSetter(sql.args().toArray()).setValues(statement);
+            return statement;
+        }, GameRepositoryImpl::mapSummary));
+    }
+
+    // The cursor is compared as a row value so the seek is a single index range condition
+    static SummarySql summarySql(GameQuery query) {
+        List<String> conditions = new ArrayList<>(4);
+        List<Object> args = new ArrayList<>(6);
+        if (query.status() != null) {
+            conditions.add("status = ?");
+            args.add(query.status().name());
+        }
+        if (query.createdFrom() != null) {
+            conditions.add("created_at >= ?");
+            args.add(query.createdFrom());
+        }
+        if (query.createdTo() != null) {
+            conditions.add("created_at < ?");
+            args.add(query.createdTo());
+        }
+        if (query.hasCursor()) {
+            conditions.add("(created_at, id) > (?, ?)");
+            args.add(query.afterCreatedAt());
+            args.add(query.afterId());
+        }
+        String where = conditions.isEmpty() ? "" : " WHERE " + String.join(" AND ", conditions);
+        return new SummarySql(SUMMARY_SELECT + where + " ORDER BY created_at, id", args);
+    }
+
+    // Games created before modes and board sizes existed have nulls there
+    private static GameSummary mapSummary(ResultSet rs, int rowNum) throws SQLException {
+        String mode = rs.getString("mode");
+        int boardSize = rs.getInt("board_size");
+        int winLength = rs.getInt("win_length");
+        return new GameSummary(
+                rs.getLong("id"),
+                GameStatus.valueOf(rs.getString("status")),
+                CellValue.valueOf(rs.getString("current_turn")),
+                mode != null ? GameMode.valueOf(mode) : GameMode.TWO_PLAYER,
+                boardSize != 0 ? boardSize : Board.SIZE,
+                winLength != 0 ? winLength : Board.SIZE,
+                rs.getInt("move_count"),
+                rs.getObject("created_at", LocalDateTime.class));
+    }
+
+    private static Game extractReadOnly(ResultSet rs) throws SQLException {
+        if (!rs.next()) {
+            return null;
+        }
+        String mode = rs.getString("mode");
+        Game game = Game.builder()
+                .id(rs.getLong("id"))
+                .version(rs.getObject("version", Long.class))
+                .createdAt(rs.getObject("created_at", LocalDateTime.class))
+                .status(GameStatus.valueOf(rs.getString("status")))
+                .currentTurn(CellValue.valueOf(rs.getString("current_turn")))
+                .mode(mode != null ? GameMode.valueOf(mode) : null)
+                .boardSize(rs.getObject("board_size", Integer.class))
+                .winLength(rs.getObject("win_length", Integer.class))
+                .turnDeadline(rs.getObject("turn_deadline", LocalDateTime.class))
+                .finishedAt(rs.getObject("finished_at", LocalDateTime.class))
+                .moveCount(rs.getInt("move_count"))
+                .boardState(rs.getString("board_state"))
+                .snapshotMoveCount(rs.getInt("snapshot_move_count"))
+                .build();
+        List<Move> moves = new ArrayList<>();
+        do {
+            String player = rs.getString("player");
+            if (player != null) {
+                moves.add(Move.builder()
+                        .player(CellValue.valueOf(player))
+                        .x(rs.getInt("x"))
+                        .y(rs.getInt("y"))
+                        .build());
+            }
+        } while (rs.next());
+        if (game.getBoardState() != null) {
+            game.replay(moves);
+        }
+        return game;
+    }
+
+    record SummarySql(String text, List<Object> args) {
+    }
+
+    private void prepareForSave(Game game) {
+        if (properties.getBoardStorage() == BoardStorage.CELLS) {
+            game.initializeBoard();
+        }
+        // In EVENTS mode the moves table is the record of the board, so board_state only needs to
+        // keep replays short, and is always current once the game is over
+        if (properties.getBoardStorage() != BoardStorage.EVENTS
+                || game.getBoardState() == null
+                || game.getStatus() != GameStatus.IN_PROGRESS
+                || game.getMoveCount() - game.getSnapshotMoveCount() >= properties.getSnapshotInterval()) {
+            game.snapshot();
+        }
     }
-}
\ No newline at end of file
+}
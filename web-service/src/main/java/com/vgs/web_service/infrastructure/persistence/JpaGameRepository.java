@@ -1,7 +1,20 @@
 package com.vgs.web_service.infrastructure.persistence;
 
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 import com.vgs.web_service.domain.model.Game;
 
+import java.time.LocalDateTime;
+import java.util.List;
+
 interface JpaGameRepository extends JpaRepository<Game, Long> {
-}
\ No newline at end of file
+
+    @Query("select g.status, count(g) from Game g group by g.status")
+    List<Object[]> countGroupedByStatus();
+
+    // Served by the turn_deadline index, so only expired games are read however many are in progress
+    @Query("select g.id from Game g where g.turnDeadline <= :now"
+            + " and g.status = com.vgs.web_service.domain.model.GameStatus.IN_PROGRESS order by g.turnDeadline")
+    List<Long> findExpiredIds(LocalDateTime now, Limit limit);
+}
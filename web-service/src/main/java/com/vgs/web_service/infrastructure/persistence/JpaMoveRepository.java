@@ -0,0 +1,15 @@
+package com.vgs.web_service.infrastructure.persistence;
+
+import com.vgs.web_service.domain.model.Move;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+
+import java.util.List;
+
+interface JpaMoveRepository extends JpaRepository<Move, Long> {
+
+    // Served by the (game_id, sequence) unique index, so each page is a single range scan
+    @Query("select m from Move m where m.gameId = :gameId and m.sequence > :afterSequence order by m.sequence")
+    List<Move> findAfter(Long gameId, int afterSequence, Limit limit);
+}
@@ -0,0 +1,63 @@
+package com.vgs.web_service.infrastructure.persistence;
+
+import com.vgs.web_service.domain.model.Move;
+import com.vgs.web_service.domain.repository.MoveRepository;
+import com.vgs.web_service.infrastructure.config.InMemoryPersistenceConfig;
+import lombok.RequiredArgsConstructor;
+import org.hibernate.exception.ConstraintViolationException;
+import org.springframework.context.annotation.Profile;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+
+@Repository
+@Profile("!" + InMemoryPersistenceConfig.PROFILE)
+@RequiredArgsConstructor
+public class MoveRepositoryImpl implements MoveRepository {
+    static final String SEQUENCE_CONSTRAINT = "uk_moves_game_sequence";
+
+    private final JpaMoveRepository jpaMoveRepository;
+
+    /**
+     * Flushes the moves immediately. Another transaction that already appended the same sequence of
+     * the game made a concurrent move, which is reported as an optimistic locking failure so the
+     * move is retried on the new state. Other integrity violations are not a race and propagate.
+     */
+    @Override
+    public void appendAll(List<Move> moves) {
+        try {
+            jpaMoveRepository.saveAllAndFlush(moves);
+        } catch (DataIntegrityViolationException ex) {
+            if (!violates(ex, SEQUENCE_CONSTRAINT)) {
+                throw ex;
+            }
+            throw new OptimisticLockingFailureException("Move sequence already taken: gameId=" + moves.get(0).getGameId(), ex);
+        }
+    }
+
+    private static boolean violates(Throwable ex, String constraint) {
+        for (Throwable cause = ex; cause != null; cause = cause.getCause()) {
+            if (cause instanceof ConstraintViolationException violation
+                    && constraint.equalsIgnoreCase(violation.getConstraintName())) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<Move> findByGameId(Long gameId, int afterSequence, int limit) {
+        return jpaMoveRepository.findAfter(gameId, afterSequence, Limit.of(limit));
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<Move> findByGameId(Long gameId, int afterSequence) {
+        return jpaMoveRepository.findAfter(gameId, afterSequence, Limit.unlimited());
+    }
+}
@@ -0,0 +1,68 @@
+package com.vgs.web_service.infrastructure.timeout;
+
+import com.vgs.web_service.application.service.GameService;
+import com.vgs.web_service.application.service.TurnTimer;
+import com.vgs.web_service.infrastructure.config.GameTimeoutProperties;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * Ends games whose player to move let the turn deadline pass. Each run reads expired games from
+ * the deadline index in batches, so its cost depends on how many games expired, not on how many
+ * are in progress.
+ */
+@Component
+public class AbandonedGameReaper {
+    private static final Logger log = LoggerFactory.getLogger(AbandonedGameReaper.class);
+
+    private final GameService gameService;
+    private final TurnTimer turnTimer;
+    private final int batchSize;
+    private final Counter abandonedGames;
+
+    public AbandonedGameReaper(GameService gameService, TurnTimer turnTimer, GameTimeoutProperties properties,
+                               MeterRegistry meterRegistry) {
+        this.gameService = gameService;
+        this.turnTimer = turnTimer;
+        this.batchSize = properties.getReapBatchSize();
+        this.abandonedGames = Counter.builder("game.abandoned")
+                .description("Games ended because the player to move ran out of time")
+                .register(meterRegistry);
+    }
+
+    @Scheduled(fixedDelayString = "${game.timeout.reap-interval:10s}")
+    public void scheduledRun() {
+        if (!turnTimer.isEnabled()) {
+            return;
+        }
+        try {
+            reap();
+        } catch (RuntimeException ex) {
+            log.warn("Could not abandon expired games", ex);
+        }
+    }
+
+    /**
+     * Abandons expired games until none are left, and returns how many were abandoned. A batch in
+     * which some games were not abandoned, because they got a move in the meantime, ends the run
+     * so those games aren't read again until the next one.
+     */
+    public long reap() {
+        long total = 0;
+        int abandoned;
+        do {
+            abandoned = gameService.abandonExpiredGames(batchSize);
+            abandonedGames.increment(abandoned);
+            total += abandoned;
+        } while (abandoned == batchSize);
+
+        if (total > 0) {
+            log.info("Abandoned {} games whose turn deadline passed", total);
+        }
+        return total;
+    }
+}
@@ -0,0 +1,82 @@
+package com.vgs.web_service.presentation.cache;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.vgs.web_service.application.event.GameUpdatedEvent;
+import com.vgs.web_service.domain.model.Game;
+import com.vgs.web_service.presentation.dto.GameRepresentation;
+import com.vgs.web_service.presentation.dto.GameResponse;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.util.unit.DataSize;
+
+import java.io.UncheckedIOException;
+import java.util.Objects;
+
+/**
+ * Serialized {@link GameResponse} bodies per game, tagged with the game version they were built
+ * from. A game only changes through a versioned save, so the same version always serializes to the
+ * same bytes and can be answered without building or serializing the response again.
+ */
+@Component
+public class GameResponseCache {
+
+    public record CachedResponse(long version, String etag, byte[] body) {
+    }
+
+    private final Cache<Long, CachedResponse> cache;
+    private final ObjectWriter writer;
+
+    public GameResponseCache(ObjectMapper objectMapper,
+                             @Value("${game.response-cache.max-size:64MB}") DataSize maxSize) {
+        this.writer = objectMapper.writerFor(GameResponse.class);
+        this.cache = Caffeine.newBuilder()
+                .maximumWeight(maxSize.toBytes())
+                .weigher((Long id, CachedResponse response) -> response.body().length)
+                .build();
+    }
+
+    public static String etagOf(Game game) {
+        return GameRepresentation.JSON.etagOf(game);
+    }
+
+    /**
+     * Returns the response body of the game as of its version, serializing it only if that version
+     * isn't cached yet.
+     */
+    public CachedResponse get(Game game) {
+        long version = Objects.requireNonNullElse(game.getVersion(), 0L);
+        CachedResponse cached = cache.getIfPresent(game.getId());
+        if (cached != null && cached.version() == version) {
+            return cached;
+        }
+        CachedResponse response = new CachedResponse(version, etagOf(game), serialize(game));
+        // A slower request for an older version must not replace a newer body
+        cache.asMap().merge(game.getId(), response,
+                (current, candidate) -> current.version() >= candidate.version() ? current : candidate);
+        return response;
+    }
+
+    // Drops the previous body as soon as a move is committed rather than when the game is next requested.
+    // A body re-added by a request still reading the old version is never served for the new one.
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onGameUpdated(GameUpdatedEvent event) {
+        cache.invalidate(event.game().getId());
+    }
+
+    public long size() {
+        return cache.estimatedSize();
+    }
+
+    private byte[] serialize(Game game) {
+        try {
+            return writer.writeValueAsBytes(GameResponse.fromDomain(game));
+        } catch (JsonProcessingException ex) {
+            throw new UncheckedIOException(ex);
+        }
+    }
+}
@@ -1,83 +1,225 @@
 package com.vgs.web_service.presentation.controller;
 
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
 import com.vgs.web_service.application.service.GameService;
-import com.vgs.web_service.domain.exception.GameNotFoundException;
-import com.vgs.web_service.domain.exception.InvalidMoveException;
 import com.vgs.web_service.domain.model.Game;
+import com.vgs.web_service.domain.model.GameMode;
+import com.vgs.web_service.domain.model.GameStatus;
+import com.vgs.web_service.domain.repository.GameQuery;
+import com.vgs.web_service.presentation.cache.GameResponseCache;
+import com.vgs.web_service.presentation.dto.BulkCreateRequest;
+import com.vgs.web_service.presentation.dto.CompactGameResponse;
 import com.vgs.web_service.presentation.dto.ErrorResponse;
+import com.vgs.web_service.presentation.dto.GamePageResponse;
+import com.vgs.web_service.presentation.dto.GameRepresentation;
 import com.vgs.web_service.presentation.dto.GameResponse;
+import com.vgs.web_service.presentation.dto.MoveBatchRequest;
+import com.vgs.web_service.presentation.dto.MoveBatchResponse;
+import com.vgs.web_service.presentation.dto.MoveHistoryResponse;
+import com.vgs.web_service.presentation.stream.AsyncTimeoutInterceptor;
+import com.vgs.web_service.presentation.stream.GameStreamBroker;
 import jakarta.servlet.http.HttpServletRequest;
 import lombok.RequiredArgsConstructor;
-
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import jakarta.validation.Valid;
 import com.vgs.web_service.presentation.dto.MoveRequest;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
 import java.time.LocalDateTime;
+import java.util.Iterator;
+import java.util.stream.Stream;
 
 @RestController
 @RequestMapping("/api/games")
 @RequiredArgsConstructor
 public class GameController {
-    private final GameService gameService;
     private static final Logger log = LoggerFactory.getLogger(GameController.class);
 
+    private final GameService gameService;
+    private final GameStreamBroker gameStreamBroker;
+    private final ObjectMapper objectMapper;
+    private final GameResponseCache gameResponseCache;
+    private static final MediaType NDJSON = MediaType.parseMediaType("application/x-ndjson");
+
+    // Exports of many games outlast spring.mvc.async.request-timeout
+    @Value("${game.export.timeout:1h}")
+    private Duration exportTimeout;
+
     @PostMapping("/create")
-    public ResponseEntity<GameResponse> createGame() {
-        return ResponseEntity.ok(GameResponse.fromDomain(gameService.createGame()));
+    public ResponseEntity<GameResponse> createGame(@RequestParam(defaultValue = "TWO_PLAYER") GameMode mode,
+                                                   @RequestParam(defaultValue = "3") int size,
+                                                   @RequestParam(defaultValue = "3") int winLength) {
+        return ResponseEntity.ok(GameResponse.fromDomain(gameService.createGame(mode, size, winLength)));
     }
     
+    /**
+     * Streams the ids as a JSON array while later chunks are still being inserted. The status is sent
+     * with the first ids, so a chunk that fails afterwards ends the array with an {@link ErrorResponse}
+     * in place of the remaining ids; the ids before it belong to committed games.
+     */
+    @PostMapping("/create:bulk")
+    public ResponseEntity<StreamingResponseBody> createGames(@Valid @RequestBody BulkCreateRequest bulkRequest,
+                                                             HttpServletRequest request) {
+        String path = request.getRequestURI();
+        StreamingResponseBody body = output -> {
+            Writer writer = new BufferedWriter(new OutputStreamWriter(output, StandardCharsets.UTF_8));
+            int created = 0;
+            writer.write('[');
+            try (Stream<Long> ids = gameService.createGames(bulkRequest.getCount())) {
+                Iterator<Long> iterator = ids.iterator();
+                while (iterator.hasNext()) {
+                    Long id = iterator.next();
+                    if (created++ > 0) {
+                        writer.write(',');
+                    }
+                    writer.write(id.toString());
+                }
+            } catch (RuntimeException ex) {
+                log.error("Bulk creation failed after {} of {} games", created, bulkRequest.getCount(), ex);
+                if (created > 0) {
+                    writer.write(',');
+                }
+                writer.write(objectMapper.writeValueAsString(ErrorResponse.builder()
+                        .timestamp(LocalDateTime.now())
+                        .status(HttpStatus.INTERNAL_SERVER_ERROR.value())
+                        .error(HttpStatus.INTERNAL_SERVER_ERROR.getReasonPhrase())
+                        .message("Created " + created + " of " + bulkRequest.getCount() + " games")
+                        .path(path)
+                        .build()));
+            }
+            writer.write(']');
+            writer.flush();
+        };
+        return ResponseEntity.ok().contentType(MediaType.APPLICATION_JSON).body(body);
+    }
+
+    @GetMapping
+    public ResponseEntity<GamePageResponse> listGames(@RequestParam(required = false) GameStatus status,
+                                                      @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime createdFrom,
+                                                      @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime createdTo,
+                                                      @RequestParam(required = false) String cursor,
+                                                      @RequestParam(defaultValue = "" + GamePageResponse.DEFAULT_PAGE_SIZE) int limit) {
+        int pageSize = Math.clamp(limit, 1, GamePageResponse.MAX_PAGE_SIZE);
+        GamePageResponse.Cursor after = cursor != null ? GamePageResponse.Cursor.decode(cursor) : null;
+        GameQuery query = new GameQuery(status, createdFrom, createdTo,
+                after != null ? after.createdAt() : null, after != null ? after.id() : null);
+        // One extra game tells whether there is a next page without another query
+        return ResponseEntity.ok(GamePageResponse.fromPage(gameService.listGames(query, pageSize + 1), pageSize));
+    }
+
+    /**
+     * Streams every matching game as newline-delimited JSON, written while rows are still being read.
+     * The stream is cut off after {@code game.export.timeout}.
+     */
+    @GetMapping("/export")
+    public ResponseEntity<StreamingResponseBody> exportGames(@RequestParam(required = false) GameStatus status,
+                                                             @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime createdFrom,
+                                                             @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime createdTo,
+                                                             HttpServletRequest request) {
+        request.setAttribute(AsyncTimeoutInterceptor.TIMEOUT_ATTRIBUTE, exportTimeout);
+        GameQuery query = new GameQuery(status, createdFrom, createdTo, null, null);
+        ObjectWriter lineWriter = objectMapper.writerFor(GamePageResponse.GameSummaryDto.class)
+                .without(JsonGenerator.Feature.AUTO_CLOSE_TARGET)
+                .without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+        StreamingResponseBody body = output -> {
+            Writer writer = new BufferedWriter(new OutputStreamWriter(output, StandardCharsets.UTF_8));
+            gameService.exportGames(query, game -> {
+                try {
+                    lineWriter.writeValue(writer, GamePageResponse.GameSummaryDto.fromDomain(game));
+                    writer.write('\n');
+                } catch (IOException ex) {
+                    throw new UncheckedIOException(ex);
+                }
+            });
+            writer.flush();
+        };
+        return ResponseEntity.ok().contentType(NDJSON).body(body);
+    }
+
+    /**
+     * Returns the game in the representation the {@code Accept} header asks for, with an ETag of its
+     * version. A client that sends the tag back gets 304 until the next move.
+     */
     @GetMapping("/status")
-    public ResponseEntity<?> getGameStatus(@RequestParam Long matchId, HttpServletRequest request) {
-        try {
-            return ResponseEntity.ok(GameResponse.fromDomain(gameService.getGame(matchId)));
-        } catch (GameNotFoundException ex) {
-            log.warn("Game not found: gameId={}", matchId);
-            ErrorResponse error = ErrorResponse.builder()
-                    .timestamp(LocalDateTime.now())
-                    .status(HttpStatus.NOT_FOUND.value())
-                    .error(HttpStatus.NOT_FOUND.getReasonPhrase())
-                    .message(ex.getMessage())
-                    .path(request.getRequestURI())
-                    .build();
-            return ResponseEntity.status(HttpStatus.NOT_FOUND).body(error);
+    public ResponseEntity<?> getGameStatus(@RequestParam Long matchId,
+                                           @RequestHeader(value = HttpHeaders.ACCEPT, required = false) String accept,
+                                           WebRequest webRequest) {
+        Game game = gameService.getReadOnlyGame(matchId);
+        GameRepresentation representation = GameRepresentation.negotiate(accept);
+        if (webRequest.checkNotModified(representation.etagOf(game))) {
+            return null;
         }
+        return gameResponse(game, representation);
+    }
+
+    @GetMapping("/stream")
+    public ResponseEntity<SseEmitter> streamGame(@RequestParam Long matchId) {
+        return ResponseEntity.ok()
+                .contentType(MediaType.TEXT_EVENT_STREAM)
+                .body(gameStreamBroker.subscribe(matchId, () -> gameService.getReadOnlyGame(matchId)));
+    }
+
+    @GetMapping("/{matchId}/moves")
+    public ResponseEntity<MoveHistoryResponse> getMoves(@PathVariable Long matchId,
+                                                        @RequestParam(defaultValue = "0") int after,
+                                                        @RequestParam(defaultValue = "" + MoveHistoryResponse.DEFAULT_PAGE_SIZE) int limit) {
+        int pageSize = Math.clamp(limit, 1, MoveHistoryResponse.MAX_PAGE_SIZE);
+        // One extra move tells whether there is a next page without another query
+        return ResponseEntity.ok(MoveHistoryResponse.fromPage(matchId,
+                gameService.getMoves(matchId, after, pageSize + 1), pageSize));
     }
 
     @PostMapping("/move")
-    public ResponseEntity<?> makeMove(@Valid @RequestBody MoveRequest moveRequest, HttpServletRequest request) {
-        try {
-            Game game = gameService.makeMove(moveRequest.getMatchId(), moveRequest.getPlayerId(), 
-                    moveRequest.getSquare().getX(), moveRequest.getSquare().getY());
-            return ResponseEntity.ok(GameResponse.fromDomain(game));
-        } catch (GameNotFoundException ex) {
-            ErrorResponse error = ErrorResponse.builder()
-                    .timestamp(LocalDateTime.now())
-                    .status(HttpStatus.NOT_FOUND.value())
-                    .error(HttpStatus.NOT_FOUND.getReasonPhrase())
-                    .message(ex.getMessage())
-                    .path(request.getRequestURI())
-                    .build();
-            return ResponseEntity.status(HttpStatus.NOT_FOUND).body(error);
-        } catch (InvalidMoveException ex) {
-            log.error("Invalid move", ex);
-            ErrorResponse error = ErrorResponse.builder()
-                    .timestamp(LocalDateTime.now())
-                    .status(HttpStatus.BAD_REQUEST.value())
-                    .error(HttpStatus.BAD_REQUEST.getReasonPhrase())
-                    .message(ex.getMessage())
-                    .path(request.getRequestURI())
-                    .build();
-            return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(error);
+    public ResponseEntity<?> makeMove(@Valid @RequestBody MoveRequest moveRequest,
+                                      @RequestHeader(value = HttpHeaders.ACCEPT, required = false) String accept) {
+        Game game = gameService.makeMove(moveRequest.getMatchId(), moveRequest.getPlayerId(),
+                moveRequest.getSquare().getX(), moveRequest.getSquare().getY());
+        // As JSON, also primes the cache for the status polls that follow a move
+        return gameResponse(game, GameRepresentation.negotiate(accept));
+    }
+
+    @PostMapping("/moves:batch")
+    public ResponseEntity<MoveBatchResponse> makeMoves(@Valid @RequestBody MoveBatchRequest batchRequest) {
+        return ResponseEntity.ok(MoveBatchResponse.fromResults(gameService.makeMoves(batchRequest.toCommands())));
+    }
+
+    // JSON bodies come from the serialized responses cache; the compact body is small enough to build each time
+    private ResponseEntity<?> gameResponse(Game game, GameRepresentation representation) {
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok()
+                .varyBy(HttpHeaders.ACCEPT)
+                .contentType(representation.mediaType());
+        if (representation == GameRepresentation.JSON) {
+            GameResponseCache.CachedResponse cached = gameResponseCache.get(game);
+            return response.eTag(cached.etag()).body(cached.body());
         }
+        return response.eTag(representation.etagOf(game)).body(CompactGameResponse.fromDomain(game));
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,22 @@
+package com.vgs.web_service.presentation.dto;
+
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotNull;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class BulkCreateRequest {
+    public static final int MAX_GAMES = 100_000;
+
+    @NotNull(message = "count is required")
+    @Min(value = 1, message = "count must be between 1 and " + MAX_GAMES)
+    @Max(value = MAX_GAMES, message = "count must be between 1 and " + MAX_GAMES)
+    private Integer count;
+}
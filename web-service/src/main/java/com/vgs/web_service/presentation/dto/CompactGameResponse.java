@@ -0,0 +1,43 @@
+package com.vgs.web_service.presentation.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.vgs.web_service.domain.model.CellValue;
+import com.vgs.web_service.domain.model.Game;
+import com.vgs.web_service.domain.model.GameMode;
+import com.vgs.web_service.domain.model.GameStatus;
+import lombok.Builder;
+import lombok.Data;
+
+import java.time.LocalDateTime;
+
+/**
+ * Game state with the board as a single string, one character per cell in row-major order:
+ * {@code X}, {@code O} or {@code -}. Sent as JSON or CBOR to clients that ask for it, see
+ * {@link GameRepresentation}.
+ */
+@Data
+@Builder
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class CompactGameResponse {
+    private Long id;
+    private GameStatus status;
+    private CellValue currentTurn;
+    private GameMode mode;
+    private int size;
+    private int winLength;
+    private String board;
+    private LocalDateTime turnDeadline;
+
+    public static CompactGameResponse fromDomain(Game game) {
+        return CompactGameResponse.builder()
+                .id(game.getId())
+                .status(game.getStatus())
+                .currentTurn(game.getCurrentTurn())
+                .mode(game.getMode() != null ? game.getMode() : GameMode.TWO_PLAYER)
+                .size(game.getBoard().size())
+                .winLength(game.getBoard().winLength())
+                .board(game.getBoard().encode())
+                .turnDeadline(game.getTurnDeadline())
+                .build();
+    }
+}
@@ -0,0 +1,93 @@
+package com.vgs.web_service.presentation.dto;
+
+import com.vgs.web_service.domain.model.CellValue;
+import com.vgs.web_service.domain.model.GameMode;
+import com.vgs.web_service.domain.model.GameStatus;
+import com.vgs.web_service.domain.model.GameSummary;
+import com.vgs.web_service.presentation.exception.InvalidCursorException;
+import lombok.Builder;
+import lombok.Data;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+import java.util.List;
+
+/**
+ * A page of the game listing. {@code nextCursor} is passed back as {@code cursor} to fetch the
+ * next page and is null on the last one.
+ */
+@Data
+@Builder
+public class GamePageResponse {
+    public static final int DEFAULT_PAGE_SIZE = 50;
+    public static final int MAX_PAGE_SIZE = 500;
+
+    private List<GameSummaryDto> games;
+    private String nextCursor;
+
+    @Data
+    @Builder
+    public static class GameSummaryDto {
+        private Long id;
+        private GameStatus status;
+        private CellValue currentTurn;
+        private GameMode mode;
+        private int size;
+        private int winLength;
+        private int moveCount;
+        private LocalDateTime createdAt;
+
+        public static GameSummaryDto fromDomain(GameSummary game) {
+            return GameSummaryDto.builder()
+                    .id(game.id())
+                    .status(game.status())
+                    .currentTurn(game.currentTurn())
+                    .mode(game.mode())
+                    .size(game.boardSize())
+                    .winLength(game.winLength())
+                    .moveCount(game.moveCount())
+                    .createdAt(game.createdAt())
+                    .build();
+        }
+    }
+
+    /**
+     * Position of the last game of a page, opaque to clients.
+     */
+    public record Cursor(LocalDateTime createdAt, Long id) {
+
+        public static Cursor of(GameSummary game) {
+            return new Cursor(game.createdAt(), game.id());
+        }
+
+        public String encode() {
+            String raw = createdAt + "_" + id;
+            return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+        }
+
+        public static Cursor decode(String cursor) {
+            try {
+                String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+                int separator = raw.lastIndexOf('_');
+                return new Cursor(LocalDateTime.parse(raw.substring(0, separator)), Long.parseLong(raw.substring(separator + 1)));
+            } catch (IllegalArgumentException | IndexOutOfBoundsException | DateTimeParseException ex) {
+                throw new InvalidCursorException("Invalid cursor: " + cursor, ex);
+            }
+        }
+    }
+
+    /**
+     * @param games up to one game more than the page size; the extra game only signals that
+     *              another page follows
+     */
+    public static GamePageResponse fromPage(List<GameSummary> games, int pageSize) {
+        boolean hasMore = games.size() > pageSize;
+        List<GameSummary> page = hasMore ? games.subList(0, pageSize) : games;
+        return GamePageResponse.builder()
+                .games(page.stream().map(GameSummaryDto::fromDomain).toList())
+                .nextCursor(hasMore ? Cursor.of(page.get(page.size() - 1)).encode() : null)
+                .build();
+    }
+}
@@ -0,0 +1,73 @@
+package com.vgs.web_service.presentation.dto;
+
+import com.vgs.web_service.domain.model.Game;
+import org.springframework.http.InvalidMediaTypeException;
+import org.springframework.http.MediaType;
+
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Representations of a game a client can ask for with the {@code Accept} header. {@link #JSON},
+ * the {@link GameResponse} with one object per cell, is the default.
+ */
+public enum GameRepresentation {
+    JSON(MediaType.APPLICATION_JSON, ""),
+    COMPACT_JSON(MediaType.parseMediaType("application/vnd.tictactoe.compact+json"), "-compact"),
+    COMPACT_CBOR(MediaType.parseMediaType("application/cbor"), "-cbor");
+
+    private final MediaType mediaType;
+    private final String etagSuffix;
+
+    GameRepresentation(MediaType mediaType, String etagSuffix) {
+        this.mediaType = mediaType;
+        this.etagSuffix = etagSuffix;
+    }
+
+    public MediaType mediaType() {
+        return mediaType;
+    }
+
+    /**
+     * Strong entity tag of the game's current state in this representation, e.g. {@code "42-7"} for
+     * version 7 of game 42 as JSON. Each representation has its own tag because the bytes differ.
+     */
+    public String etagOf(Game game) {
+        return "\"" + game.getId() + "-" + Objects.requireNonNullElse(game.getVersion(), 0L) + etagSuffix + "\"";
+    }
+
+    /**
+     * Picks the representation the {@code Accept} header prefers, by quality and then by order.
+     * Wildcards, unknown types and a missing or malformed header all get {@link #JSON}.
+     */
+    public static GameRepresentation negotiate(String accept) {
+        if (accept == null || accept.isBlank()) {
+            return JSON;
+        }
+        List<MediaType> accepted;
+        try {
+            accepted = MediaType.parseMediaTypes(accept);
+        } catch (InvalidMediaTypeException ex) {
+            return JSON;
+        }
+        GameRepresentation best = JSON;
+        double bestQuality = -1;
+        for (MediaType type : accepted) {
+            double quality = type.getQualityValue();
+            if (quality <= bestQuality || quality == 0) {
+                continue;
+            }
+            for (GameRepresentation representation : values()) {
+                if (representation.mediaType.equalsTypeAndSubtype(type)) {
+                    best = representation;
+                    bestQuality = quality;
+                }
+            }
+            if (type.isWildcardType() || type.isWildcardSubtype()) {
+                best = JSON;
+                bestQuality = quality;
+            }
+        }
+        return best;
+    }
+}
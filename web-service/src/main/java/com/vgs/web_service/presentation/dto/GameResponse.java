@@ -1,15 +1,18 @@
 package com.vgs.web_service.presentation.dto;
 
+import com.vgs.web_service.domain.model.Board;
 import com.vgs.web_service.domain.model.Cell;
 import com.vgs.web_service.domain.model.CellValue;
 import com.vgs.web_service.domain.model.Game;
+import com.vgs.web_service.domain.model.GameMode;
 import com.vgs.web_service.domain.model.GameStatus;
+import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
 
 import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.List;
-import java.util.stream.Collectors;
 
 @Data
 @Builder
@@ -18,10 +21,16 @@ public class GameResponse {
     private LocalDateTime createdAt;
     private GameStatus status;
     private CellValue currentTurn;
+    private GameMode mode;
+    private int size;
+    private int winLength;
+    // Null once the game is over, or when turns don't expire
+    private LocalDateTime turnDeadline;
     private List<CellDto> board;
 
     @Data
     @Builder
+    @AllArgsConstructor
     public static class CellDto {
         private int row;
         private int column;
@@ -42,9 +51,21 @@ public class GameResponse {
                 .createdAt(game.getCreatedAt())
                 .status(game.getStatus())
                 .currentTurn(game.getCurrentTurn())
-                .board(game.getCells().stream()
-                        .map(CellDto::fromDomain)
-                        .collect(Collectors.toList()))
+                .mode(game.getMode() != null ? game.getMode() : GameMode.TWO_PLAYER)
+                .size(game.getBoard().size())
+                .winLength(game.getBoard().winLength())
+                .turnDeadline(game.getTurnDeadline())
+                .board(boardOf(game.getBoard()))
                 .build();
     }
+
+    private static List<CellDto> boardOf(Board board) {
+        List<CellDto> cells = new ArrayList<>(board.cellCount());
+        for (int row = 1; row <= board.size(); row++) {
+            for (int col = 1; col <= board.size(); col++) {
+                cells.add(new CellDto(row, col, board.get(row, col)));
+            }
+        }
+        return cells;
+    }
 }
\ No newline at end of file
@@ -0,0 +1,29 @@
+package com.vgs.web_service.presentation.dto;
+
+import com.vgs.web_service.application.event.GameUpdatedEvent;
+import com.vgs.web_service.domain.model.CellValue;
+import com.vgs.web_service.domain.model.GameStatus;
+import lombok.Builder;
+import lombok.Data;
+
+/**
+ * Change pushed to stream subscribers after a move: the cell that was played plus the new status.
+ * An abandoned game has no last move.
+ */
+@Data
+@Builder
+public class GameUpdateResponse {
+    private Long id;
+    private GameStatus status;
+    private CellValue currentTurn;
+    private GameResponse.CellDto lastMove;
+
+    public static GameUpdateResponse fromEvent(GameUpdatedEvent event) {
+        return GameUpdateResponse.builder()
+                .id(event.game().getId())
+                .status(event.game().getStatus())
+                .currentTurn(event.game().getCurrentTurn())
+                .lastMove(event.hasMove() ? new GameResponse.CellDto(event.row(), event.column(), event.value()) : null)
+                .build();
+    }
+}
@@ -0,0 +1,31 @@
+package com.vgs.web_service.presentation.dto;
+
+import com.vgs.web_service.application.command.MoveCommand;
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class MoveBatchRequest {
+    public static final int MAX_MOVES = 1000;
+
+    @NotEmpty(message = "moves are required")
+    @Size(max = MAX_MOVES, message = "at most " + MAX_MOVES + " moves per batch")
+    private List<@Valid MoveRequest> moves;
+
+    public List<MoveCommand> toCommands() {
+        return moves.stream()
+                .map(move -> new MoveCommand(move.getMatchId(), move.getPlayerId(),
+                        move.getSquare().getX(), move.getSquare().getY()))
+                .toList();
+    }
+}
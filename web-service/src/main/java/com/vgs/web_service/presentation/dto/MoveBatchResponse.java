@@ -0,0 +1,45 @@
+package com.vgs.web_service.presentation.dto;
+
+import com.vgs.web_service.application.command.MoveResult;
+import com.vgs.web_service.domain.model.CellValue;
+import com.vgs.web_service.domain.model.GameStatus;
+import lombok.Builder;
+import lombok.Data;
+
+import java.util.List;
+
+@Data
+@Builder
+public class MoveBatchResponse {
+    private List<MoveResultDto> results;
+
+    @Data
+    @Builder
+    public static class MoveResultDto {
+        private Long matchId;
+        private CellValue playerId;
+        private MoveRequest.Square square;
+        private MoveResult.Outcome outcome;
+        private GameStatus status;
+        private CellValue currentTurn;
+        private String error;
+
+        public static MoveResultDto fromResult(MoveResult result) {
+            return MoveResultDto.builder()
+                    .matchId(result.move().gameId())
+                    .playerId(result.move().player())
+                    .square(new MoveRequest.Square(result.move().x(), result.move().y()))
+                    .outcome(result.outcome())
+                    .status(result.status())
+                    .currentTurn(result.currentTurn())
+                    .error(result.error())
+                    .build();
+        }
+    }
+
+    public static MoveBatchResponse fromResults(List<MoveResult> results) {
+        return MoveBatchResponse.builder()
+                .results(results.stream().map(MoveResultDto::fromResult).toList())
+                .build();
+    }
+}
@@ -0,0 +1,56 @@
+package com.vgs.web_service.presentation.dto;
+
+import com.vgs.web_service.domain.model.CellValue;
+import com.vgs.web_service.domain.model.Move;
+import lombok.Builder;
+import lombok.Data;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * A page of a game's move history. {@code nextCursor} is passed as {@code after} to fetch the next
+ * page and is null on the last one.
+ */
+@Data
+@Builder
+public class MoveHistoryResponse {
+    public static final int DEFAULT_PAGE_SIZE = 100;
+    public static final int MAX_PAGE_SIZE = 1000;
+
+    private Long matchId;
+    private List<MoveDto> moves;
+    private Integer nextCursor;
+
+    @Data
+    @Builder
+    public static class MoveDto {
+        private int sequence;
+        private CellValue playerId;
+        private MoveRequest.Square square;
+        private LocalDateTime playedAt;
+
+        public static MoveDto fromDomain(Move move) {
+            return MoveDto.builder()
+                    .sequence(move.getSequence())
+                    .playerId(move.getPlayer())
+                    .square(new MoveRequest.Square(move.getX(), move.getY()))
+                    .playedAt(move.getCreatedAt())
+                    .build();
+        }
+    }
+
+    /**
+     * @param moves up to one move more than the page size; the extra move only signals that
+     *              another page follows
+     */
+    public static MoveHistoryResponse fromPage(Long matchId, List<Move> moves, int pageSize) {
+        boolean hasMore = moves.size() > pageSize;
+        List<Move> page = hasMore ? moves.subList(0, pageSize) : moves;
+        return MoveHistoryResponse.builder()
+                .matchId(matchId)
+                .moves(page.stream().map(MoveDto::fromDomain).toList())
+                .nextCursor(hasMore ? page.get(page.size() - 1).getSequence() : null)
+                .build();
+    }
+}
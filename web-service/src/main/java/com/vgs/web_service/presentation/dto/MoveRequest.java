@@ -3,7 +3,6 @@ package com.vgs.web_service.presentation.dto;
 import com.vgs.web_service.domain.model.CellValue;
 
 import jakarta.validation.Valid;
-import jakarta.validation.constraints.Max;
 import jakarta.validation.constraints.Min;
 import jakarta.validation.constraints.NotNull;
 import lombok.AllArgsConstructor;
@@ -23,17 +22,16 @@ public class MoveRequest {
     @Valid
     private Square square;
 
+    // Upper bounds depend on the game's board size and are checked when the move is applied
     @Data
     @AllArgsConstructor
     public static class Square {
         @NotNull(message = "x coordinate is required")
-        @Min(value = 1, message = "x coordinate must be between 1 and 3")
-        @Max(value = 3, message = "x coordinate must be between 1 and 3")
+        @Min(value = 1, message = "x coordinate must be at least 1")
         private Integer x;
 
         @NotNull(message = "y coordinate is required")
-        @Min(value = 1, message = "y coordinate must be between 1 and 3")
-        @Max(value = 3, message = "y coordinate must be between 1 and 3")
+        @Min(value = 1, message = "y coordinate must be at least 1")
         private Integer y;
     }
 }
\ No newline at end of file
@@ -1,8 +1,15 @@
 package com.vgs.web_service.presentation.exception;
 
+import com.vgs.web_service.domain.exception.ConcurrentMoveException;
+import com.vgs.web_service.domain.exception.GameNotFoundException;
+import com.vgs.web_service.domain.exception.InvalidGameConfigurationException;
+import com.vgs.web_service.domain.exception.InvalidMoveException;
 import com.vgs.web_service.presentation.dto.ErrorResponse;
 import jakarta.servlet.http.HttpServletRequest;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.validation.FieldError;
 import org.springframework.web.bind.MethodArgumentNotValidException;
@@ -13,8 +20,14 @@ import java.time.LocalDateTime;
 import java.util.HashMap;
 import java.util.Map;
 
+/**
+ * Turns rejected requests into {@link ErrorResponse} bodies. Rejections are expected traffic, so
+ * they are logged at debug without a stack trace; the body is always JSON, whatever the endpoint
+ * would have produced.
+ */
 @RestControllerAdvice
 public class GlobalExceptionHandler {
+    private static final Logger log = LoggerFactory.getLogger(GlobalExceptionHandler.class);
 
     @ExceptionHandler(MethodArgumentNotValidException.class)
     public ResponseEntity<ErrorResponse> handleValidationExceptions(
@@ -41,4 +54,34 @@ public class GlobalExceptionHandler {
 
         return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(errorResponse);
     }
-}
\ No newline at end of file
+
+    @ExceptionHandler(GameNotFoundException.class)
+    public ResponseEntity<ErrorResponse> handleGameNotFound(GameNotFoundException ex, HttpServletRequest request) {
+        return reject(HttpStatus.NOT_FOUND, ex, request);
+    }
+
+    @ExceptionHandler({InvalidMoveException.class, InvalidGameConfigurationException.class, InvalidCursorException.class})
+    public ResponseEntity<ErrorResponse> handleBadRequest(RuntimeException ex, HttpServletRequest request) {
+        return reject(HttpStatus.BAD_REQUEST, ex, request);
+    }
+
+    @ExceptionHandler(ConcurrentMoveException.class)
+    public ResponseEntity<ErrorResponse> handleConcurrentMove(ConcurrentMoveException ex, HttpServletRequest request) {
+        return reject(HttpStatus.CONFLICT, ex, request);
+    }
+
+    private static ResponseEntity<ErrorResponse> reject(HttpStatus status, RuntimeException ex, HttpServletRequest request) {
+        if (log.isDebugEnabled()) {
+            log.debug("Request rejected: {} {} -> {} {}", request.getMethod(), request.getRequestURI(),
+                    status.value(), ex.getMessage());
+        }
+        ErrorResponse error = ErrorResponse.builder()
+                .timestamp(LocalDateTime.now())
+                .status(status.value())
+                .error(status.getReasonPhrase())
+                .message(ex.getMessage())
+                .path(request.getRequestURI())
+                .build();
+        return ResponseEntity.status(status).contentType(MediaType.APPLICATION_JSON).body(error);
+    }
+}
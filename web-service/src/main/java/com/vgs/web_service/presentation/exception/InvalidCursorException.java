@@ -0,0 +1,7 @@
+package com.vgs.web_service.presentation.exception;
+
+public class InvalidCursorException extends IllegalArgumentException {
+    public InvalidCursorException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
@@ -0,0 +1,27 @@
+package com.vgs.web_service.presentation.stream;
+
+import org.springframework.web.context.request.NativeWebRequest;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.async.AsyncWebRequest;
+import org.springframework.web.context.request.async.CallableProcessingInterceptor;
+
+import java.time.Duration;
+import java.util.concurrent.Callable;
+
+/**
+ * Gives a streamed response its own timeout instead of {@code spring.mvc.async.request-timeout}:
+ * the handler sets {@link #TIMEOUT_ATTRIBUTE} to a {@link Duration} on the request. A duration that
+ * is not positive never times out.
+ */
+public class AsyncTimeoutInterceptor implements CallableProcessingInterceptor {
+    public static final String TIMEOUT_ATTRIBUTE = AsyncTimeoutInterceptor.class.getName() + ".timeout";
+
+    // Called before the asynchronous request starts, while its timeout can still be changed
+    @Override
+    public <T> void beforeConcurrentHandling(NativeWebRequest request, Callable<T> task) {
+        if (request.getAttribute(TIMEOUT_ATTRIBUTE, RequestAttributes.SCOPE_REQUEST) instanceof Duration timeout
+                && request instanceof AsyncWebRequest asyncRequest) {
+            asyncRequest.setTimeout(timeout.isPositive() ? timeout.toMillis() : -1L);
+        }
+    }
+}
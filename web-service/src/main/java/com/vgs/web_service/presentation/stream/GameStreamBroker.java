@@ -0,0 +1,179 @@
+package com.vgs.web_service.presentation.stream;
+
+import com.vgs.web_service.application.event.GameUpdatedEvent;
+import com.vgs.web_service.domain.model.Game;
+import com.vgs.web_service.domain.model.GameStatus;
+import com.vgs.web_service.presentation.dto.GameResponse;
+import com.vgs.web_service.presentation.dto.GameUpdateResponse;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.MediaType;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+/**
+ * In-process fan-out of committed moves to Server-Sent Events subscribers, grouped by match.
+ * Emitters are completed asynchronously by the servlet container, so an idle subscriber holds
+ * a connection but no request thread.
+ */
+@Component
+public class GameStreamBroker {
+    private static final Logger log = LoggerFactory.getLogger(GameStreamBroker.class);
+
+    private final Map<Long, Set<Subscriber>> subscribers = new ConcurrentHashMap<>();
+    private final long timeoutMillis;
+
+    public GameStreamBroker(@Value("${game.stream.timeout:30m}") Duration timeout) {
+        this.timeoutMillis = timeout.toMillis();
+    }
+
+    /**
+     * Registers a subscriber for the game, then loads the game and sends it as a {@code state} event.
+     * Later moves are sent as {@code move} events carrying a {@link GameUpdateResponse}. Moves
+     * committed while the game loads are held back until the state is sent, and skipped if the
+     * state already has them, so the client never misses a move or sees one before the state.
+     */
+    public SseEmitter subscribe(Long gameId, Supplier<Game> loader) {
+        Subscriber subscriber = new Subscriber(createEmitter());
+        subscribers.compute(gameId, (id, set) -> {
+            Set<Subscriber> updated = set != null ? set : ConcurrentHashMap.newKeySet();
+            updated.add(subscriber);
+            return updated;
+        });
+        SseEmitter emitter = subscriber.emitter;
+        emitter.onCompletion(() -> remove(gameId, subscriber));
+        emitter.onTimeout(() -> remove(gameId, subscriber));
+        emitter.onError(error -> remove(gameId, subscriber));
+
+        Game game;
+        try {
+            game = loader.get();
+        } catch (RuntimeException ex) {
+            remove(gameId, subscriber);
+            throw ex;
+        }
+        start(gameId, subscriber, game);
+        return emitter;
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onGameUpdated(GameUpdatedEvent event) {
+        Long gameId = event.game().getId();
+        Set<Subscriber> gameSubscribers = subscribers.get(gameId);
+        if (gameSubscribers == null) {
+            return;
+        }
+
+        GameUpdateResponse update = GameUpdateResponse.fromEvent(event);
+        boolean finished = event.game().getStatus() != GameStatus.IN_PROGRESS;
+        for (Subscriber subscriber : gameSubscribers) {
+            synchronized (subscriber) {
+                if (subscriber.held != null) {
+                    subscriber.held.add(event);
+                } else if (send(gameId, subscriber, "move", update) && finished) {
+                    subscriber.emitter.complete();
+                }
+            }
+        }
+        if (finished) {
+            subscribers.remove(gameId);
+        }
+    }
+
+    // Detects connections the client dropped without closing them and keeps proxies from timing out
+    @Scheduled(fixedDelayString = "${game.stream.heartbeat-interval:30s}")
+    public void sendHeartbeats() {
+        subscribers.forEach((gameId, gameSubscribers) -> {
+            for (Subscriber subscriber : gameSubscribers) {
+                try {
+                    subscriber.emitter.send(SseEmitter.event().comment("heartbeat"));
+                } catch (IOException | IllegalStateException ex) {
+                    remove(gameId, subscriber);
+                }
+            }
+        });
+    }
+
+    public int subscriberCount() {
+        return subscribers.values().stream().mapToInt(Set::size).sum();
+    }
+
+    SseEmitter createEmitter() {
+        return new SseEmitter(timeoutMillis);
+    }
+
+    // Sends the loaded state, then the moves that were held back while it loaded
+    private void start(Long gameId, Subscriber subscriber, Game game) {
+        synchronized (subscriber) {
+            List<GameUpdatedEvent> held = subscriber.held;
+            subscriber.held = null;
+            if (!send(gameId, subscriber, "state", GameResponse.fromDomain(game))) {
+                return;
+            }
+            boolean finished = game.getStatus() != GameStatus.IN_PROGRESS;
+            for (GameUpdatedEvent event : held) {
+                if (finished) {
+                    break;
+                }
+                if (includes(game, event)) {
+                    continue;
+                }
+                if (!send(gameId, subscriber, "move", GameUpdateResponse.fromEvent(event))) {
+                    return;
+                }
+                finished = event.game().getStatus() != GameStatus.IN_PROGRESS;
+            }
+            if (finished) {
+                subscriber.emitter.complete();
+                remove(gameId, subscriber);
+            }
+        }
+    }
+
+    // Whether the loaded state already has the event's move, or its end of the game
+    private static boolean includes(Game state, GameUpdatedEvent event) {
+        int moves = event.game().getMoveCount();
+        return moves < state.getMoveCount()
+                || moves == state.getMoveCount() && event.game().getStatus() == state.getStatus();
+    }
+
+    private boolean send(Long gameId, Subscriber subscriber, String name, Object data) {
+        try {
+            subscriber.emitter.send(SseEmitter.event().name(name).data(data, MediaType.APPLICATION_JSON));
+            return true;
+        } catch (IOException | IllegalStateException ex) {
+            log.debug("Dropping game stream subscriber: gameId={}", gameId);
+            remove(gameId, subscriber);
+            return false;
+        }
+    }
+
+    private void remove(Long gameId, Subscriber subscriber) {
+        subscribers.computeIfPresent(gameId, (id, set) -> {
+            set.remove(subscriber);
+            return set.isEmpty() ? null : set;
+        });
+    }
+
+    private static final class Subscriber {
+        final SseEmitter emitter;
+        // Moves committed before the state was sent; null once it is
+        List<GameUpdatedEvent> held = new ArrayList<>();
+
+        Subscriber(SseEmitter emitter) {
+            this.emitter = emitter;
+        }
+    }
+}
@@ -0,0 +1,43 @@
+-- Schema as Hibernate created it before migrations; existing databases are baselined at this version
+
+CREATE SEQUENCE games_seq START WITH 1 INCREMENT BY 50;
+CREATE SEQUENCE cells_seq START WITH 1 INCREMENT BY 50;
+CREATE SEQUENCE moves_seq START WITH 1 INCREMENT BY 50;
+
+CREATE TABLE games (
+    id                  BIGINT       NOT NULL PRIMARY KEY,
+    version             BIGINT,
+    created_at          TIMESTAMP(6) NOT NULL,
+    status              VARCHAR(255) NOT NULL CHECK (status IN ('IN_PROGRESS', 'X_WON', 'O_WON', 'DRAW', 'ABANDONED')),
+    current_turn        VARCHAR(255) NOT NULL CHECK (current_turn IN ('X', 'O', 'EMPTY')),
+    mode                VARCHAR(255) CHECK (mode IN ('TWO_PLAYER', 'VS_COMPUTER')),
+    board_size          INTEGER,
+    win_length          INTEGER,
+    turn_deadline       TIMESTAMP(6),
+    board_state         VARCHAR(1024),
+    move_count          INTEGER      NOT NULL DEFAULT 0,
+    snapshot_move_count INTEGER      NOT NULL DEFAULT 0
+);
+
+CREATE INDEX idx_games_status_created_at_id ON games (status, created_at, id);
+CREATE INDEX idx_games_created_at_id ON games (created_at, id);
+CREATE INDEX idx_games_turn_deadline ON games (turn_deadline);
+
+CREATE TABLE cells (
+    id            BIGINT       NOT NULL PRIMARY KEY,
+    game_id       BIGINT       NOT NULL REFERENCES games,
+    row_number    INTEGER      NOT NULL,
+    column_number INTEGER      NOT NULL,
+    value         VARCHAR(255) NOT NULL CHECK (value IN ('X', 'O', 'EMPTY'))
+);
+
+CREATE TABLE moves (
+    id         BIGINT       NOT NULL PRIMARY KEY,
+    game_id    BIGINT       NOT NULL,
+    sequence   INTEGER      NOT NULL,
+    player     VARCHAR(255) NOT NULL CHECK (player IN ('X', 'O', 'EMPTY')),
+    x          INTEGER      NOT NULL,
+    y          INTEGER      NOT NULL,
+    created_at TIMESTAMP(6) NOT NULL,
+    CONSTRAINT uk_moves_game_sequence UNIQUE (game_id, sequence)
+);
@@ -0,0 +1,3 @@
+-- Boards are loaded, deleted and archived by game; without it each of those scans every cell.
+-- Built concurrently so existing databases keep taking moves, which Flyway runs outside a transaction
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_cells_game_id ON cells (game_id);
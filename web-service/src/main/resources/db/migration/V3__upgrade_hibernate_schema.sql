@@ -0,0 +1,12 @@
+-- Databases baselined at V1 were created by Hibernate from earlier mappings. ddl-auto=update added
+-- the later columns but never widened a column or rewrote a check constraint. On a schema built by
+-- V1 every statement here changes nothing.
+
+ALTER TABLE games ALTER COLUMN board_state TYPE VARCHAR(1024);
+
+-- Versioned saves of games created before optimistic locking would otherwise fail
+UPDATE games SET version = 0 WHERE version IS NULL;
+
+ALTER TABLE games DROP CONSTRAINT IF EXISTS games_status_check;
+ALTER TABLE games ADD CONSTRAINT games_status_check
+    CHECK (status IN ('IN_PROGRESS', 'X_WON', 'O_WON', 'DRAW', 'ABANDONED'));
@@ -0,0 +1,39 @@
+-- Finished games moved out of the live tables by GameArchiver. The columns mirror games, cells and
+-- moves; a migration that adds a column there adds it here too. Databases where the archiver
+-- already created these tables keep them.
+
+CREATE TABLE IF NOT EXISTS games_archive (
+    id                  BIGINT       NOT NULL PRIMARY KEY,
+    version             BIGINT,
+    created_at          TIMESTAMP(6) NOT NULL,
+    status              VARCHAR(255) NOT NULL,
+    current_turn        VARCHAR(255) NOT NULL,
+    mode                VARCHAR(255),
+    board_size          INTEGER,
+    win_length          INTEGER,
+    turn_deadline       TIMESTAMP(6),
+    board_state         VARCHAR(1024),
+    move_count          INTEGER      NOT NULL DEFAULT 0,
+    snapshot_move_count INTEGER      NOT NULL DEFAULT 0
+);
+
+CREATE TABLE IF NOT EXISTS cells_archive (
+    id            BIGINT       NOT NULL PRIMARY KEY,
+    game_id       BIGINT       NOT NULL,
+    row_number    INTEGER      NOT NULL,
+    column_number INTEGER      NOT NULL,
+    value         VARCHAR(255) NOT NULL
+);
+
+CREATE TABLE IF NOT EXISTS moves_archive (
+    id         BIGINT       NOT NULL PRIMARY KEY,
+    game_id    BIGINT       NOT NULL,
+    sequence   INTEGER      NOT NULL,
+    player     VARCHAR(255) NOT NULL,
+    x          INTEGER      NOT NULL,
+    y          INTEGER      NOT NULL,
+    created_at TIMESTAMP(6) NOT NULL
+);
+
+CREATE INDEX IF NOT EXISTS idx_cells_archive_game_id ON cells_archive (game_id);
+CREATE INDEX IF NOT EXISTS idx_moves_archive_game_id ON moves_archive (game_id);
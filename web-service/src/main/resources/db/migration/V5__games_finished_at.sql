@@ -0,0 +1,9 @@
+-- When a game was won, drawn or abandoned; archival ages finished games from it. Games finished
+-- before the column existed get the time of their last move, or their creation when they have none.
+
+ALTER TABLE games ADD COLUMN IF NOT EXISTS finished_at TIMESTAMP(6);
+ALTER TABLE games_archive ADD COLUMN IF NOT EXISTS finished_at TIMESTAMP(6);
+
+UPDATE games g
+SET finished_at = COALESCE((SELECT max(m.created_at) FROM moves m WHERE m.game_id = g.id), g.created_at)
+WHERE g.status <> 'IN_PROGRESS' AND g.finished_at IS NULL;
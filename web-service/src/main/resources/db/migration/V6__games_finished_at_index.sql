@@ -0,0 +1,3 @@
+-- Archival looks up finished games by finished_at; games in progress have none.
+-- Built concurrently, like V2, so existing databases keep taking moves
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_games_finished_at ON games (finished_at);
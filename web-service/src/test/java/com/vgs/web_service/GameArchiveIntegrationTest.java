@@ -0,0 +1,143 @@
+package com.vgs.web_service;
+
+import com.jayway.jsonpath.JsonPath;
+import com.vgs.web_service.infrastructure.config.GamePersistenceProperties;
+import com.vgs.web_service.infrastructure.persistence.GameArchiver;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.test.web.servlet.MockMvc;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest(properties = {
+        "spring.jpa.show-sql=false",
+        "game.persistence.archive.enabled=true",
+        "game.persistence.archive.max-age=0s",
+        "game.persistence.archive.batch-size=1",
+        "game.persistence.archive.batch-pause=0s"
+})
+@AutoConfigureMockMvc
+@Testcontainers
+class GameArchiveIntegrationTest {
+
+    @Container
+    static PostgreSQLContainer<?> postgres = new PostgreSQLContainer<>("postgres:15-alpine");
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private GameArchiver gameArchiver;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private GamePersistenceProperties persistenceProperties;
+
+    @DynamicPropertySource
+    static void configureProperties(DynamicPropertyRegistry registry) {
+        registry.add("spring.datasource.url", postgres::getJdbcUrl);
+        registry.add("spring.datasource.username", postgres::getUsername);
+        registry.add("spring.datasource.password", postgres::getPassword);
+    }
+
+    @Test
+    void archive_ShouldMoveFinishedGamesWithTheirMovesAndKeepGamesInProgress() throws Exception {
+        // Given
+        Number finished = createGame();
+        Number alsoFinished = createGame();
+        Number inProgress = createGame();
+        playToWin(finished);
+        playToWin(alsoFinished);
+        move(inProgress, "X", 1, 1);
+
+        // When
+        GameArchiver.Result result = gameArchiver.archive();
+
+        // Then
+        assertThat(result.batches()).isGreaterThanOrEqualTo(2);
+        assertThat(result.games()).isGreaterThanOrEqualTo(2);
+        assertThat(result.moves()).isGreaterThanOrEqualTo(10);
+        for (Number id : new Number[]{finished, alsoFinished}) {
+            assertThat(count("games", "id", id)).isZero();
+            assertThat(count("moves", "game_id", id)).isZero();
+            assertThat(count("cells", "game_id", id)).isZero();
+            assertThat(count("games_archive", "id", id)).isEqualTo(1);
+            assertThat(count("moves_archive", "game_id", id)).isEqualTo(5);
+        }
+        assertThat(count("games", "id", inProgress)).isEqualTo(1);
+        assertThat(count("moves", "game_id", inProgress)).isEqualTo(1);
+        assertThat(gameArchiver.archive().games()).isZero();
+    }
+
+    @Test
+    void archive_ShouldAgeGamesFromWhenTheyFinishedRatherThanWhenTheyStarted() throws Exception {
+        // Given
+        Number startedLongAgo = createGame();
+        playToWin(startedLongAgo);
+        jdbcTemplate.update("UPDATE games SET created_at = now() - interval '2 days' WHERE id = ?",
+                startedLongAgo.longValue());
+        Number finishedLongAgo = createGame();
+        playToWin(finishedLongAgo);
+        jdbcTemplate.update("UPDATE games SET finished_at = now() - interval '2 days' WHERE id = ?",
+                finishedLongAgo.longValue());
+        Duration maxAge = persistenceProperties.getArchive().getMaxAge();
+        persistenceProperties.getArchive().setMaxAge(Duration.ofDays(1));
+
+        // When
+        try {
+            gameArchiver.archive();
+        } finally {
+            persistenceProperties.getArchive().setMaxAge(maxAge);
+        }
+
+        // Then
+        assertThat(count("games", "id", startedLongAgo)).isEqualTo(1);
+        assertThat(count("games", "id", finishedLongAgo)).isZero();
+        assertThat(count("games_archive", "id", finishedLongAgo)).isEqualTo(1);
+        assertThat(jdbcTemplate.queryForObject("SELECT finished_at FROM games_archive WHERE id = ?",
+                LocalDateTime.class, finishedLongAgo.longValue())).isNotNull();
+    }
+
+    private Number createGame() throws Exception {
+        String response = mockMvc.perform(post("/api/games/create"))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString();
+        return JsonPath.read(response, "$.id");
+    }
+
+    private void playToWin(Number gameId) throws Exception {
+        move(gameId, "X", 1, 1);
+        move(gameId, "O", 2, 1);
+        move(gameId, "X", 1, 2);
+        move(gameId, "O", 2, 2);
+        move(gameId, "X", 1, 3);
+    }
+
+    private void move(Number gameId, String player, int x, int y) throws Exception {
+        mockMvc.perform(post("/api/games/move")
+                .contentType("application/json")
+                .content("{\"matchId\":" + gameId + ",\"playerId\":\"" + player
+                        + "\",\"square\":{\"x\":" + x + ",\"y\":" + y + "}}"))
+                .andExpect(status().isOk());
+    }
+
+    private long count(String table, String column, Number id) {
+        return jdbcTemplate.queryForObject(
+                "SELECT count(*) FROM " + table + " WHERE " + column + " = ?", Long.class, id.longValue());
+    }
+}
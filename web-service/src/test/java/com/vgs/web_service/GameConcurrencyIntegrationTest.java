@@ -0,0 +1,125 @@
+package com.vgs.web_service;
+
+import com.vgs.web_service.application.service.GameService;
+import com.vgs.web_service.domain.exception.ConcurrentMoveException;
+import com.vgs.web_service.domain.exception.InvalidMoveException;
+import com.vgs.web_service.domain.model.Board;
+import com.vgs.web_service.domain.model.CellValue;
+import com.vgs.web_service.domain.model.Game;
+import com.vgs.web_service.domain.model.GameStatus;
+import com.vgs.web_service.domain.model.Move;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest(properties = "spring.jpa.show-sql=false")
+@Testcontainers
+class GameConcurrencyIntegrationTest {
+
+    private static final int MATCHES = 5;
+    private static final int MOVES_PER_MATCH = 2_000;
+    private static final int THREADS = 32;
+
+    @Container
+    static PostgreSQLContainer<?> postgres = new PostgreSQLContainer<>("postgres:15-alpine");
+
+    @Autowired
+    private GameService gameService;
+
+    @DynamicPropertySource
+    static void configureProperties(DynamicPropertyRegistry registry) {
+        registry.add("spring.datasource.url", postgres::getJdbcUrl);
+        registry.add("spring.datasource.username", postgres::getUsername);
+        registry.add("spring.datasource.password", postgres::getPassword);
+    }
+
+    @Test
+    void makeMove_ShouldKeepBoardConsistentUnderParallelMoves() throws Exception {
+        for (int match = 0; match < MATCHES; match++) {
+            Long gameId = gameService.createGame().getId();
+
+            Queue<PlayedMove> accepted = new ConcurrentLinkedQueue<>();
+            AtomicInteger rejected = new AtomicInteger();
+            AtomicInteger conflicts = new AtomicInteger();
+            CountDownLatch start = new CountDownLatch(1);
+
+            ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+            List<Future<?>> results = new ArrayList<>(MOVES_PER_MATCH);
+            for (int i = 0; i < MOVES_PER_MATCH; i++) {
+                CellValue player = i % 2 == 0 ? CellValue.X : CellValue.O;
+                results.add(executor.submit(() -> {
+                    ThreadLocalRandom random = ThreadLocalRandom.current();
+                    PlayedMove move = new PlayedMove(player, random.nextInt(1, 4), random.nextInt(1, 4));
+                    start.await();
+                    try {
+                        gameService.makeMove(gameId, move.player(), move.x(), move.y());
+                        accepted.add(move);
+                    } catch (InvalidMoveException ex) {
+                        rejected.incrementAndGet();
+                    } catch (ConcurrentMoveException ex) {
+                        conflicts.incrementAndGet();
+                    }
+                    return null;
+                }));
+            }
+            start.countDown();
+            executor.shutdown();
+            assertThat(executor.awaitTermination(2, TimeUnit.MINUTES)).isTrue();
+            for (Future<?> result : results) {
+                // Surfaces any failure other than a rejected or conflicting move
+                result.get();
+            }
+
+            Game game = gameService.getGame(gameId);
+            Board board = game.getBoard();
+            int xCount = Integer.bitCount(board.getXMask());
+            int oCount = Integer.bitCount(board.getOMask());
+
+            // Every acknowledged move is on the board and nothing else is
+            assertThat(accepted.size() + rejected.get() + conflicts.get()).isEqualTo(MOVES_PER_MATCH);
+            assertThat(accepted).hasSize(xCount + oCount);
+            for (PlayedMove move : accepted) {
+                assertThat(board.get(move.x(), move.y())).isEqualTo(move.player());
+            }
+            assertThat(xCount - oCount).isBetween(0, 1);
+            assertThat(game.getStatus()).isEqualTo(expectedStatus(board));
+
+            // The history holds exactly the acknowledged moves, numbered without gaps
+            List<Move> history = gameService.getMoves(gameId, 0, MOVES_PER_MATCH);
+            assertThat(history).hasSize(accepted.size());
+            for (int i = 0; i < history.size(); i++) {
+                assertThat(history.get(i).getSequence()).isEqualTo(i + 1);
+                assertThat(board.get(history.get(i).getX(), history.get(i).getY())).isEqualTo(history.get(i).getPlayer());
+            }
+        }
+    }
+
+    private static GameStatus expectedStatus(Board board) {
+        CellValue winner = board.winner();
+        if (winner == CellValue.X) return GameStatus.X_WON;
+        if (winner == CellValue.O) return GameStatus.O_WON;
+        return board.isFull() ? GameStatus.DRAW : GameStatus.IN_PROGRESS;
+    }
+
+    private record PlayedMove(CellValue player, int x, int y) {
+    }
+}
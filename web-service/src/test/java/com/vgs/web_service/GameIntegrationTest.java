@@ -7,6 +7,7 @@ import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.test.context.DynamicPropertyRegistry;
 import org.springframework.test.context.DynamicPropertySource;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
 import org.testcontainers.containers.PostgreSQLContainer;
 import org.testcontainers.junit.jupiter.Container;
 import org.testcontainers.junit.jupiter.Testcontainers;
@@ -16,9 +17,17 @@ import com.jayway.jsonpath.JsonPath;
 import com.vgs.web_service.domain.model.CellValue;
 import com.vgs.web_service.presentation.dto.MoveRequest;
 
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 @SpringBootTest
@@ -241,4 +250,304 @@ class GameIntegrationTest {
                 .andExpect(jsonPath("$.message").value("Validation failed"))
                 .andExpect(jsonPath("$.details.square").value("square is required"));
     }
-}
\ No newline at end of file
+
+    @Test
+    void streamGame_ShouldPushMovesToSubscribers() throws Exception {
+        // First create a game
+        String createResponse = mockMvc.perform(post("/api/games/create"))
+                .andExpect(status().isOk())
+                .andReturn()
+                .getResponse()
+                .getContentAsString();
+
+        Number gameId = JsonPath.read(createResponse, "$.id");
+
+        // Subscribe to the game stream
+        MvcResult stream = mockMvc.perform(get("/api/games/stream").param("matchId", gameId.toString()))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        // Make a move
+        mockMvc.perform(post("/api/games/move")
+                .contentType("application/json")
+                .content("{\"matchId\":" + gameId + ",\"playerId\":\"X\",\"square\":{\"x\":2,\"y\":3}}"))
+                .andExpect(status().isOk());
+
+        String events = stream.getResponse().getContentAsString();
+        assertThat(events).contains("event:state");
+        assertThat(events).contains("event:move");
+        assertThat(events).contains("\"lastMove\":{\"row\":2,\"column\":3,\"value\":\"X\"}");
+    }
+
+    @Test
+    void makeMoves_ShouldApplyBatchAcrossGames() throws Exception {
+        Number firstId = JsonPath.read(mockMvc.perform(post("/api/games/create"))
+                .andReturn().getResponse().getContentAsString(), "$.id");
+        Number secondId = JsonPath.read(mockMvc.perform(post("/api/games/create"))
+                .andReturn().getResponse().getContentAsString(), "$.id");
+
+        String moves = """
+                {"moves": [
+                  {"matchId": %1$s, "playerId": "X", "square": {"x": 1, "y": 1}},
+                  {"matchId": %2$s, "playerId": "X", "square": {"x": 2, "y": 2}},
+                  {"matchId": %1$s, "playerId": "O", "square": {"x": 1, "y": 1}},
+                  {"matchId": %1$s, "playerId": "O", "square": {"x": 3, "y": 3}},
+                  {"matchId": 9999, "playerId": "X", "square": {"x": 1, "y": 1}}
+                ]}""".formatted(firstId, secondId);
+
+        mockMvc.perform(post("/api/games/moves:batch")
+                .contentType("application/json")
+                .content(moves))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.results.length()").value(5))
+                .andExpect(jsonPath("$.results[0].outcome").value("APPLIED"))
+                .andExpect(jsonPath("$.results[1].outcome").value("APPLIED"))
+                .andExpect(jsonPath("$.results[2].outcome").value("REJECTED"))
+                .andExpect(jsonPath("$.results[3].outcome").value("APPLIED"))
+                .andExpect(jsonPath("$.results[3].currentTurn").value("X"))
+                .andExpect(jsonPath("$.results[4].outcome").value("NOT_FOUND"));
+
+        mockMvc.perform(get("/api/games/status").param("matchId", firstId.toString()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.currentTurn").value("X"))
+                .andExpect(jsonPath("$.board[0].value").value("X"))
+                .andExpect(jsonPath("$.board[8].value").value("O"));
+    }
+
+    @Test
+    void makeMoves_ShouldRejectEmptyBatch() throws Exception {
+        mockMvc.perform(post("/api/games/moves:batch")
+                .contentType("application/json")
+                .content("{\"moves\": []}"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.details.moves").exists());
+    }
+
+    @Test
+    void createGames_ShouldCreateRequestedNumberOfGames() throws Exception {
+        MvcResult result = mockMvc.perform(post("/api/games/create:bulk")
+                .contentType("application/json")
+                .content("{\"count\": 1200}"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        String ids = mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk())
+                .andReturn()
+                .getResponse()
+                .getContentAsString();
+
+        List<Number> created = JsonPath.read(ids, "$");
+        assertThat(created).hasSize(1200);
+        assertThat(created.stream().map(Number::longValue).distinct()).hasSize(1200);
+
+        mockMvc.perform(get("/api/games/status").param("matchId", created.get(1199).toString()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.status").value("IN_PROGRESS"))
+                .andExpect(jsonPath("$.board.length()").value(9));
+    }
+
+    @Test
+    void makeMove_ShouldIncludeComputerReplyInSinglePlayerGame() throws Exception {
+        String createResponse = mockMvc.perform(post("/api/games/create").param("mode", "VS_COMPUTER"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.mode").value("VS_COMPUTER"))
+                .andReturn()
+                .getResponse()
+                .getContentAsString();
+
+        Number gameId = JsonPath.read(createResponse, "$.id");
+
+        String moveResponse = mockMvc.perform(post("/api/games/move")
+                .contentType("application/json")
+                .content("{\"matchId\":" + gameId + ",\"playerId\":\"X\",\"square\":{\"x\":1,\"y\":1}}"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.currentTurn").value("X"))
+                .andExpect(jsonPath("$.status").value("IN_PROGRESS"))
+                .andReturn()
+                .getResponse()
+                .getContentAsString();
+
+        List<String> values = JsonPath.read(moveResponse, "$.board[*].value");
+        assertThat(values).containsOnlyOnce("O");
+        // The only reply to a corner opening that does not lose is the center
+        assertThat(values.get(4)).isEqualTo("O");
+
+        mockMvc.perform(post("/api/games/move")
+                .contentType("application/json")
+                .content("{\"matchId\":" + gameId + ",\"playerId\":\"O\",\"square\":{\"x\":3,\"y\":3}}"))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    void makeMove_ShouldPlayOnLargerBoardUntilWinLengthIsReached() throws Exception {
+        String createResponse = mockMvc.perform(post("/api/games/create").param("size", "15").param("winLength", "5"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.size").value(15))
+                .andExpect(jsonPath("$.winLength").value(5))
+                .andExpect(jsonPath("$.board.length()").value(225))
+                .andReturn()
+                .getResponse()
+                .getContentAsString();
+
+        Number gameId = JsonPath.read(createResponse, "$.id");
+
+        // X builds a diagonal from (11,11) to (15,15) while O plays along the first row
+        for (int i = 0; i < 4; i++) {
+            mockMvc.perform(post("/api/games/move")
+                    .contentType("application/json")
+                    .content("{\"matchId\":" + gameId + ",\"playerId\":\"X\",\"square\":{\"x\":" + (11 + i)
+                            + ",\"y\":" + (11 + i) + "}}"))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.status").value("IN_PROGRESS"));
+            mockMvc.perform(post("/api/games/move")
+                    .contentType("application/json")
+                    .content("{\"matchId\":" + gameId + ",\"playerId\":\"O\",\"square\":{\"x\":1,\"y\":" + (1 + i) + "}}"))
+                    .andExpect(status().isOk());
+        }
+
+        mockMvc.perform(post("/api/games/move")
+                .contentType("application/json")
+                .content("{\"matchId\":" + gameId + ",\"playerId\":\"X\",\"square\":{\"x\":16,\"y\":16}}"))
+                .andExpect(status().isBadRequest());
+
+        mockMvc.perform(post("/api/games/move")
+                .contentType("application/json")
+                .content("{\"matchId\":" + gameId + ",\"playerId\":\"X\",\"square\":{\"x\":15,\"y\":15}}"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.status").value("X_WON"));
+    }
+
+    @Test
+    void createGame_ShouldRejectInvalidBoardConfiguration() throws Exception {
+        mockMvc.perform(post("/api/games/create").param("size", "4").param("winLength", "5"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.status").value(400));
+
+        mockMvc.perform(post("/api/games/create").param("mode", "VS_COMPUTER").param("size", "15").param("winLength", "5"))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    void getMoves_ShouldPageThroughHistoryInOrder() throws Exception {
+        String createResponse = mockMvc.perform(post("/api/games/create"))
+                .andExpect(status().isOk())
+                .andReturn()
+                .getResponse()
+                .getContentAsString();
+
+        Number gameId = JsonPath.read(createResponse, "$.id");
+
+        String[][] moves = {{"X", "1", "1"}, {"O", "2", "2"}, {"X", "1", "2"}, {"O", "3", "3"}, {"X", "1", "3"}};
+        for (String[] move : moves) {
+            mockMvc.perform(post("/api/games/move")
+                    .contentType("application/json")
+                    .content("{\"matchId\":" + gameId + ",\"playerId\":\"" + move[0]
+                            + "\",\"square\":{\"x\":" + move[1] + ",\"y\":" + move[2] + "}}"))
+                    .andExpect(status().isOk());
+        }
+
+        String firstPage = mockMvc.perform(get("/api/games/" + gameId + "/moves").param("limit", "3"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.moves.length()").value(3))
+                .andExpect(jsonPath("$.moves[0].playerId").value("X"))
+                .andExpect(jsonPath("$.moves[1].square.x").value(2))
+                .andExpect(jsonPath("$.nextCursor").value(3))
+                .andReturn()
+                .getResponse()
+                .getContentAsString();
+
+        Number cursor = JsonPath.read(firstPage, "$.nextCursor");
+
+        mockMvc.perform(get("/api/games/" + gameId + "/moves").param("after", cursor.toString()).param("limit", "3"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.moves.length()").value(2))
+                .andExpect(jsonPath("$.moves[0].sequence").value(4))
+                .andExpect(jsonPath("$.moves[1].square.y").value(3))
+                .andExpect(jsonPath("$.nextCursor").doesNotExist());
+
+        mockMvc.perform(get("/api/games/status").param("matchId", gameId.toString()))
+                .andExpect(jsonPath("$.status").value("X_WON"));
+    }
+
+    @Test
+    void listGames_ShouldPageThroughGamesCreatedInWindowAndExportThem() throws Exception {
+        LocalDateTime since = LocalDateTime.now().minusNanos(1_000);
+        List<Number> created = new ArrayList<>();
+        for (int i = 0; i < 3; i++) {
+            String response = mockMvc.perform(post("/api/games/create"))
+                    .andExpect(status().isOk())
+                    .andReturn()
+                    .getResponse()
+                    .getContentAsString();
+            created.add(JsonPath.read(response, "$.id"));
+        }
+
+        List<Number> listed = new ArrayList<>();
+        String cursor = null;
+        do {
+            var request = get("/api/games").param("status", "IN_PROGRESS")
+                    .param("createdFrom", since.toString()).param("limit", "2");
+            if (cursor != null) {
+                request.param("cursor", cursor);
+            }
+            String page = mockMvc.perform(request)
+                    .andExpect(status().isOk())
+                    .andReturn()
+                    .getResponse()
+                    .getContentAsString();
+            listed.addAll(JsonPath.read(page, "$.games[*].id"));
+            cursor = JsonPath.read(page, "$.nextCursor");
+        } while (cursor != null);
+
+        assertThat(listed).containsExactlyElementsOf(created);
+
+        MvcResult export = mockMvc.perform(get("/api/games/export").param("createdFrom", since.toString()))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        String body = mockMvc.perform(asyncDispatch(export))
+                .andExpect(status().isOk())
+                .andReturn()
+                .getResponse()
+                .getContentAsString();
+
+        assertThat(body.lines()).hasSize(3);
+    }
+
+    @Test
+    void getGameStatus_ShouldAnswerNotModifiedUntilTheNextMove() throws Exception {
+        String createResponse = mockMvc.perform(post("/api/games/create"))
+                .andExpect(status().isOk())
+                .andReturn()
+                .getResponse()
+                .getContentAsString();
+        Number gameId = JsonPath.read(createResponse, "$.id");
+
+        String etag = mockMvc.perform(get("/api/games/status").param("matchId", gameId.toString()))
+                .andExpect(status().isOk())
+                .andReturn()
+                .getResponse()
+                .getHeader("ETag");
+
+        mockMvc.perform(get("/api/games/status").param("matchId", gameId.toString()).header("If-None-Match", etag))
+                .andExpect(status().isNotModified());
+
+        String moveEtag = mockMvc.perform(post("/api/games/move")
+                        .contentType("application/json")
+                        .content("{\"matchId\":" + gameId + ",\"playerId\":\"X\",\"square\":{\"x\":1,\"y\":1}}"))
+                .andExpect(status().isOk())
+                .andReturn()
+                .getResponse()
+                .getHeader("ETag");
+        assertThat(moveEtag).isNotEqualTo(etag);
+
+        mockMvc.perform(get("/api/games/status").param("matchId", gameId.toString()).header("If-None-Match", etag))
+                .andExpect(status().isOk())
+                .andExpect(header().string("ETag", moveEtag))
+                .andExpect(jsonPath("$.board[0].value").value("X"));
+
+        mockMvc.perform(get("/api/games/status").param("matchId", gameId.toString()).header("If-None-Match", moveEtag))
+                .andExpect(status().isNotModified());
+    }
+}
@@ -0,0 +1,113 @@
+package com.vgs.web_service;
+
+import com.vgs.web_service.application.service.GameService;
+import com.vgs.web_service.domain.exception.InvalidMoveException;
+import com.vgs.web_service.domain.model.Board;
+import com.vgs.web_service.domain.model.CellValue;
+import com.vgs.web_service.domain.model.GameMode;
+import com.vgs.web_service.domain.model.GameStatus;
+import com.vgs.web_service.domain.model.Move;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Many matches played at once, half of the moves going to a few hot ones. Moves on one match are
+ * applied one at a time, so none of them conflicts and every match keeps a consistent history.
+ * Runs in memory so the database does not bound the load.
+ */
+@SpringBootTest
+@ActiveProfiles("in-memory")
+class GameMailboxIntegrationTest {
+
+    private static final int MATCHES = 100;
+    private static final int HOT_MATCHES = 5;
+    private static final int MOVES = 20_000;
+    private static final int THREADS = 64;
+
+    @Autowired
+    private GameService gameService;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Test
+    void makeMove_ShouldApplyMovesOfEachMatchInOrderWithoutConflicts() throws Exception {
+        // Given
+        List<Long> matches = new ArrayList<>(MATCHES);
+        for (int i = 0; i < MATCHES; i++) {
+            // A win needs a full line of 32, so the matches keep going for the whole test
+            matches.add(gameService.createGame(GameMode.TWO_PLAYER, Board.MAX_SIZE, Board.MAX_SIZE).getId());
+        }
+        double conflicts = conflicts();
+        AtomicInteger accepted = new AtomicInteger();
+        AtomicInteger rejected = new AtomicInteger();
+        CountDownLatch start = new CountDownLatch(1);
+
+        // When
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        List<Future<?>> results = new ArrayList<>(MOVES);
+        for (int i = 0; i < MOVES; i++) {
+            results.add(executor.submit(() -> {
+                ThreadLocalRandom random = ThreadLocalRandom.current();
+                Long gameId = matches.get(random.nextBoolean()
+                        ? random.nextInt(HOT_MATCHES)
+                        : random.nextInt(HOT_MATCHES, MATCHES));
+                CellValue player = random.nextBoolean() ? CellValue.X : CellValue.O;
+                start.await();
+                try {
+                    gameService.makeMove(gameId, player,
+                            random.nextInt(1, Board.MAX_SIZE + 1), random.nextInt(1, Board.MAX_SIZE + 1));
+                    accepted.incrementAndGet();
+                } catch (InvalidMoveException ex) {
+                    rejected.incrementAndGet();
+                }
+                return null;
+            }));
+        }
+        start.countDown();
+        executor.shutdown();
+        assertThat(executor.awaitTermination(2, TimeUnit.MINUTES)).isTrue();
+        for (Future<?> result : results) {
+            // Surfaces any failure other than a rejected move
+            result.get();
+        }
+
+        // Then
+        assertThat(accepted.get() + rejected.get()).isEqualTo(MOVES);
+        assertThat(conflicts()).isEqualTo(conflicts);
+        int played = 0;
+        for (Long gameId : matches) {
+            Board board = gameService.getGame(gameId).getBoard();
+            List<Move> history = gameService.getMoves(gameId, 0, Board.MAX_CELL_COUNT);
+            for (int i = 0; i < history.size(); i++) {
+                Move move = history.get(i);
+                assertThat(move.getSequence()).isEqualTo(i + 1);
+                assertThat(move.getPlayer()).isEqualTo(i % 2 == 0 ? CellValue.X : CellValue.O);
+                assertThat(board.get(move.getX(), move.getY())).isEqualTo(move.getPlayer());
+            }
+            assertThat(gameService.getGame(gameId).getStatus()).isEqualTo(GameStatus.IN_PROGRESS);
+            played += history.size();
+        }
+        assertThat(played).isEqualTo(accepted.get());
+    }
+
+    // Optimistic locking failures, each of which would have been retried
+    private double conflicts() {
+        return meterRegistry.get("game.move.conflicts").counter().count();
+    }
+}
@@ -0,0 +1,71 @@
+package com.vgs.web_service;
+
+import com.jayway.jsonpath.JsonPath;
+import com.vgs.web_service.infrastructure.metrics.GameStatusGauges;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.actuate.observability.AutoConfigureObservability;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.test.web.servlet.MockMvc;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest(properties = "spring.jpa.show-sql=false")
+@AutoConfigureMockMvc
+@AutoConfigureObservability(tracing = false)
+@Testcontainers
+class GameMetricsIntegrationTest {
+
+    @Container
+    static PostgreSQLContainer<?> postgres = new PostgreSQLContainer<>("postgres:15-alpine");
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private GameStatusGauges gameStatusGauges;
+
+    @DynamicPropertySource
+    static void configureProperties(DynamicPropertyRegistry registry) {
+        registry.add("spring.datasource.url", postgres::getJdbcUrl);
+        registry.add("spring.datasource.username", postgres::getUsername);
+        registry.add("spring.datasource.password", postgres::getPassword);
+    }
+
+    @Test
+    void prometheus_ShouldExposeRequestServiceAndRepositoryMetrics() throws Exception {
+        String created = mockMvc.perform(post("/api/games/create"))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString();
+        Number gameId = JsonPath.read(created, "$.id");
+
+        mockMvc.perform(post("/api/games/move")
+                .contentType("application/json")
+                .content("{\"matchId\":" + gameId + ",\"playerId\":\"X\",\"square\":{\"x\":1,\"y\":1}}"))
+                .andExpect(status().isOk());
+        gameStatusGauges.refresh();
+
+        String metrics = mockMvc.perform(get("/actuator/prometheus"))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString();
+
+        assertThat(metrics)
+                .contains("http_server_requests_seconds_bucket{")
+                .containsPattern("http_server_requests_seconds_count\\{[^}]*uri=\"/api/games/move\"")
+                .contains("game_move_phase_seconds_bucket{")
+                .containsPattern("game_move_phase_seconds_count\\{phase=\"load\"} 1")
+                .containsPattern("game_move_phase_seconds_count\\{phase=\"save\"} 1")
+                .containsPattern("spring_data_repository_invocations_seconds_count\\{[^}]*repository=\"JpaGameRepository\"")
+                .containsPattern("game_request_round_trips_count\\{target=\"database\",uri=\"/api/games/move\"} 1")
+                .containsPattern("game_count\\{status=\"IN_PROGRESS\"} [1-9]");
+    }
+}
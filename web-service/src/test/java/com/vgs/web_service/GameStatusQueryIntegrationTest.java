@@ -0,0 +1,88 @@
+package com.vgs.web_service;
+
+import com.jayway.jsonpath.JsonPath;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.actuate.observability.AutoConfigureObservability;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.test.web.servlet.MockMvc;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Status reads in EVENTS mode, where the board is the last snapshot plus the moves made after it:
+ * both come back in the one statement the request makes.
+ */
+@SpringBootTest(properties = {
+        "spring.jpa.show-sql=false",
+        "game.persistence.board-storage=EVENTS",
+        "game.persistence.snapshot-interval=16"
+})
+@AutoConfigureMockMvc
+@AutoConfigureObservability(tracing = false)
+@Testcontainers
+class GameStatusQueryIntegrationTest {
+
+    private static final String COMPACT_JSON = "application/vnd.tictactoe.compact+json";
+
+    @Container
+    static PostgreSQLContainer<?> postgres = new PostgreSQLContainer<>("postgres:15-alpine");
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @DynamicPropertySource
+    static void configureProperties(DynamicPropertyRegistry registry) {
+        registry.add("spring.datasource.url", postgres::getJdbcUrl);
+        registry.add("spring.datasource.username", postgres::getUsername);
+        registry.add("spring.datasource.password", postgres::getPassword);
+    }
+
+    @Test
+    void getGameStatus_ShouldReadGameAndMovesSinceSnapshotInOneStatement() throws Exception {
+        // Given
+        String created = mockMvc.perform(post("/api/games/create"))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString();
+        Number gameId = JsonPath.read(created, "$.id");
+        move(gameId, "X", 1, 1);
+        move(gameId, "O", 2, 2);
+        move(gameId, "X", 1, 3);
+
+        // When
+        mockMvc.perform(get("/api/games/status").param("matchId", gameId.toString()).accept(COMPACT_JSON))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.board").value("X-X-O----"))
+                .andExpect(jsonPath("$.currentTurn").value("O"));
+        mockMvc.perform(get("/api/games/status").param("matchId", "999999"))
+                .andExpect(status().isNotFound());
+
+        // Then
+        String metrics = mockMvc.perform(get("/actuator/prometheus"))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString();
+        assertThat(metrics)
+                .containsPattern("game_request_round_trips_count\\{target=\"database\",uri=\"/api/games/status\"} 2")
+                .containsPattern("game_request_round_trips_sum\\{target=\"database\",uri=\"/api/games/status\"} 2\\.0")
+                .containsPattern("game_request_round_trips_max\\{target=\"database\",uri=\"/api/games/status\"} 1\\.0")
+                .containsPattern("game_jdbc_queries_seconds_count\\{query=\"read_only\"} 2");
+    }
+
+    private void move(Number gameId, String player, int x, int y) throws Exception {
+        mockMvc.perform(post("/api/games/move")
+                        .contentType("application/json")
+                        .content("{\"matchId\":" + gameId + ",\"playerId\":\"" + player
+                                + "\",\"square\":{\"x\":" + x + ",\"y\":" + y + "}}"))
+                .andExpect(status().isOk());
+    }
+}
@@ -0,0 +1,89 @@
+package com.vgs.web_service;
+
+import com.jayway.jsonpath.JsonPath;
+import com.vgs.web_service.infrastructure.timeout.AbandonedGameReaper;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.test.web.servlet.MockMvc;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest(properties = {
+        "spring.jpa.show-sql=false",
+        "game.timeout.turn=500ms",
+        "game.timeout.reap-interval=1h"
+})
+@AutoConfigureMockMvc
+@Testcontainers
+class GameTimeoutIntegrationTest {
+
+    @Container
+    static PostgreSQLContainer<?> postgres = new PostgreSQLContainer<>("postgres:15-alpine");
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private AbandonedGameReaper reaper;
+
+    @DynamicPropertySource
+    static void configureProperties(DynamicPropertyRegistry registry) {
+        registry.add("spring.datasource.url", postgres::getJdbcUrl);
+        registry.add("spring.datasource.username", postgres::getUsername);
+        registry.add("spring.datasource.password", postgres::getPassword);
+    }
+
+    @Test
+    void reap_ShouldAbandonGamesWhosePlayerRanOutOfTime() throws Exception {
+        // Given
+        // A cold first move can take longer than the turn, whatever its outcome
+        Number warmUp = JsonPath.read(mockMvc.perform(post("/api/games/create"))
+                .andReturn().getResponse().getContentAsString(), "$.id");
+        mockMvc.perform(post("/api/games/move")
+                .contentType("application/json")
+                .content("{\"matchId\":" + warmUp + ",\"playerId\":\"X\",\"square\":{\"x\":1,\"y\":1}}"));
+        String response = mockMvc.perform(post("/api/games/create"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.turnDeadline").exists())
+                .andReturn().getResponse().getContentAsString();
+        Number gameId = JsonPath.read(response, "$.id");
+
+        move(gameId, "X", 1, 1);
+        Thread.sleep(700);
+
+        // When
+        mockMvc.perform(post("/api/games/move")
+                        .contentType("application/json")
+                        .content("{\"matchId\":" + gameId + ",\"playerId\":\"O\",\"square\":{\"x\":2,\"y\":2}}"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.message").value("Player O ran out of time"));
+        long abandoned = reaper.reap();
+
+        // Then
+        assertThat(abandoned).isGreaterThanOrEqualTo(1);
+        mockMvc.perform(get("/api/games/status").param("matchId", gameId.toString()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.status").value("ABANDONED"))
+                .andExpect(jsonPath("$.currentTurn").value("O"))
+                .andExpect(jsonPath("$.turnDeadline").doesNotExist());
+    }
+
+    private void move(Number gameId, String player, int x, int y) throws Exception {
+        mockMvc.perform(post("/api/games/move")
+                        .contentType("application/json")
+                        .content("{\"matchId\":" + gameId + ",\"playerId\":\"" + player
+                                + "\",\"square\":{\"x\":" + x + ",\"y\":" + y + "}}"))
+                .andExpect(status().isOk());
+    }
+}
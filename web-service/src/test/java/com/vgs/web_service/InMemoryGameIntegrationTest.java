@@ -0,0 +1,77 @@
+package com.vgs.web_service;
+
+import com.jayway.jsonpath.JsonPath;
+import com.vgs.web_service.domain.repository.GameRepository;
+import com.vgs.web_service.infrastructure.memory.InMemoryGameRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.ApplicationContext;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+import javax.sql.DataSource;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * The in-memory profile starts without a database and plays games end to end.
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("in-memory")
+class InMemoryGameIntegrationTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ApplicationContext context;
+
+    @Test
+    void playGame_ShouldRunWithoutADataSource() throws Exception {
+        // Given
+        String created = mockMvc.perform(post("/api/games/create"))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString();
+        Number gameId = JsonPath.read(created, "$.id");
+
+        // When
+        move(gameId, "X", 1, 1);
+        move(gameId, "O", 2, 1);
+        move(gameId, "X", 1, 2);
+        move(gameId, "O", 2, 2);
+        move(gameId, "X", 1, 3);
+
+        // Then
+        assertThat(context.getBeansOfType(DataSource.class)).isEmpty();
+        assertThat(context.getBean(GameRepository.class)).isInstanceOf(InMemoryGameRepository.class);
+        mockMvc.perform(get("/api/games/status").param("matchId", gameId.toString()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.status").value("X_WON"));
+        mockMvc.perform(get("/api/games/{matchId}/moves", gameId))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.moves.length()").value(5));
+        mockMvc.perform(post("/api/games/move")
+                        .contentType("application/json")
+                        .content("{\"matchId\":" + gameId + ",\"playerId\":\"O\",\"square\":{\"x\":3,\"y\":3}}"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.message").value("Game is already finished"));
+        mockMvc.perform(get("/api/games").param("status", "X_WON"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.games[0].id").value(gameId));
+    }
+
+    private void move(Number gameId, String player, int x, int y) throws Exception {
+        mockMvc.perform(post("/api/games/move")
+                        .contentType("application/json")
+                        .content("{\"matchId\":" + gameId + ",\"playerId\":\"" + player
+                                + "\",\"square\":{\"x\":" + x + ",\"y\":" + y + "}}"))
+                .andExpect(status().isOk());
+    }
+}
@@ -0,0 +1,119 @@
+package com.vgs.web_service;
+
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * A database Hibernate created before the migrations, with an older status check, a narrow
+ * {@code board_state} and games without a version, is baselined and brought up to the mappings.
+ */
+@SpringBootTest(properties = {
+        "spring.jpa.show-sql=false",
+        "spring.jpa.hibernate.ddl-auto=validate"
+})
+@Testcontainers
+class SchemaBaselineIntegrationTest {
+
+    private static final String SCHEMA = "hibernate_created";
+
+    // Roughly what ddl-auto=update left behind on a database that predates ABANDONED and N×N boards
+    private static final String HIBERNATE_SCHEMA = """
+            CREATE SCHEMA %1$s;
+            SET search_path TO %1$s;
+            CREATE SEQUENCE games_seq START WITH 1 INCREMENT BY 50;
+            CREATE SEQUENCE cells_seq START WITH 1 INCREMENT BY 50;
+            CREATE SEQUENCE moves_seq START WITH 1 INCREMENT BY 50;
+            CREATE TABLE games (
+                id BIGINT NOT NULL PRIMARY KEY,
+                version BIGINT,
+                created_at TIMESTAMP(6) NOT NULL,
+                status VARCHAR(255) NOT NULL CHECK (status IN ('IN_PROGRESS', 'X_WON', 'O_WON', 'DRAW')),
+                current_turn VARCHAR(255) NOT NULL CHECK (current_turn IN ('X', 'O', 'EMPTY')),
+                board_state VARCHAR(9),
+                mode VARCHAR(255) CHECK (mode IN ('TWO_PLAYER', 'VS_COMPUTER')),
+                board_size INTEGER,
+                win_length INTEGER,
+                turn_deadline TIMESTAMP(6),
+                move_count INTEGER NOT NULL DEFAULT 0,
+                snapshot_move_count INTEGER NOT NULL DEFAULT 0
+            );
+            CREATE TABLE cells (
+                id BIGINT NOT NULL PRIMARY KEY,
+                game_id BIGINT NOT NULL REFERENCES games,
+                row_number INTEGER NOT NULL,
+                column_number INTEGER NOT NULL,
+                value VARCHAR(255) NOT NULL CHECK (value IN ('X', 'O', 'EMPTY'))
+            );
+            CREATE TABLE moves (
+                id BIGINT NOT NULL PRIMARY KEY,
+                game_id BIGINT NOT NULL,
+                sequence INTEGER NOT NULL,
+                player VARCHAR(255) NOT NULL CHECK (player IN ('X', 'O', 'EMPTY')),
+                x INTEGER NOT NULL,
+                y INTEGER NOT NULL,
+                created_at TIMESTAMP(6) NOT NULL,
+                CONSTRAINT uk_moves_game_sequence UNIQUE (game_id, sequence)
+            );
+            INSERT INTO games (id, created_at, status, current_turn, board_state)
+            VALUES (1, now(), 'IN_PROGRESS', 'X', '---------');
+            """;
+
+    @Container
+    static PostgreSQLContainer<?> postgres = new PostgreSQLContainer<>("postgres:15-alpine");
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @BeforeAll
+    static void createHibernateSchema() throws SQLException {
+        try (Connection connection = DriverManager.getConnection(
+                postgres.getJdbcUrl(), postgres.getUsername(), postgres.getPassword());
+             Statement statement = connection.createStatement()) {
+            statement.execute(HIBERNATE_SCHEMA.formatted(SCHEMA));
+        }
+    }
+
+    @DynamicPropertySource
+    static void configureProperties(DynamicPropertyRegistry registry) {
+        registry.add("spring.datasource.url", () -> postgres.getJdbcUrl()
+                + (postgres.getJdbcUrl().contains("?") ? "&" : "?") + "currentSchema=" + SCHEMA);
+        registry.add("spring.datasource.username", postgres::getUsername);
+        registry.add("spring.datasource.password", postgres::getPassword);
+    }
+
+    @Test
+    void migrate_ShouldBaselineAndUpgradeAHibernateCreatedSchema() {
+        // When
+        List<String> applied = jdbcTemplate.queryForList(
+                "SELECT type || ' ' || version FROM flyway_schema_history WHERE success ORDER BY installed_rank",
+                String.class);
+        Integer boardStateLength = jdbcTemplate.queryForObject(
+                "SELECT character_maximum_length FROM information_schema.columns"
+                        + " WHERE table_schema = ? AND table_name = 'games' AND column_name = 'board_state'",
+                Integer.class, SCHEMA);
+        Long version = jdbcTemplate.queryForObject("SELECT version FROM games WHERE id = 1", Long.class);
+        int abandoned = jdbcTemplate.update("UPDATE games SET status = 'ABANDONED' WHERE id = 1");
+
+        // Then
+        assertThat(applied).containsExactly("BASELINE 1", "SQL 2", "SQL 3", "SQL 4", "SQL 5", "SQL 6");
+        assertThat(boardStateLength).isEqualTo(1024);
+        assertThat(version).isZero();
+        assertThat(abandoned).isEqualTo(1);
+    }
+}
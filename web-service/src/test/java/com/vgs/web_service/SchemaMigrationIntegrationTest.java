@@ -0,0 +1,67 @@
+package com.vgs.web_service;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * The migrations build the schema from an empty database, and Hibernate finds every mapped table
+ * and column in it.
+ */
+@SpringBootTest(properties = {
+        "spring.jpa.show-sql=false",
+        "spring.jpa.hibernate.ddl-auto=validate"
+})
+@Testcontainers
+class SchemaMigrationIntegrationTest {
+
+    @Container
+    static PostgreSQLContainer<?> postgres = new PostgreSQLContainer<>("postgres:15-alpine");
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @DynamicPropertySource
+    static void configureProperties(DynamicPropertyRegistry registry) {
+        registry.add("spring.datasource.url", postgres::getJdbcUrl);
+        registry.add("spring.datasource.username", postgres::getUsername);
+        registry.add("spring.datasource.password", postgres::getPassword);
+    }
+
+    @Test
+    void migrate_ShouldApplyEveryMigrationAndIndexCellsByGame() {
+        // When
+        List<String> applied = jdbcTemplate.queryForList(
+                "SELECT version FROM flyway_schema_history WHERE success ORDER BY installed_rank", String.class);
+        List<String> cellIndexes = jdbcTemplate.queryForList(
+                "SELECT indexdef FROM pg_indexes WHERE schemaname = current_schema()"
+                        + " AND tablename = 'cells' AND indexname = 'idx_cells_game_id'", String.class);
+
+        // Then
+        assertThat(applied).containsExactly("1", "2", "3", "4", "5", "6");
+        assertThat(cellIndexes).singleElement().asString().contains("(game_id)");
+    }
+
+    @Test
+    void migrate_ShouldGiveEveryArchiveTableTheColumnsOfItsLiveTable() {
+        for (String table : List.of("games", "cells", "moves")) {
+            assertThat(columns(table + "_archive")).as(table).containsExactlyInAnyOrderElementsOf(columns(table));
+        }
+    }
+
+    private List<String> columns(String table) {
+        return jdbcTemplate.queryForList(
+                "SELECT column_name || ' ' || data_type FROM information_schema.columns"
+                        + " WHERE table_schema = current_schema() AND table_name = ?", String.class, table);
+    }
+}
@@ -0,0 +1,192 @@
+package com.vgs.web_service.application.service;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class GameMailboxesTest {
+
+    private final ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+    private final GameMailboxes mailboxes = new GameMailboxes(executor);
+
+    @AfterEach
+    void shutdown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    void execute_ShouldNeverRunTwoTasksOfOneGameAtOnce() throws Exception {
+        // Given
+        int games = 50;
+        int[] counters = new int[games];
+        AtomicInteger[] running = new AtomicInteger[games];
+        for (int game = 0; game < games; game++) {
+            running[game] = new AtomicInteger();
+        }
+        AtomicInteger overlaps = new AtomicInteger();
+        ExecutorService callers = Executors.newFixedThreadPool(32);
+
+        // When
+        List<Future<?>> results = new ArrayList<>();
+        for (int i = 0; i < 20_000; i++) {
+            results.add(callers.submit(() -> {
+                // Half of the tasks go to the first two games
+                ThreadLocalRandom random = ThreadLocalRandom.current();
+                int game = random.nextBoolean() ? random.nextInt(2) : random.nextInt(games);
+                return mailboxes.execute((long) game, () -> {
+                    if (running[game].incrementAndGet() != 1) {
+                        overlaps.incrementAndGet();
+                    }
+                    // Not atomic: a second task in the same game would lose updates
+                    counters[game]++;
+                    running[game].decrementAndGet();
+                    return null;
+                });
+            }));
+        }
+        callers.shutdown();
+        assertThat(callers.awaitTermination(1, TimeUnit.MINUTES)).isTrue();
+        for (Future<?> result : results) {
+            result.get();
+        }
+
+        // Then
+        int total = 0;
+        for (int counter : counters) {
+            total += counter;
+        }
+        assertThat(overlaps).hasValue(0);
+        assertThat(total).isEqualTo(20_000);
+        // A handed over drain removes its mailbox just after answering the last task
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (mailboxes.active() > 0 && System.nanoTime() < deadline) {
+            Thread.onSpinWait();
+        }
+        assertThat(mailboxes.active()).isZero();
+    }
+
+    @Test
+    void execute_ShouldRunQueuedTasksInSubmissionOrder() throws Exception {
+        // Given
+        CountDownLatch blocked = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        List<Integer> order = new ArrayList<>();
+        Future<?> first = executor.submit(() -> mailboxes.execute(1L, () -> {
+            blocked.countDown();
+            await(release);
+            return order.add(0);
+        }));
+        blocked.await();
+
+        // When
+        List<Future<?>> queued = new ArrayList<>();
+        for (int i = 1; i <= 5; i++) {
+            int task = i;
+            queued.add(executor.submit(() -> mailboxes.execute(1L, () -> order.add(task))));
+            // Each task is queued before the next one is submitted
+            while (mailboxes.queued(1L) < i) {
+                Thread.onSpinWait();
+            }
+        }
+        release.countDown();
+        first.get();
+        for (Future<?> task : queued) {
+            task.get();
+        }
+
+        // Then
+        assertThat(order).containsExactly(0, 1, 2, 3, 4, 5);
+    }
+
+    @Test
+    void execute_ShouldRunOtherGamesWhileOneIsBusy() throws Exception {
+        // Given
+        CountDownLatch blocked = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        Future<?> busy = executor.submit(() -> mailboxes.execute(1L, () -> {
+            blocked.countDown();
+            return await(release);
+        }));
+        blocked.await();
+
+        // When
+        String other = mailboxes.execute(2L, () -> "played");
+
+        // Then
+        assertThat(other).isEqualTo("played");
+        assertThat(busy).isNotDone();
+        release.countDown();
+        busy.get();
+    }
+
+    @Test
+    void execute_ShouldRethrowTheTaskExceptionAndKeepServingTheGame() {
+        // When / Then
+        assertThatThrownBy(() -> mailboxes.execute(1L, () -> {
+            throw new IllegalStateException("rejected");
+        })).isInstanceOf(IllegalStateException.class).hasMessage("rejected");
+        assertThat(mailboxes.execute(1L, () -> 42)).isEqualTo(42);
+        assertThat(mailboxes.active()).isZero();
+    }
+
+    @Test
+    void execute_ShouldRunQueuedTasksInTheContextOfTheirCaller() throws Exception {
+        // Given
+        ThreadLocal<String> request = new ThreadLocal<>();
+        GameMailboxes decorated = new GameMailboxes(executor, task -> {
+            String caller = request.get();
+            return () -> {
+                request.set(caller);
+                try {
+                    task.run();
+                } finally {
+                    request.remove();
+                }
+            };
+        });
+        CountDownLatch blocked = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        Future<?> owner = executor.submit(() -> decorated.execute(1L, () -> {
+            blocked.countDown();
+            return await(release);
+        }));
+        blocked.await();
+
+        // When
+        Future<String[]> queued = executor.submit(() -> {
+            request.set("second");
+            Thread caller = Thread.currentThread();
+            return decorated.execute(1L, () -> new String[] {
+                    request.get(), String.valueOf(Thread.currentThread() == caller)});
+        });
+        while (decorated.queued(1L) < 1) {
+            Thread.onSpinWait();
+        }
+        release.countDown();
+        owner.get();
+
+        // Then
+        assertThat(queued.get()).containsExactly("second", "false");
+    }
+
+    private static boolean await(CountDownLatch latch) {
+        try {
+            return latch.await(10, TimeUnit.SECONDS);
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+}
@@ -1,17 +1,50 @@
 package com.vgs.web_service.application.service;
 
+import com.vgs.web_service.application.command.MoveCommand;
+import com.vgs.web_service.application.command.MoveResult;
+import com.vgs.web_service.application.event.GameUpdatedEvent;
+import com.vgs.web_service.application.metrics.GameMetrics;
+import com.vgs.web_service.domain.exception.GameNotFoundException;
+import com.vgs.web_service.domain.exception.InvalidGameConfigurationException;
+import com.vgs.web_service.domain.exception.InvalidMoveException;
 import com.vgs.web_service.domain.model.CellValue;
+import com.vgs.web_service.domain.engine.MinimaxEngine;
 import com.vgs.web_service.domain.model.Game;
+import com.vgs.web_service.domain.model.GameMode;
 import com.vgs.web_service.domain.model.GameStatus;
+import com.vgs.web_service.domain.model.Move;
 import com.vgs.web_service.domain.repository.GameRepository;
+import com.vgs.web_service.domain.repository.MoveRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
+import org.springframework.transaction.support.TransactionOperations;
+import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import java.time.Clock;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.tuple;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 @ExtendWith(MockitoExtension.class)
@@ -20,6 +53,32 @@ class GameServiceTest {
     @Mock
     private GameRepository gameRepository;
 
+    @Mock
+    private MoveRepository moveRepository;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @Spy
+    private TransactionOperations transactionOperations = TransactionOperations.withoutTransaction();
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @Spy
+    private GameMetrics gameMetrics = new GameMetrics(meterRegistry);
+
+    @Mock
+    private MinimaxEngine minimaxEngine;
+
+    private static final LocalDateTime NOW = LocalDateTime.of(2025, 3, 1, 10, 0);
+
+    @Spy
+    private TurnTimer turnTimer = new TurnTimer(Duration.ofMinutes(5),
+            Clock.fixed(NOW.toInstant(ZoneOffset.UTC), ZoneOffset.UTC));
+
+    @Spy
+    private GameMailboxes gameMailboxes = new GameMailboxes(Runnable::run);
+
     @InjectMocks
     private GameService gameService;
 
@@ -46,6 +105,89 @@ class GameServiceTest {
         
     }
 
+    @Test
+    void createGame_ShouldUseRequestedBoardSizeAndWinLength() {
+        // Given
+        when(gameRepository.save(any(Game.class))).thenAnswer(invocation -> invocation.getArgument(0));
+
+        // When
+        Game result = gameService.createGame(GameMode.TWO_PLAYER, 15, 5);
+        result.initializeBoard();
+
+        // Then
+        assertThat(result.getBoard().size()).isEqualTo(15);
+        assertThat(result.getBoard().winLength()).isEqualTo(5);
+        assertThat(result.getCells()).hasSize(225);
+    }
+
+    @Test
+    void createGame_ShouldRejectComputerGamesOnLargerBoards() {
+        // When / Then
+        assertThatThrownBy(() -> gameService.createGame(GameMode.VS_COMPUTER, 15, 5))
+                .isInstanceOf(InvalidGameConfigurationException.class);
+        verify(gameRepository, never()).save(any(Game.class));
+    }
+
+    @Test
+    void makeMove_ShouldRejectCellsOutsideTheGamesBoard() {
+        // Given
+        Long gameId = 1L;
+        Game game = Game.builder()
+                .id(gameId)
+                .boardSize(4)
+                .winLength(3)
+                .build();
+
+        when(gameRepository.findById(gameId)).thenReturn(game);
+        when(gameRepository.save(any(Game.class))).thenAnswer(invocation -> invocation.getArgument(0));
+
+        // When / Then
+        assertThatThrownBy(() -> gameService.makeMove(gameId, CellValue.X, 5, 1))
+                .isInstanceOf(InvalidMoveException.class)
+                .hasMessageContaining("out of bounds");
+        assertThat(gameService.makeMove(gameId, CellValue.X, 4, 4).getBoard().get(4, 4)).isEqualTo(CellValue.X);
+    }
+
+    @Test
+    void makeMove_ShouldRejectWithoutCapturingStackTrace() {
+        // Given
+        Long gameId = 1L;
+        Game game = Game.builder().id(gameId).build();
+        when(gameRepository.findById(gameId)).thenReturn(game);
+
+        // When / Then
+        assertThatThrownBy(() -> gameService.makeMove(gameId, CellValue.O, 1, 1))
+                .isInstanceOf(InvalidMoveException.class)
+                .satisfies(ex -> assertThat(ex.getStackTrace()).isEmpty());
+    }
+
+    @Test
+    void createGames_ShouldInsertGamesInChunksAsTheStreamIsConsumed() {
+        // Given
+        AtomicLong nextId = new AtomicLong(1);
+        List<Integer> chunkSizes = new ArrayList<>();
+        when(gameRepository.saveAll(anyList())).thenAnswer(invocation -> {
+            List<Game> games = invocation.getArgument(0);
+            chunkSizes.add(games.size());
+            games.forEach(game -> game.setId(nextId.getAndIncrement()));
+            return games;
+        });
+
+        int count = 2 * GameService.CREATE_CHUNK_SIZE + 1;
+
+        // When
+        List<Long> firstIds = gameService.createGames(count).limit(10).toList();
+        int chunksForFirstIds = chunkSizes.size();
+        List<Long> allIds = gameService.createGames(count).toList();
+
+        // Then
+        assertThat(firstIds).containsExactly(1L, 2L, 3L, 4L, 5L, 6L, 7L, 8L, 9L, 10L);
+        assertThat(chunksForFirstIds).isEqualTo(1);
+        assertThat(allIds).hasSize(count).doesNotHaveDuplicates();
+        assertThat(chunkSizes.subList(1, chunkSizes.size()))
+                .containsExactly(GameService.CREATE_CHUNK_SIZE, GameService.CREATE_CHUNK_SIZE, 1);
+    }
+
     @Test
     void getGame_ShouldReturnGameWhenFound() {
         // Given
@@ -81,6 +223,17 @@ class GameServiceTest {
         }
     }
 
+    @Test
+    void getReadOnlyGame_ShouldThrowExceptionWhenNotFound() {
+        // Given
+        when(gameRepository.findReadOnlyById(1L)).thenReturn(null);
+
+        // When / Then
+        assertThatThrownBy(() -> gameService.getReadOnlyGame(1L))
+                .isInstanceOf(GameNotFoundException.class);
+        verify(gameRepository, never()).findById(any());
+    }
+
     @Test
     void makeMove_ShouldUpdateGameStateWhenMoveIsValid() {
         // Given
@@ -218,4 +371,307 @@ class GameServiceTest {
         assertThat(result.getStatus()).isEqualTo(GameStatus.DRAW);
         assertThat(result.getCells()).allMatch(cell -> cell.getValue() != CellValue.EMPTY);
     }
-}
\ No newline at end of file
+
+    @Test
+    void makeMove_ShouldRetryWhenGameWasUpdatedConcurrently() {
+        // Given
+        Long gameId = 1L;
+        Game staleGame = Game.builder().id(gameId).build();
+        staleGame.initializeBoard();
+        Game freshGame = Game.builder().id(gameId).build();
+        freshGame.initializeBoard();
+
+        when(gameRepository.findById(gameId)).thenReturn(staleGame, freshGame);
+        when(gameRepository.save(any(Game.class)))
+                .thenThrow(new ObjectOptimisticLockingFailureException(Game.class, gameId))
+                .thenAnswer(invocation -> invocation.getArgument(0));
+
+        // When
+        Game result = gameService.makeMove(gameId, CellValue.X, 1, 1);
+
+        // Then
+        assertThat(result).isSameAs(freshGame);
+        assertThat(result.getCurrentTurn()).isEqualTo(CellValue.O);
+        verify(gameRepository, times(2)).findById(gameId);
+    }
+
+    @Test
+    void makeMove_ShouldThrowConcurrentMoveExceptionWhenRetriesAreExhausted() {
+        // Given
+        Long gameId = 1L;
+        when(gameRepository.findById(gameId)).thenAnswer(invocation -> {
+            Game game = Game.builder().id(gameId).build();
+            game.initializeBoard();
+            return game;
+        });
+        when(gameRepository.save(any(Game.class)))
+                .thenThrow(new ObjectOptimisticLockingFailureException(Game.class, gameId));
+
+        // When / Then
+        assertThatThrownBy(() -> gameService.makeMove(gameId, CellValue.X, 1, 1))
+                .isInstanceOf(com.vgs.web_service.domain.exception.ConcurrentMoveException.class)
+                .hasMessage("Game with id " + gameId + " was modified concurrently, please retry");
+        verify(gameRepository, times(GameService.MAX_MOVE_ATTEMPTS)).findById(gameId);
+        assertThat(meterRegistry.get("game.move.conflicts").counter().count()).isEqualTo(GameService.MAX_MOVE_ATTEMPTS);
+    }
+
+    @Test
+    void makeMove_ShouldTimeEachPhase() {
+        // Given
+        Long gameId = 1L;
+        Game game = Game.builder().id(gameId).build();
+        when(gameRepository.findById(gameId)).thenReturn(game);
+        when(gameRepository.save(game)).thenReturn(game);
+
+        // When
+        gameService.makeMove(gameId, CellValue.X, 1, 1);
+
+        // Then
+        for (String phase : new String[]{"load", "validate", "save"}) {
+            assertThat(meterRegistry.get("game.move.phase").tag("phase", phase).timer().count()).isEqualTo(1);
+        }
+    }
+
+    @Test
+    void makeMove_ShouldReplyWithComputerMoveInSinglePlayerGame() {
+        // Given
+        Long gameId = 1L;
+        Game game = Game.builder().id(gameId).mode(GameMode.VS_COMPUTER).build();
+        when(gameRepository.findById(gameId)).thenReturn(game);
+        when(gameRepository.save(game)).thenReturn(game);
+        when(minimaxEngine.bestMove(any())).thenReturn(4);
+
+        // When
+        Game result = gameService.makeMove(gameId, CellValue.X, 1, 1);
+
+        // Then
+        assertThat(result.getBoard().get(1, 1)).isEqualTo(CellValue.X);
+        assertThat(result.getBoard().get(2, 2)).isEqualTo(CellValue.O);
+        assertThat(result.getCurrentTurn()).isEqualTo(CellValue.X);
+        verify(gameRepository, times(1)).save(game);
+        verify(eventPublisher, times(2)).publishEvent(any(GameUpdatedEvent.class));
+    }
+
+    @Test
+    void makeMove_ShouldAppendPlayerAndComputerMovesToHistory() {
+        // Given
+        Long gameId = 1L;
+        Game game = Game.builder().id(gameId).mode(GameMode.VS_COMPUTER).build();
+        when(gameRepository.findById(gameId)).thenReturn(game);
+        when(gameRepository.save(game)).thenReturn(game);
+        when(minimaxEngine.bestMove(any())).thenReturn(4);
+
+        // When
+        gameService.makeMove(gameId, CellValue.X, 1, 1);
+
+        // Then
+        ArgumentCaptor<List<Move>> appended = ArgumentCaptor.captor();
+        verify(moveRepository).appendAll(appended.capture());
+        assertThat(appended.getValue())
+                .extracting(Move::getGameId, Move::getSequence, Move::getPlayer, Move::getX, Move::getY)
+                .containsExactly(
+                        tuple(gameId, 1, CellValue.X, 1, 1),
+                        tuple(gameId, 2, CellValue.O, 2, 2));
+        assertThat(game.getMoveCount()).isEqualTo(2);
+    }
+
+    @Test
+    void getMoves_ShouldReturnHistoryAfterCursor() {
+        // Given
+        Long gameId = 1L;
+        Move move = Move.builder().gameId(gameId).sequence(3).player(CellValue.X).x(1).y(1).build();
+        when(gameRepository.findReadOnlyById(gameId)).thenReturn(Game.builder().id(gameId).build());
+        when(moveRepository.findByGameId(gameId, 2, 10)).thenReturn(List.of(move));
+
+        // When
+        List<Move> result = gameService.getMoves(gameId, 2, 10);
+
+        // Then
+        assertThat(result).containsExactly(move);
+    }
+
+    @Test
+    void getMoves_ShouldThrowExceptionWhenGameNotFound() {
+        // Given
+        when(gameRepository.findReadOnlyById(99L)).thenReturn(null);
+
+        // When / Then
+        assertThatThrownBy(() -> gameService.getMoves(99L, 0, 10))
+                .isInstanceOf(GameNotFoundException.class);
+        verify(moveRepository, never()).findByGameId(any(), anyInt(), anyInt());
+    }
+
+    @Test
+    void makeMove_ShouldNotReplyWhenPlayerMoveEndsTheGame() {
+        // Given
+        Long gameId = 1L;
+        Game game = Game.builder().id(gameId).mode(GameMode.VS_COMPUTER).boardState("XX-OO----").build();
+        when(gameRepository.findById(gameId)).thenReturn(game);
+        when(gameRepository.save(game)).thenReturn(game);
+
+        // When
+        Game result = gameService.makeMove(gameId, CellValue.X, 1, 3);
+
+        // Then
+        assertThat(result.getStatus()).isEqualTo(GameStatus.X_WON);
+        verify(minimaxEngine, times(0)).bestMove(any());
+    }
+
+    @Test
+    void makeMoves_ShouldApplyMovesPerGameInOrderAndSaveEachGameOnce() {
+        // Given
+        Game first = Game.builder().id(1L).build();
+        first.initializeBoard();
+        Game second = Game.builder().id(2L).build();
+        second.initializeBoard();
+
+        when(gameRepository.findById(1L)).thenReturn(first);
+        when(gameRepository.findById(2L)).thenReturn(second);
+        when(gameRepository.save(any(Game.class))).thenAnswer(invocation -> invocation.getArgument(0));
+
+        List<MoveCommand> moves = List.of(
+                new MoveCommand(1L, CellValue.X, 1, 1),
+                new MoveCommand(2L, CellValue.X, 2, 2),
+                new MoveCommand(1L, CellValue.O, 1, 1),
+                new MoveCommand(1L, CellValue.O, 3, 3));
+
+        // When
+        List<MoveResult> results = gameService.makeMoves(moves);
+
+        // Then
+        assertThat(results).extracting(MoveResult::move).containsExactlyElementsOf(moves);
+        assertThat(results).extracting(MoveResult::outcome).containsExactly(
+                MoveResult.Outcome.APPLIED, MoveResult.Outcome.APPLIED,
+                MoveResult.Outcome.REJECTED, MoveResult.Outcome.APPLIED);
+        assertThat(results.get(0).currentTurn()).isEqualTo(CellValue.O);
+        assertThat(results.get(3).currentTurn()).isEqualTo(CellValue.X);
+        assertThat(first.getBoard().get(3, 3)).isEqualTo(CellValue.O);
+        verify(gameRepository, times(1)).findById(1L);
+        verify(gameRepository, times(1)).save(first);
+        verify(gameRepository, times(1)).save(second);
+        verify(eventPublisher, times(3)).publishEvent(any(GameUpdatedEvent.class));
+    }
+
+    @Test
+    void makeMoves_ShouldReportMissingGamesWithoutFailingTheBatch() {
+        // Given
+        Game game = Game.builder().id(1L).build();
+        game.initializeBoard();
+
+        when(gameRepository.findById(1L)).thenReturn(game);
+        when(gameRepository.findById(99L)).thenReturn(null);
+        when(gameRepository.save(any(Game.class))).thenAnswer(invocation -> invocation.getArgument(0));
+
+        // When
+        List<MoveResult> results = gameService.makeMoves(List.of(
+                new MoveCommand(99L, CellValue.X, 1, 1),
+                new MoveCommand(1L, CellValue.X, 1, 1)));
+
+        // Then
+        assertThat(results).extracting(MoveResult::outcome)
+                .containsExactly(MoveResult.Outcome.NOT_FOUND, MoveResult.Outcome.APPLIED);
+        assertThat(results.get(0).error()).isEqualTo("Game with id 99 not found");
+    }
+
+    @Test
+    void makeMoves_ShouldReportAGameThatFailsWithoutFailingTheBatch() {
+        // Given
+        Game failing = Game.builder().id(1L).build();
+        failing.initializeBoard();
+        Game game = Game.builder().id(2L).build();
+        game.initializeBoard();
+
+        when(gameRepository.findById(1L)).thenReturn(failing);
+        when(gameRepository.findById(2L)).thenReturn(game);
+        when(gameRepository.save(failing)).thenThrow(new DataIntegrityViolationException("constraint violated"));
+        when(gameRepository.save(game)).thenReturn(game);
+
+        // When
+        List<MoveResult> results = gameService.makeMoves(List.of(
+                new MoveCommand(1L, CellValue.X, 1, 1),
+                new MoveCommand(2L, CellValue.X, 1, 1),
+                new MoveCommand(1L, CellValue.O, 2, 2)));
+
+        // Then
+        assertThat(results).extracting(MoveResult::outcome).containsExactly(
+                MoveResult.Outcome.FAILED, MoveResult.Outcome.APPLIED, MoveResult.Outcome.FAILED);
+        assertThat(results.get(0).error()).isEqualTo("Moves could not be applied for game 1");
+        assertThat(results.get(0).status()).isNull();
+    }
+
+    @Test
+    void makeMove_ShouldStartTheNextPlayersTurnClock() {
+        // Given
+        Game game = Game.builder().id(1L).turnDeadline(NOW.plusMinutes(1)).build();
+        game.initializeBoard();
+
+        when(gameRepository.findById(1L)).thenReturn(game);
+        when(gameRepository.save(any(Game.class))).thenAnswer(invocation -> invocation.getArgument(0));
+
+        // When
+        Game result = gameService.makeMove(1L, CellValue.X, 1, 1);
+
+        // Then
+        assertThat(result.getTurnDeadline()).isEqualTo(NOW.plusMinutes(5));
+    }
+
+    @Test
+    void makeMove_ShouldRejectMoveAfterTurnDeadline() {
+        // Given
+        Game game = Game.builder().id(1L).turnDeadline(NOW.minusSeconds(1)).build();
+        game.initializeBoard();
+
+        when(gameRepository.findById(1L)).thenReturn(game);
+
+        // When / Then
+        assertThatThrownBy(() -> gameService.makeMove(1L, CellValue.X, 1, 1))
+                .isInstanceOf(InvalidMoveException.class)
+                .hasMessage("Player X ran out of time");
+        verify(gameRepository, never()).save(any(Game.class));
+    }
+
+    @Test
+    void makeMove_ShouldIgnoreAStoredDeadlineWhenTurnsDoNotExpire() {
+        // Given
+        Game game = Game.builder().id(1L).turnDeadline(NOW.minusSeconds(1)).build();
+        game.initializeBoard();
+
+        when(turnTimer.isEnabled()).thenReturn(false);
+        when(gameRepository.findById(1L)).thenReturn(game);
+        when(gameRepository.save(any(Game.class))).thenAnswer(invocation -> invocation.getArgument(0));
+
+        // When
+        Game result = gameService.makeMove(1L, CellValue.X, 1, 1);
+
+        // Then
+        assertThat(result.getBoard().get(1, 1)).isEqualTo(CellValue.X);
+        assertThat(result.getTurnDeadline()).isNull();
+    }
+
+    @Test
+    void abandonExpiredGames_ShouldAbandonGamesThatAreStillExpired() {
+        // Given
+        Game expired = Game.builder().id(1L).currentTurn(CellValue.O).turnDeadline(NOW.minusMinutes(1)).build();
+        Game movedSince = Game.builder().id(2L).turnDeadline(NOW.plusMinutes(4)).build();
+
+        when(gameRepository.findExpiredIds(NOW, 10)).thenReturn(List.of(1L, 2L));
+        when(gameRepository.findById(1L)).thenReturn(expired);
+        when(gameRepository.findById(2L)).thenReturn(movedSince);
+        when(gameRepository.save(any(Game.class))).thenAnswer(invocation -> invocation.getArgument(0));
+
+        // When
+        int abandoned = gameService.abandonExpiredGames(10);
+
+        // Then
+        assertThat(abandoned).isEqualTo(1);
+        assertThat(expired.getStatus()).isEqualTo(GameStatus.ABANDONED);
+        assertThat(expired.getTurnDeadline()).isNull();
+        assertThat(movedSince.getStatus()).isEqualTo(GameStatus.IN_PROGRESS);
+        verify(gameRepository, never()).save(movedSince);
+
+        ArgumentCaptor<GameUpdatedEvent> event = ArgumentCaptor.forClass(GameUpdatedEvent.class);
+        verify(eventPublisher).publishEvent(event.capture());
+        assertThat(event.getValue().game().getId()).isEqualTo(1L);
+        assertThat(event.getValue().hasMove()).isFalse();
+    }
+}
@@ -0,0 +1,34 @@
+package com.vgs.web_service.benchmark;
+
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.testcontainers.containers.PostgreSQLContainer;
+
+/**
+ * The PostgreSQL a benchmark runs against: the one at {@code -Dbenchmark.datasource.url} (with
+ * {@code benchmark.datasource.username} and {@code benchmark.datasource.password}) when it is set,
+ * so benchmarks also run where Docker is not available, and otherwise a new container.
+ */
+final class BenchmarkDatabase {
+
+    private static final String URL = System.getProperty("benchmark.datasource.url");
+
+    private BenchmarkDatabase() {
+    }
+
+    static void register(DynamicPropertyRegistry registry, String... postgresCommand) {
+        if (URL != null) {
+            registry.add("spring.datasource.url", () -> URL);
+            registry.add("spring.datasource.username", () -> System.getProperty("benchmark.datasource.username", "postgres"));
+            registry.add("spring.datasource.password", () -> System.getProperty("benchmark.datasource.password", "postgres"));
+            return;
+        }
+        PostgreSQLContainer<?> postgres = new PostgreSQLContainer<>("postgres:15-alpine");
+        if (postgresCommand.length > 0) {
+            postgres.withCommand(postgresCommand);
+        }
+        postgres.start();
+        registry.add("spring.datasource.url", postgres::getJdbcUrl);
+        registry.add("spring.datasource.username", postgres::getUsername);
+        registry.add("spring.datasource.password", postgres::getPassword);
+    }
+}
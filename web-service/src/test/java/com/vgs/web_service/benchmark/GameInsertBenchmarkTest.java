@@ -0,0 +1,118 @@
+package com.vgs.web_service.benchmark;
+
+import com.vgs.web_service.application.service.GameService;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Compares game creation through Hibernate (pooled-lo sequences, batched inserts) with the
+ * statement pattern IDENTITY columns force: one INSERT ... RETURNING round trip per row.
+ * Run with {@code ./mvnw test -Pbenchmark}.
+ */
+@Tag("benchmark")
+@SpringBootTest(properties = {
+        "spring.jpa.show-sql=false",
+        "spring.jpa.properties.hibernate.generate_statistics=true",
+        "game.persistence.board-storage=CELLS"
+})
+class GameInsertBenchmarkTest {
+
+    private static final int WARMUP_GAMES = 500;
+    private static final int MEASURED_GAMES = 5_000;
+    private static final int ROWS_PER_GAME = 10;
+
+    @Autowired
+    private GameService gameService;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @DynamicPropertySource
+    static void configureProperties(DynamicPropertyRegistry registry) {
+        BenchmarkDatabase.register(registry);
+    }
+
+    @Test
+    void createGame_InsertsPerSecond() {
+        for (int i = 0; i < WARMUP_GAMES; i++) {
+            gameService.createGame();
+        }
+
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+
+        long start = System.nanoTime();
+        for (int i = 0; i < MEASURED_GAMES; i++) {
+            gameService.createGame();
+        }
+        long elapsed = System.nanoTime() - start;
+
+        double statementsPerGame = (double) statistics.getPrepareStatementCount() / MEASURED_GAMES;
+        report("sequence + batched inserts", elapsed, statementsPerGame);
+
+        // One statement for the game, one batch for its cells, plus an amortized sequence call
+        assertThat(statementsPerGame).isLessThan(3.0);
+    }
+
+    @Test
+    void identityStyleInserts_InsertsPerSecond() {
+        jdbcTemplate.execute("""
+                CREATE TABLE IF NOT EXISTS identity_games (
+                    id BIGSERIAL PRIMARY KEY, created_at TIMESTAMP NOT NULL, status VARCHAR(255) NOT NULL,
+                    current_turn VARCHAR(255) NOT NULL, board_state VARCHAR(9))""");
+        jdbcTemplate.execute("""
+                CREATE TABLE IF NOT EXISTS identity_cells (
+                    id BIGSERIAL PRIMARY KEY, game_id BIGINT NOT NULL REFERENCES identity_games(id),
+                    row_number INTEGER NOT NULL, column_number INTEGER NOT NULL, value VARCHAR(255) NOT NULL)""");
+
+        for (int i = 0; i < WARMUP_GAMES; i++) {
+            insertIdentityStyleGame();
+        }
+
+        long start = System.nanoTime();
+        for (int i = 0; i < MEASURED_GAMES; i++) {
+            insertIdentityStyleGame();
+        }
+        long elapsed = System.nanoTime() - start;
+
+        report("identity, one statement per row", elapsed, ROWS_PER_GAME);
+    }
+
+    private void insertIdentityStyleGame() {
+        transactionTemplate.executeWithoutResult(status -> {
+            Long gameId = jdbcTemplate.queryForObject(
+                    "INSERT INTO identity_games (created_at, status, current_turn, board_state) "
+                            + "VALUES (now(), 'IN_PROGRESS', 'X', '---------') RETURNING id", Long.class);
+            for (int row = 1; row <= 3; row++) {
+                for (int col = 1; col <= 3; col++) {
+                    jdbcTemplate.queryForObject(
+                            "INSERT INTO identity_cells (game_id, row_number, column_number, value) "
+                                    + "VALUES (?, ?, ?, 'EMPTY') RETURNING id", Long.class, gameId, row, col);
+                }
+            }
+        });
+    }
+
+    private static void report(String label, long elapsedNanos, double statementsPerGame) {
+        double seconds = elapsedNanos / 1_000_000_000.0;
+        System.out.printf("[benchmark] %-32s %8.0f games/s %9.0f rows/s %5.2f statements/game%n",
+                label, MEASURED_GAMES / seconds, MEASURED_GAMES * ROWS_PER_GAME / seconds, statementsPerGame);
+    }
+}
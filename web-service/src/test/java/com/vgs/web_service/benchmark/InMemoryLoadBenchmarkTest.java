@@ -0,0 +1,11 @@
+package com.vgs.web_service.benchmark;
+
+import org.springframework.test.context.ActiveProfiles;
+
+/**
+ * Mixed load with games kept in memory, the ceiling for the database-backed runs. Run with
+ * {@code ./mvnw test -Pbenchmark}.
+ */
+@ActiveProfiles("in-memory")
+class InMemoryLoadBenchmarkTest extends MixedLoadBenchmark {
+}
@@ -0,0 +1,148 @@
+package com.vgs.web_service.benchmark;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.zaxxer.hikari.HikariDataSource;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Drives the HTTP API with many concurrent clients, each repeatedly creating a game and playing it
+ * to the end while polling its status after every move, and reports throughput and latency
+ * percentiles. Subclasses pick the request execution mode being measured.
+ */
+@Tag("benchmark")
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT,
+        properties = "spring.jpa.show-sql=false")
+abstract class MixedLoadBenchmark {
+
+    private static final int CLIENTS = 200;
+    private static final int WARMUP_GAMES_PER_CLIENT = 1;
+    private static final int MEASURED_GAMES_PER_CLIENT = 3;
+
+    // X wins on the anti-diagonal with the 7th move
+    private static final int[][] MOVES = {{1, 1}, {1, 2}, {1, 3}, {2, 1}, {2, 2}, {2, 3}, {3, 1}};
+    private static final int REQUESTS_PER_GAME = 1 + 2 * MOVES.length;
+
+    @LocalServerPort
+    private int port;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    // Absent in the in-memory profile
+    @Autowired
+    private ObjectProvider<HikariDataSource> dataSource;
+
+    @Value("${spring.threads.virtual.enabled}")
+    private boolean virtualThreads;
+
+    private final HttpClient httpClient = HttpClient.newBuilder()
+            .executor(Executors.newVirtualThreadPerTaskExecutor())
+            .build();
+
+    @DynamicPropertySource
+    static void configureProperties(DynamicPropertyRegistry registry) {
+        BenchmarkDatabase.register(registry, "postgres", "-c", "max_connections=200");
+    }
+
+    @Test
+    void mixedCreateMoveStatusLoad() throws Exception {
+        runClients(WARMUP_GAMES_PER_CLIENT);
+
+        long start = System.nanoTime();
+        long[] latencies = runClients(MEASURED_GAMES_PER_CLIENT);
+        long elapsed = System.nanoTime() - start;
+
+        Arrays.sort(latencies);
+        HikariDataSource pool = dataSource.getIfAvailable();
+        System.out.printf("[benchmark] %-16s pool=%-9s %8.0f req/s  p50 %6.1f ms  p99 %6.1f ms  max %6.1f ms%n",
+                virtualThreads ? "virtual threads" : "platform threads",
+                pool != null ? pool.getMaximumPoolSize() : "in-memory",
+                latencies.length / (elapsed / 1_000_000_000.0),
+                percentile(latencies, 0.50), percentile(latencies, 0.99), percentile(latencies, 1.0));
+
+        assertThat(latencies).hasSize(CLIENTS * MEASURED_GAMES_PER_CLIENT * REQUESTS_PER_GAME);
+    }
+
+    private long[] runClients(int gamesPerClient) throws Exception {
+        List<Future<long[]>> clients = new ArrayList<>(CLIENTS);
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int i = 0; i < CLIENTS; i++) {
+                clients.add(executor.submit(() -> playGames(gamesPerClient)));
+            }
+        }
+
+        long[] latencies = new long[CLIENTS * gamesPerClient * REQUESTS_PER_GAME];
+        int offset = 0;
+        for (Future<long[]> client : clients) {
+            long[] clientLatencies = client.get();
+            System.arraycopy(clientLatencies, 0, latencies, offset, clientLatencies.length);
+            offset += clientLatencies.length;
+        }
+        return latencies;
+    }
+
+    private long[] playGames(int games) throws Exception {
+        long[] latencies = new long[games * REQUESTS_PER_GAME];
+        int request = 0;
+        for (int game = 0; game < games; game++) {
+            long started = System.nanoTime();
+            JsonNode created = send(HttpRequest.newBuilder(uri("/api/games/create"))
+                    .POST(HttpRequest.BodyPublishers.noBody()));
+            latencies[request++] = System.nanoTime() - started;
+            long matchId = created.get("id").asLong();
+
+            for (int i = 0; i < MOVES.length; i++) {
+                String body = """
+                        {"matchId": %d, "playerId": "%s", "square": {"x": %d, "y": %d}}"""
+                        .formatted(matchId, i % 2 == 0 ? "X" : "O", MOVES[i][0], MOVES[i][1]);
+                started = System.nanoTime();
+                send(HttpRequest.newBuilder(uri("/api/games/move"))
+                        .header("Content-Type", "application/json")
+                        .POST(HttpRequest.BodyPublishers.ofString(body)));
+                latencies[request++] = System.nanoTime() - started;
+
+                started = System.nanoTime();
+                send(HttpRequest.newBuilder(uri("/api/games/status?matchId=" + matchId)).GET());
+                latencies[request++] = System.nanoTime() - started;
+            }
+        }
+        return latencies;
+    }
+
+    private JsonNode send(HttpRequest.Builder request) throws Exception {
+        HttpResponse<String> response = httpClient.send(request.build(), HttpResponse.BodyHandlers.ofString());
+        assertThat(response.statusCode()).isEqualTo(200);
+        return objectMapper.readTree(response.body());
+    }
+
+    private URI uri(String path) {
+        return URI.create("http://localhost:" + port + path);
+    }
+
+    private static double percentile(long[] sorted, double percentile) {
+        int index = (int) Math.ceil(percentile * sorted.length) - 1;
+        return sorted[Math.max(index, 0)] / 1_000_000.0;
+    }
+}
@@ -0,0 +1,15 @@
+package com.vgs.web_service.benchmark;
+
+import org.springframework.test.context.TestPropertySource;
+
+/**
+ * Mixed load against the default Tomcat platform thread pool. The connection pool is sized as in
+ * the virtual-threads profile, so only the request threads differ between the two runs. Run with
+ * {@code ./mvnw test -Pbenchmark}.
+ */
+@TestPropertySource(properties = {
+        "spring.datasource.hikari.maximum-pool-size=40",
+        "spring.datasource.hikari.minimum-idle=40"
+})
+class PlatformThreadLoadBenchmarkTest extends MixedLoadBenchmark {
+}
@@ -0,0 +1,10 @@
+package com.vgs.web_service.benchmark;
+
+import org.springframework.test.context.ActiveProfiles;
+
+/**
+ * Mixed load with the virtual-threads profile. Run with {@code ./mvnw test -Pbenchmark}.
+ */
+@ActiveProfiles("virtual-threads")
+class VirtualThreadLoadBenchmarkTest extends MixedLoadBenchmark {
+}
@@ -0,0 +1,93 @@
+package com.vgs.web_service.domain.engine;
+
+import com.vgs.web_service.domain.model.Board;
+import com.vgs.web_service.domain.model.CellValue;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class MinimaxEngineTest {
+
+    private static final MinimaxEngine engine = new MinimaxEngine();
+
+    @Test
+    void bestMove_ShouldCompleteOwnLineOverBlocking() {
+        // X threatens the top row, O can win on the middle row
+        Board board = new Board();
+        board.place(CellValue.X, 1, 1);
+        board.place(CellValue.O, 2, 1);
+        board.place(CellValue.X, 1, 2);
+        board.place(CellValue.O, 2, 2);
+        board.place(CellValue.X, 3, 3);
+
+        assertThat(engine.bestMove(board)).isEqualTo(new Board().indexOf(2, 3));
+    }
+
+    @Test
+    void bestMove_ShouldBlockOpponentLine() {
+        Board board = new Board();
+        board.place(CellValue.X, 1, 1);
+        board.place(CellValue.O, 2, 2);
+        board.place(CellValue.X, 1, 2);
+
+        assertThat(engine.bestMove(board)).isEqualTo(new Board().indexOf(1, 3));
+    }
+
+    @Test
+    void bestMove_ShouldReturnNoMoveWhenGameIsOver() {
+        Board board = new Board();
+        board.place(CellValue.X, 1, 1);
+        board.place(CellValue.O, 2, 1);
+        board.place(CellValue.X, 1, 2);
+        board.place(CellValue.O, 2, 2);
+        board.place(CellValue.X, 1, 3);
+
+        assertThat(engine.bestMove(board)).isEqualTo(MinimaxEngine.NO_MOVE);
+    }
+
+    @Test
+    void bestMove_ShouldNeverLoseAsOAgainstAnySequenceOfXMoves() {
+        assertThat(xCanWin(new Board())).isFalse();
+    }
+
+    @Test
+    void bestMove_ShouldDrawAgainstItself() {
+        Board board = new Board();
+        CellValue player = CellValue.X;
+        while (board.winner() == null && !board.isFull()) {
+            int cell = engine.bestMove(board);
+            board.place(player, cell / Board.SIZE + 1, cell % Board.SIZE + 1);
+            player = player == CellValue.X ? CellValue.O : CellValue.X;
+        }
+
+        assertThat(board.winner()).isNull();
+    }
+
+    @Test
+    void engine_ShouldSolveEveryPositionUsingSymmetryReduction() {
+        // 5478 legal positions, of which 4520 are not yet decided
+        assertThat(engine.solvedPositions()).isEqualTo(4520);
+        assertThat(engine.canonicalPositions()).isLessThan(engine.solvedPositions() / 5);
+    }
+
+    // Tries every X move at every X turn, with O always answering with the engine's move
+    private static boolean xCanWin(Board board) {
+        for (int cell = 0; cell < Board.CELL_COUNT; cell++) {
+            int row = cell / Board.SIZE + 1;
+            int col = cell % Board.SIZE + 1;
+            if (board.isOccupied(row, col)) continue;
+
+            Board next = Board.fromMasks(board.getXMask(), board.getOMask());
+            next.place(CellValue.X, row, col);
+            if (next.winner() == CellValue.X) return true;
+            if (next.isFull()) continue;
+
+            int reply = engine.bestMove(next);
+            next.place(CellValue.O, reply / Board.SIZE + 1, reply % Board.SIZE + 1);
+            if (next.winner() == CellValue.O || next.isFull()) continue;
+
+            if (xCanWin(next)) return true;
+        }
+        return false;
+    }
+}
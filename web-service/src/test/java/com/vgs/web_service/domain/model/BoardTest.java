@@ -0,0 +1,191 @@
+package com.vgs.web_service.domain.model;
+
+import com.vgs.web_service.domain.exception.InvalidGameConfigurationException;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class BoardTest {
+
+    @Test
+    void place_ShouldMarkCellAsOccupied() {
+        Board board = new Board();
+
+        board.place(CellValue.X, 2, 3);
+
+        assertThat(board.isOccupied(2, 3)).isTrue();
+        assertThat(board.get(2, 3)).isEqualTo(CellValue.X);
+        assertThat(board.isOccupied(3, 2)).isFalse();
+        assertThat(board.get(3, 2)).isEqualTo(CellValue.EMPTY);
+    }
+
+    @Test
+    void completesLine_ShouldDetectRowsColumnsAndDiagonals() {
+        int[][][] lines = {
+                {{1, 1}, {1, 2}, {1, 3}},
+                {{3, 1}, {3, 2}, {3, 3}},
+                {{1, 2}, {2, 2}, {3, 2}},
+                {{1, 1}, {2, 2}, {3, 3}},
+                {{1, 3}, {2, 2}, {3, 1}}
+        };
+
+        for (int[][] line : lines) {
+            Board board = new Board();
+            board.place(CellValue.O, line[0][0], line[0][1]);
+            board.place(CellValue.O, line[1][0], line[1][1]);
+            assertThat(board.completesLine(CellValue.O, line[1][0], line[1][1])).isFalse();
+
+            board.place(CellValue.O, line[2][0], line[2][1]);
+
+            assertThat(board.completesLine(CellValue.O, line[2][0], line[2][1])).isTrue();
+            assertThat(board.winner()).isEqualTo(CellValue.O);
+        }
+    }
+
+    @Test
+    void completesLine_ShouldIgnoreOpponentCells() {
+        Board board = new Board();
+        board.place(CellValue.X, 1, 1);
+        board.place(CellValue.O, 1, 2);
+        board.place(CellValue.X, 1, 3);
+
+        assertThat(board.completesLine(CellValue.X, 1, 3)).isFalse();
+        assertThat(board.winner()).isNull();
+    }
+
+    @Test
+    void isFull_ShouldBeTrueOnlyWhenEveryCellIsOccupied() {
+        Board board = new Board();
+        for (int row = 1; row <= Board.SIZE; row++) {
+            for (int col = 1; col <= Board.SIZE; col++) {
+                assertThat(board.isFull()).isFalse();
+                board.place((row + col) % 2 == 0 ? CellValue.X : CellValue.O, row, col);
+            }
+        }
+
+        assertThat(board.isFull()).isTrue();
+    }
+
+    @Test
+    void fromCells_ShouldRebuildMasksFromPersistedCells() {
+        List<Cell> cells = new ArrayList<>();
+        cells.add(Cell.builder().row_number(1).column_number(1).value(CellValue.X).build());
+        cells.add(Cell.builder().row_number(3).column_number(2).value(CellValue.O).build());
+        cells.add(Cell.builder().row_number(2).column_number(2).value(CellValue.EMPTY).build());
+
+        Board board = Board.fromCells(cells);
+
+        assertThat(board.getXMask()).isEqualTo(1);
+        assertThat(board.getOMask()).isEqualTo(1 << board.indexOf(3, 2));
+        assertThat(board.isOccupied(2, 2)).isFalse();
+    }
+
+    @Test
+    void encode_ShouldRoundTripThroughDecode() {
+        Board board = new Board();
+        board.place(CellValue.X, 1, 1);
+        board.place(CellValue.O, 2, 2);
+        board.place(CellValue.X, 3, 3);
+
+        String encoded = board.encode();
+        Board decoded = Board.decode(encoded);
+
+        assertThat(encoded).isEqualTo("X---O---X");
+        assertThat(decoded.getXMask()).isEqualTo(board.getXMask());
+        assertThat(decoded.getOMask()).isEqualTo(board.getOMask());
+    }
+
+    @Test
+    void completesLine_ShouldNeedWinLengthInARowOnLargerBoards() {
+        int[][] directions = {{0, 1}, {1, 0}, {1, 1}, {1, -1}};
+
+        for (int[] direction : directions) {
+            Board board = new Board(15, 5);
+            int row = 7;
+            int col = 7;
+            for (int i = 0; i < 4; i++) {
+                board.place(CellValue.X, row + direction[0] * i, col + direction[1] * i);
+            }
+            assertThat(board.winner()).isNull();
+
+            // Fill the gap in the middle of the line last
+            board.place(CellValue.X, row + direction[0] * 4, col + direction[1] * 4);
+
+            assertThat(board.completesLine(CellValue.X, row + direction[0] * 2, col + direction[1] * 2)).isTrue();
+            assertThat(board.winner()).isEqualTo(CellValue.X);
+        }
+    }
+
+    @Test
+    void completesLine_ShouldNotWrapAcrossRows() {
+        Board board = new Board(15, 5);
+        board.place(CellValue.O, 1, 13);
+        board.place(CellValue.O, 1, 14);
+        board.place(CellValue.O, 1, 15);
+        board.place(CellValue.O, 2, 1);
+        board.place(CellValue.O, 2, 2);
+
+        assertThat(board.completesLine(CellValue.O, 2, 1)).isFalse();
+        assertThat(board.winner()).isNull();
+    }
+
+    @Test
+    void encode_ShouldRoundTripBoardsSpanningSeveralWords() {
+        Board board = new Board(Board.MAX_SIZE, 5);
+        board.place(CellValue.X, 1, 1);
+        board.place(CellValue.O, 16, 17);
+        board.place(CellValue.X, Board.MAX_SIZE, Board.MAX_SIZE);
+
+        Board decoded = Board.decode(board.encode(), Board.MAX_SIZE, 5);
+
+        assertThat(decoded.encode()).hasSize(Board.MAX_CELL_COUNT).isEqualTo(board.encode());
+        assertThat(decoded.get(16, 17)).isEqualTo(CellValue.O);
+        assertThat(decoded.get(Board.MAX_SIZE, Board.MAX_SIZE)).isEqualTo(CellValue.X);
+        assertThat(decoded.isFull()).isFalse();
+    }
+
+    @Test
+    void toBits_ShouldRoundTripThroughFromBits() {
+        Board board = new Board(15, 5);
+        board.place(CellValue.X, 1, 1);
+        board.place(CellValue.O, 5, 10);
+        board.place(CellValue.X, 15, 15);
+
+        Board restored = Board.fromBits(board.toBits(), 15, 5);
+
+        assertThat(restored.encode()).isEqualTo(board.encode());
+        assertThat(restored.isOccupied(5, 10)).isTrue();
+        restored.place(CellValue.O, 2, 2);
+        assertThat(board.isOccupied(2, 2)).isFalse();
+    }
+
+    @Test
+    void decode_ShouldRejectAStringOfTheWrongLengthOrWithUnknownCharacters() {
+        assertThatThrownBy(() -> Board.decode("X---O---"))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("Encoded board has 8 cells, expected 9 for a 3x3 board");
+        assertThatThrownBy(() -> Board.decode("X---O---X-"))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> Board.decode("X---Q---X"))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("Encoded board has 'Q' at cell 4, expected 'X', 'O' or '-'");
+    }
+
+    @Test
+    void fromMasks_ShouldRejectMasksOutsideTheBoardOrSharingACell() {
+        assertThatThrownBy(() -> Board.fromMasks(1 << Board.CELL_COUNT, 0)).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> Board.fromMasks(0b11, 0b10)).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> Board.fromMasks(-1, 0)).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void constructor_ShouldRejectInvalidDimensions() {
+        assertThatThrownBy(() -> new Board(2, 2)).isInstanceOf(InvalidGameConfigurationException.class);
+        assertThatThrownBy(() -> new Board(Board.MAX_SIZE + 1, 5)).isInstanceOf(InvalidGameConfigurationException.class);
+        assertThatThrownBy(() -> new Board(5, 6)).isInstanceOf(InvalidGameConfigurationException.class);
+    }
+}
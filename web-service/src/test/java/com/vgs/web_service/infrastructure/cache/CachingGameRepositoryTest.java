@@ -0,0 +1,286 @@
+package com.vgs.web_service.infrastructure.cache;
+
+import com.vgs.web_service.domain.model.CellValue;
+import com.vgs.web_service.domain.model.Game;
+import com.vgs.web_service.domain.model.Move;
+import com.vgs.web_service.domain.repository.GameRepository;
+import com.vgs.web_service.domain.repository.MoveRepository;
+import com.vgs.web_service.infrastructure.config.GameCacheProperties;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.AbstractPlatformTransactionManager;
+import org.springframework.transaction.support.DefaultTransactionStatus;
+import org.springframework.transaction.support.TransactionOperations;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class CachingGameRepositoryTest {
+
+    // Transactions that touch nothing but still run their synchronizations
+    private static final TransactionTemplate TRANSACTIONS = new TransactionTemplate(new AbstractPlatformTransactionManager() {
+        @Override
+        protected Object doGetTransaction() {
+            return new Object();
+        }
+
+        @Override
+        protected void doBegin(Object transaction, TransactionDefinition definition) {
+        }
+
+        @Override
+        protected void doCommit(DefaultTransactionStatus status) {
+        }
+
+        @Override
+        protected void doRollback(DefaultTransactionStatus status) {
+        }
+    });
+
+    @Mock
+    private GameRepository delegate;
+
+    @Mock
+    private MoveRepository moveDelegate;
+
+    private CachingGameRepository repository;
+
+    @AfterEach
+    void tearDown() {
+        if (repository != null) {
+            repository.shutdown();
+        }
+    }
+
+    @Test
+    void findById_ShouldServeActiveGamesFromCache() {
+        repository = newRepository(false);
+        when(delegate.findById(1L)).thenReturn(newGame(1L));
+
+        Game first = repository.findById(1L);
+        Game second = repository.findById(1L);
+
+        verify(delegate, times(1)).findById(1L);
+        assertThat(second).isNotSameAs(first);
+        assertThat(repository.stats().hits()).isEqualTo(1);
+        assertThat(repository.stats().misses()).isEqualTo(1);
+    }
+
+    @Test
+    void findReadOnlyById_ShouldServeCachedGamesWithoutCachingOthers() {
+        repository = newRepository(false);
+        when(delegate.findById(1L)).thenReturn(newGame(1L));
+        when(delegate.findReadOnlyById(2L)).thenReturn(newGame(2L));
+        repository.findById(1L);
+
+        repository.findReadOnlyById(1L);
+        repository.findReadOnlyById(2L);
+        repository.findReadOnlyById(2L);
+
+        verify(delegate, never()).findReadOnlyById(1L);
+        verify(delegate, times(2)).findReadOnlyById(2L);
+    }
+
+    @Test
+    void save_ShouldEvictGameWhenItFinishes() {
+        repository = newRepository(false);
+        Game game = newGame(1L);
+        when(delegate.findById(1L)).thenReturn(game);
+        when(delegate.save(any(Game.class))).thenAnswer(invocation -> invocation.getArgument(0));
+        repository.findById(1L);
+
+        Game finished = newGame(1L);
+        finished.makeMove(CellValue.X, 1, 1);
+        finished.makeMove(CellValue.O, 2, 1);
+        finished.makeMove(CellValue.X, 1, 2);
+        finished.makeMove(CellValue.O, 2, 2);
+        finished.makeMove(CellValue.X, 1, 3);
+        repository.save(finished);
+        repository.findById(1L);
+
+        verify(delegate, times(2)).findById(1L);
+        assertThat(repository.stats().finishedEvictions()).isEqualTo(1);
+    }
+
+    @Test
+    void save_ShouldCoalesceMovesInWriteBehindMode() {
+        repository = newRepository(true);
+        when(delegate.findById(1L)).thenReturn(newGame(1L));
+        when(delegate.save(any(Game.class))).thenAnswer(invocation -> invocation.getArgument(0));
+
+        Game game = repository.findById(1L);
+        game.makeMove(CellValue.X, 1, 1);
+        repository.save(game);
+        game = repository.findById(1L);
+        game.makeMove(CellValue.O, 2, 2);
+        repository.save(game);
+
+        verify(delegate, never()).save(any(Game.class));
+        assertThat(repository.findById(1L).getBoardState()).isEqualTo("X---O----");
+
+        repository.flush();
+
+        ArgumentCaptor<Game> written = ArgumentCaptor.forClass(Game.class);
+        verify(delegate, times(1)).save(written.capture());
+        assertThat(written.getValue().getBoardState()).isEqualTo("X---O----");
+        assertThat(repository.stats().pendingWrites()).isZero();
+        assertThat(repository.stats().flushedWrites()).isEqualTo(1);
+    }
+
+    @Test
+    void save_ShouldRejectStaleVersionInWriteBehindMode() {
+        repository = newRepository(true);
+        when(delegate.findById(1L)).thenReturn(newGame(1L));
+
+        Game first = repository.findById(1L);
+        Game second = repository.findById(1L);
+        first.makeMove(CellValue.X, 1, 1);
+        second.makeMove(CellValue.X, 3, 3);
+        repository.save(first);
+
+        assertThatThrownBy(() -> repository.save(second))
+                .isInstanceOf(ObjectOptimisticLockingFailureException.class);
+        assertThat(repository.findById(1L).getBoardState()).isEqualTo("X--------");
+    }
+
+    @Test
+    void flush_ShouldWriteMovesInTheSameTransactionAsTheirGame() {
+        repository = newRepository(true);
+        CachingMoveRepository moves = new CachingMoveRepository(moveDelegate, repository);
+        when(delegate.findById(1L)).thenReturn(newGame(1L));
+        when(delegate.save(any(Game.class))).thenAnswer(invocation -> invocation.getArgument(0));
+        for (CellValue player : List.of(CellValue.X, CellValue.O)) {
+            TRANSACTIONS.executeWithoutResult(status -> {
+                Game game = repository.findById(1L);
+                Move move = game.makeMove(player, player == CellValue.X ? 1 : 2, 1);
+                repository.save(game);
+                moves.appendAll(List.of(move));
+            });
+        }
+
+        assertThat(moves.findByGameId(1L, 0)).extracting(Move::getSequence).containsExactly(1, 2);
+        verify(moveDelegate, never()).appendAll(any());
+
+        repository.flush();
+
+        ArgumentCaptor<List<Move>> written = ArgumentCaptor.captor();
+        verify(moveDelegate).appendAll(written.capture());
+        assertThat(written.getValue()).extracting(Move::getSequence).containsExactly(1, 2);
+        verify(delegate).save(any(Game.class));
+        assertThat(repository.pendingMoves(1L)).isEmpty();
+    }
+
+    @Test
+    void save_ShouldLeaveTheCacheUntouchedWhenTheTransactionRollsBack() {
+        repository = newRepository(true);
+        CachingMoveRepository moves = new CachingMoveRepository(moveDelegate, repository);
+        when(delegate.findById(1L)).thenReturn(newGame(1L));
+
+        TRANSACTIONS.executeWithoutResult(status -> {
+            Game game = repository.findById(1L);
+            Move move = game.makeMove(CellValue.X, 1, 1);
+            repository.save(game);
+            moves.appendAll(List.of(move));
+            status.setRollbackOnly();
+        });
+
+        Game game = repository.findById(1L);
+        assertThat(game.getBoardState()).isEqualTo("---------");
+        assertThat(repository.pendingMoves(1L)).isEmpty();
+        game.makeMove(CellValue.X, 3, 3);
+        repository.save(game);
+        assertThat(repository.findById(1L).getBoardState()).isEqualTo("--------X");
+        verify(moveDelegate, never()).appendAll(any());
+    }
+
+    @Test
+    void save_ShouldCheckAnEvictedGameAgainstTheDatabaseInWriteBehindMode() {
+        repository = newRepository(true);
+        Game stored = newGame(1L);
+        stored.setVersion(0L);
+        when(delegate.findById(1L)).thenReturn(stored);
+        when(delegate.findReadOnlyById(1L)).thenReturn(stored);
+        when(delegate.save(any(Game.class))).thenAnswer(invocation -> invocation.getArgument(0));
+
+        Game game = repository.findById(1L);
+        repository.evict(1L);
+        game.makeMove(CellValue.X, 1, 1);
+        repository.save(game);
+        repository.flush();
+
+        ArgumentCaptor<Game> written = ArgumentCaptor.forClass(Game.class);
+        verify(delegate).save(written.capture());
+        assertThat(written.getValue().getVersion()).isZero();
+        assertThat(written.getValue().getBoardState()).isEqualTo("X--------");
+    }
+
+    @Test
+    void findById_ShouldKeepCountingVersionsOfAnEvictedGameInWriteBehindMode() {
+        repository = newRepository(true);
+        Game[] stored = {newGame(1L)};
+        stored[0].setVersion(0L);
+        when(delegate.findById(1L)).thenAnswer(invocation -> stored[0].copy());
+        // Like the database, the delegate bumps the version once per write
+        when(delegate.save(any(Game.class))).thenAnswer(invocation -> {
+            Game row = invocation.<Game>getArgument(0).copy();
+            row.setVersion(row.getVersion() + 1);
+            stored[0] = row;
+            return row;
+        });
+        Game game = repository.findById(1L);
+        game.makeMove(CellValue.X, 1, 1);
+        repository.save(game);
+        Game stale = repository.findById(1L);
+        game.makeMove(CellValue.O, 2, 2);
+        repository.save(game);
+        repository.flush();
+
+        // Given: two saves in one flush, so the database is at version 1 and the cache at 2
+        repository.evict(1L);
+
+        // When
+        Game reloaded = repository.findById(1L);
+
+        // Then
+        assertThat(reloaded.getVersion()).isEqualTo(2);
+        assertThat(stale.getVersion()).isEqualTo(1);
+        stale.makeMove(CellValue.O, 3, 3);
+        assertThatThrownBy(() -> repository.save(stale))
+                .isInstanceOf(ObjectOptimisticLockingFailureException.class);
+        reloaded.makeMove(CellValue.X, 1, 2);
+        repository.save(reloaded);
+        repository.flush();
+        assertThat(stored[0].getVersion()).isEqualTo(2);
+        assertThat(stored[0].getBoardState()).isEqualTo("XX--O----");
+    }
+
+    private CachingGameRepository newRepository(boolean writeBehind) {
+        GameCacheProperties properties = new GameCacheProperties();
+        properties.getWriteBehind().setEnabled(writeBehind);
+        // Long enough that only explicit flushes run during the test
+        properties.getWriteBehind().setFlushInterval(Duration.ofHours(1));
+        return new CachingGameRepository(delegate, moveDelegate, TransactionOperations.withoutTransaction(), properties);
+    }
+
+    private static Game newGame(Long id) {
+        Game game = Game.builder().id(id).build();
+        game.setBoardState(game.getBoard().encode());
+        return game;
+    }
+}
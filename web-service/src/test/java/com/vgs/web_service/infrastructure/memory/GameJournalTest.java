@@ -0,0 +1,191 @@
+package com.vgs.web_service.infrastructure.memory;
+
+import com.vgs.web_service.domain.model.CellValue;
+import com.vgs.web_service.domain.model.Game;
+import com.vgs.web_service.domain.model.Move;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class GameJournalTest {
+
+    private static final LocalDateTime NOW = LocalDateTime.of(2025, 3, 1, 10, 0, 0, 123_456_789);
+    private static final int SEGMENT_SIZE = 100 * GameJournal.RECORD_SIZE;
+
+    @TempDir
+    private Path directory;
+
+    @Test
+    void recover_ShouldReplayCommittedGamesAndMovesButNotRolledBackOnes() {
+        // Given
+        long id;
+        try (GameJournal journal = new GameJournal(directory, SEGMENT_SIZE, true)) {
+            Node node = new Node(journal);
+            id = node.transaction.execute(status -> node.games.save(Game.builder().createdAt(NOW).build()).getId());
+            node.play(id, CellValue.X, 1, 1);
+            node.play(id, CellValue.O, 2, 2);
+            node.transaction.executeWithoutResult(status -> {
+                node.games.save(Game.builder().build());
+                status.setRollbackOnly();
+            });
+        }
+
+        // When
+        Node recovered;
+        try (GameJournal journal = new GameJournal(directory, SEGMENT_SIZE, true)) {
+            recovered = new Node(journal);
+            new GameJournalCheckpointer(recovered.store, journal).recover();
+        }
+
+        // Then
+        Game game = recovered.games.findById(id);
+        assertThat(recovered.store.count()).isEqualTo(1);
+        assertThat(game.getVersion()).isEqualTo(2L);
+        assertThat(game.getCreatedAt()).isEqualTo(NOW);
+        assertThat(game.getCurrentTurn()).isEqualTo(CellValue.X);
+        assertThat(game.getBoard().get(1, 1)).isEqualTo(CellValue.X);
+        assertThat(game.getBoard().get(2, 2)).isEqualTo(CellValue.O);
+        assertThat(recovered.moves.findByGameId(id, 0)).extracting(Move::getSequence).containsExactly(1, 2);
+    }
+
+    @Test
+    void recover_ShouldStopAtADamagedRecord() throws IOException {
+        // Given
+        long id;
+        try (GameJournal journal = new GameJournal(directory, SEGMENT_SIZE, false)) {
+            Node node = new Node(journal);
+            id = node.transaction.execute(status -> node.games.save(Game.builder().build()).getId());
+            node.play(id, CellValue.X, 1, 1);
+            node.play(id, CellValue.O, 2, 2);
+        }
+        // Records: GAME, STATE, then STATE and MOVE per move; damage the second move's STATE
+        try (FileChannel segment = FileChannel.open(segments().get(0), StandardOpenOption.WRITE)) {
+            segment.write(ByteBuffer.wrap(new byte[]{0x7f}), 4L * GameJournal.RECORD_SIZE + 20);
+        }
+
+        // When
+        Node recovered;
+        try (GameJournal journal = new GameJournal(directory, SEGMENT_SIZE, false)) {
+            recovered = new Node(journal);
+            new GameJournalCheckpointer(recovered.store, journal).recover();
+        }
+
+        // Then
+        assertThat(recovered.games.findById(id).getVersion()).isEqualTo(1L);
+        assertThat(recovered.games.findById(id).getBoard().isOccupied(2, 2)).isFalse();
+        assertThat(recovered.moves.findByGameId(id, 0)).extracting(Move::getSequence).containsExactly(1);
+    }
+
+    @Test
+    void recover_ShouldDropACommitWhoseStateWasWrittenWithoutItsMove() throws IOException {
+        // Given
+        long id;
+        try (GameJournal journal = new GameJournal(directory, SEGMENT_SIZE, false)) {
+            Node node = new Node(journal);
+            id = node.transaction.execute(status -> node.games.save(Game.builder().build()).getId());
+            node.play(id, CellValue.X, 1, 1);
+            node.play(id, CellValue.O, 2, 2);
+        }
+        // The second move's STATE reached the disk, its MOVE did not
+        try (FileChannel segment = FileChannel.open(segments().get(0), StandardOpenOption.WRITE)) {
+            segment.write(ByteBuffer.allocate(GameJournal.RECORD_SIZE), 5L * GameJournal.RECORD_SIZE);
+        }
+
+        // When
+        Node recovered;
+        try (GameJournal journal = new GameJournal(directory, SEGMENT_SIZE, false)) {
+            recovered = new Node(journal);
+            new GameJournalCheckpointer(recovered.store, journal).recover();
+        }
+
+        // Then
+        Game game = recovered.games.findById(id);
+        assertThat(game.getVersion()).isEqualTo(1L);
+        assertThat(game.getCurrentTurn()).isEqualTo(CellValue.O);
+        assertThat(game.getBoard().isOccupied(2, 2)).isFalse();
+        assertThat(recovered.moves.findByGameId(id, 0)).extracting(Move::getSequence).containsExactly(1);
+    }
+
+    @Test
+    void checkpoint_ShouldDeleteOldSegmentsAndRecoverFromTheSnapshotAndTheJournalAfterIt() throws IOException {
+        // Given
+        long id;
+        try (GameJournal journal = new GameJournal(directory, 4 * GameJournal.RECORD_SIZE, true)) {
+            Node node = new Node(journal);
+            GameJournalCheckpointer checkpointer = new GameJournalCheckpointer(node.store, journal);
+            id = node.transaction.execute(status -> node.games.save(Game.builder().build()).getId());
+            node.play(id, CellValue.X, 1, 1);
+            node.play(id, CellValue.O, 2, 2);
+            checkpointer.checkpoint();
+            node.play(id, CellValue.X, 3, 3);
+        }
+        assertThat(segments()).singleElement()
+                .satisfies(segment -> assertThat(segment.getFileName().toString()).isEqualTo("journal-0000000000000002.log"));
+
+        // When
+        Node recovered;
+        try (GameJournal journal = new GameJournal(directory, SEGMENT_SIZE, true)) {
+            recovered = new Node(journal);
+            new GameJournalCheckpointer(recovered.store, journal).recover();
+        }
+
+        // Then
+        Game game = recovered.games.findById(id);
+        assertThat(game.getVersion()).isEqualTo(3L);
+        assertThat(game.getBoard().get(3, 3)).isEqualTo(CellValue.X);
+        assertThat(recovered.moves.findByGameId(id, 0)).extracting(Move::getSequence).containsExactly(1, 2, 3);
+        assertThat(recovered.store.nextId()).isEqualTo(id + 1);
+    }
+
+    @Test
+    void awaitDurable_ShouldFailOnceTheJournalIsClosed() {
+        // Given
+        GameJournal journal = new GameJournal(directory, SEGMENT_SIZE, true);
+        journal.close();
+
+        // When / Then
+        assertThatThrownBy(() -> journal.awaitDurable(Long.MAX_VALUE)).isInstanceOf(IllegalStateException.class);
+    }
+
+    private List<Path> segments() throws IOException {
+        try (Stream<Path> files = Files.list(directory)) {
+            return files.filter(file -> file.getFileName().toString().endsWith(".log")).sorted().toList();
+        }
+    }
+
+    private static class Node {
+        final InMemoryGameStore store;
+        final InMemoryGameRepository games;
+        final InMemoryMoveRepository moves;
+        final TransactionTemplate transaction;
+
+        Node(GameJournal journal) {
+            store = new InMemoryGameStore(4, journal);
+            games = new InMemoryGameRepository(store);
+            moves = new InMemoryMoveRepository(store);
+            transaction = new TransactionTemplate(new InMemoryTransactionManager(store));
+        }
+
+        void play(long id, CellValue player, int x, int y) {
+            transaction.executeWithoutResult(status -> {
+                Game game = games.findById(id);
+                Move move = game.makeMove(player, x, y);
+                games.save(game);
+                moves.appendAll(List.of(move));
+            });
+        }
+    }
+}
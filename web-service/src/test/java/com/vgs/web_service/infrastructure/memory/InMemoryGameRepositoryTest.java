@@ -0,0 +1,160 @@
+package com.vgs.web_service.infrastructure.memory;
+
+import com.vgs.web_service.domain.model.CellValue;
+import com.vgs.web_service.domain.model.Game;
+import com.vgs.web_service.domain.model.GameStatus;
+import com.vgs.web_service.domain.model.GameSummary;
+import com.vgs.web_service.domain.model.Move;
+import com.vgs.web_service.domain.repository.GameQuery;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.dao.OptimisticLockingFailureException;
+
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class InMemoryGameRepositoryTest {
+
+    private static final LocalDateTime NOW = LocalDateTime.of(2025, 3, 1, 10, 0, 0, 123_456_789);
+
+    private final InMemoryGameStore store = new InMemoryGameStore(4);
+    private final InMemoryGameRepository games = new InMemoryGameRepository(store);
+    private final InMemoryMoveRepository moves = new InMemoryMoveRepository(store);
+
+    @Test
+    void save_ShouldAssignIdsAndReturnIndependentCopies() {
+        // Given
+        Game game = games.save(Game.builder().boardSize(15).winLength(5).createdAt(NOW).turnDeadline(NOW).build());
+
+        // When
+        Game first = games.findById(game.getId());
+        first.makeMove(CellValue.X, 8, 8);
+        Game second = games.findById(game.getId());
+
+        // Then
+        assertThat(game.getId()).isEqualTo(1L);
+        assertThat(game.getVersion()).isZero();
+        assertThat(second.getBoard().isOccupied(8, 8)).isFalse();
+        assertThat(second.getBoard().size()).isEqualTo(15);
+        assertThat(second.getCreatedAt()).isEqualTo(NOW);
+        assertThat(second.getTurnDeadline()).isEqualTo(NOW);
+        assertThat(games.findById(99L)).isNull();
+    }
+
+    @Test
+    void save_ShouldRejectGameLoadedBeforeAConcurrentSave() {
+        // Given
+        Long id = games.save(Game.builder().build()).getId();
+        Game winner = games.findById(id);
+        Game loser = games.findById(id);
+
+        // When
+        winner.makeMove(CellValue.X, 1, 1);
+        games.save(winner);
+        loser.makeMove(CellValue.X, 2, 2);
+
+        // Then
+        assertThat(winner.getVersion()).isEqualTo(1L);
+        assertThatThrownBy(() -> games.save(loser)).isInstanceOf(OptimisticLockingFailureException.class);
+        assertThat(games.findById(id).getBoard().get(1, 1)).isEqualTo(CellValue.X);
+        assertThat(games.findById(id).getBoard().isOccupied(2, 2)).isFalse();
+    }
+
+    @Test
+    void findSummaries_ShouldPageInCreationOrderAndFilterByStatus() {
+        // Given
+        for (int i = 0; i < 5; i++) {
+            games.save(Game.builder().createdAt(NOW.minusMinutes(i)).build());
+        }
+        Game finished = games.findById(3L);
+        finished.setStatus(GameStatus.DRAW);
+        games.save(finished);
+
+        // When
+        List<GameSummary> firstPage = games.findSummaries(new GameQuery(GameStatus.IN_PROGRESS, null, null, null, null), 2);
+        GameSummary last = firstPage.get(1);
+        List<GameSummary> secondPage = games.findSummaries(
+                new GameQuery(GameStatus.IN_PROGRESS, null, null, last.createdAt(), last.id()), 2);
+
+        // Then
+        assertThat(firstPage).extracting(GameSummary::id).containsExactly(5L, 4L);
+        assertThat(secondPage).extracting(GameSummary::id).containsExactly(2L, 1L);
+        try (Stream<GameSummary> all = games.streamSummaries(new GameQuery(null, null, NOW.minusMinutes(1), null, null))) {
+            assertThat(all).extracting(GameSummary::id).containsExactly(5L, 4L, 3L);
+        }
+        assertThat(games.countByStatus()).containsEntry(GameStatus.IN_PROGRESS, 4L).containsEntry(GameStatus.DRAW, 1L);
+    }
+
+    @Test
+    void findExpiredIds_ShouldReturnGamesInProgressPastTheirDeadlineEarliestFirst() {
+        // Given
+        games.save(Game.builder().turnDeadline(NOW.minusSeconds(1)).build());
+        games.save(Game.builder().turnDeadline(NOW.minusSeconds(5)).build());
+        games.save(Game.builder().turnDeadline(NOW.plusSeconds(1)).build());
+        games.save(Game.builder().build());
+        games.save(Game.builder().turnDeadline(NOW.minusSeconds(9)).status(GameStatus.X_WON).build());
+
+        // When / Then
+        assertThat(games.findExpiredIds(NOW, 10)).containsExactly(2L, 1L);
+        assertThat(games.findExpiredIds(NOW, 1)).containsExactly(2L);
+    }
+
+    @Test
+    void findByGameId_ShouldReturnMovesInSequenceUpToTheFirstMissingOne() {
+        // Given
+        moves.appendAll(List.of(move(1, CellValue.X, 1, 1), move(2, CellValue.O, 32, 32)));
+        moves.appendAll(List.of(move(4, CellValue.O, 2, 2)));
+
+        // When
+        List<Move> history = moves.findByGameId(7L, 0);
+
+        // Then
+        assertThat(history).extracting(Move::getSequence).containsExactly(1, 2);
+        assertThat(history.get(1).getPlayer()).isEqualTo(CellValue.O);
+        assertThat(history.get(1).getX()).isEqualTo(32);
+        assertThat(history.get(1).getCreatedAt()).isEqualTo(NOW);
+        assertThat(moves.findByGameId(7L, 1, 10)).extracting(Move::getSequence).containsExactly(2);
+        assertThatThrownBy(() -> moves.appendAll(List.of(move(2, CellValue.O, 3, 3))))
+                .isInstanceOf(IllegalStateException.class);
+    }
+
+    @Test
+    void write_ShouldRestoreGamesAndMovesFromTheSnapshot(@TempDir Path directory) {
+        // Given
+        Game game = games.save(Game.builder().createdAt(NOW).build());
+        Move first = game.makeMove(CellValue.X, 1, 1);
+        first.setCreatedAt(NOW);
+        games.save(game);
+        moves.appendAll(List.of(first));
+        games.save(Game.builder().boardSize(32).winLength(5).build());
+        Path path = directory.resolve("games.snapshot");
+
+        // When
+        long written = new InMemorySnapshots(store, path).write();
+        InMemoryGameStore restoredStore = new InMemoryGameStore(2);
+        InMemoryGameRepository restoredGames = new InMemoryGameRepository(restoredStore);
+        InMemoryMoveRepository restoredMoves = new InMemoryMoveRepository(restoredStore);
+        long restored = new InMemorySnapshots(restoredStore, path).restore();
+
+        // Then
+        assertThat(written).isEqualTo(2);
+        assertThat(restored).isEqualTo(2);
+        Game copy = restoredGames.findById(game.getId());
+        assertThat(copy.getVersion()).isEqualTo(1L);
+        assertThat(copy.getCurrentTurn()).isEqualTo(CellValue.O);
+        assertThat(copy.getBoard().get(1, 1)).isEqualTo(CellValue.X);
+        assertThat(restoredGames.findById(2L).getBoard().size()).isEqualTo(32);
+        assertThat(restoredMoves.findByGameId(game.getId(), 0)).singleElement()
+                .satisfies(move -> assertThat(move.getCreatedAt()).isEqualTo(NOW));
+        assertThat(restoredGames.save(Game.builder().build()).getId()).isEqualTo(3L);
+    }
+
+    private static Move move(int sequence, CellValue player, int x, int y) {
+        return Move.builder().gameId(7L).sequence(sequence).player(player).x(x).y(y).createdAt(NOW).build();
+    }
+}
@@ -0,0 +1,70 @@
+package com.vgs.web_service.infrastructure.metrics;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.servlet.HandlerMapping;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class RoundTripMetricsFilterTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    private final RoundTripMetricsFilter filter = new RoundTripMetricsFilter(meterRegistry);
+
+    @Test
+    void doFilter_ShouldRecordRoundTripsMadeDuringTheRequest() throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/games/status");
+
+        filter.doFilter(request, new MockHttpServletResponse(), (req, res) -> {
+            req.setAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE, "/api/games/status");
+            RoundTrips.database();
+            RoundTrips.database();
+            RoundTrips.cacheHit();
+        });
+
+        assertThat(summary("database").totalAmount()).isEqualTo(2);
+        assertThat(summary("cache").totalAmount()).isEqualTo(1);
+
+        // Nothing is counted once the request is over
+        RoundTrips.database();
+        assertThat(summary("database").count()).isEqualTo(1);
+        assertThat(summary("database").totalAmount()).isEqualTo(2);
+    }
+
+    @Test
+    void doFilter_ShouldCountWorkPropagatedToAnotherThread() throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/games/status");
+
+        filter.doFilter(request, new MockHttpServletResponse(), (req, res) -> {
+            req.setAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE, "/api/games/status");
+            Thread worker = Thread.ofVirtual().start(RoundTrips.propagate(RoundTrips::database));
+            try {
+                worker.join();
+            } catch (InterruptedException ex) {
+                throw new IllegalStateException(ex);
+            }
+        });
+
+        assertThat(summary("database").totalAmount()).isEqualTo(1);
+    }
+
+    @Test
+    void doFilter_ShouldIgnoreNonApiRequests() throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/actuator/prometheus");
+
+        filter.doFilter(request, new MockHttpServletResponse(), (req, res) -> RoundTrips.database());
+
+        assertThat(meterRegistry.find("game.request.round.trips").meters()).isEmpty();
+    }
+
+    private DistributionSummary summary(String target) {
+        return meterRegistry.get("game.request.round.trips")
+                .tag("uri", "/api/games/status")
+                .tag("target", target)
+                .summary();
+    }
+}
@@ -0,0 +1,160 @@
+package com.vgs.web_service.infrastructure.persistence;
+
+import com.vgs.web_service.domain.model.CellValue;
+import com.vgs.web_service.domain.model.Game;
+import com.vgs.web_service.domain.model.GameStatus;
+import com.vgs.web_service.domain.model.Move;
+import com.vgs.web_service.domain.repository.GameQuery;
+import com.vgs.web_service.infrastructure.config.GamePersistenceProperties;
+import com.vgs.web_service.infrastructure.metrics.JdbcQueryMetrics;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentMatchers;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.ResultSetExtractor;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class GameRepositoryImplTest {
+
+    @Mock
+    private JpaGameRepository jpaGameRepository;
+
+    @Mock
+    private MoveRepositoryImpl moveRepository;
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    private GamePersistenceProperties properties;
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    private GameRepositoryImpl gameRepository;
+
+    @BeforeEach
+    void setUp() {
+        properties = new GamePersistenceProperties();
+        gameRepository = new GameRepositoryImpl(jpaGameRepository, moveRepository, jdbcTemplate, properties,
+                new JdbcQueryMetrics(meterRegistry));
+        lenient().when(jpaGameRepository.save(any(Game.class))).thenAnswer(invocation -> invocation.getArgument(0));
+    }
+
+    @Test
+    void save_ShouldCreateCellRowsInCellsMode() {
+        properties.setBoardStorage(BoardStorage.CELLS);
+
+        Game result = gameRepository.save(Game.builder().build());
+
+        assertThat(result.getCells()).hasSize(9);
+    }
+
+    @Test
+    void save_ShouldOnlyStoreBoardStateInCompactMode() {
+        properties.setBoardStorage(BoardStorage.COMPACT);
+        Game game = Game.builder().build();
+        game.makeMove(CellValue.X, 2, 2);
+
+        Game result = gameRepository.save(game);
+
+        assertThat(result.getCells()).isEmpty();
+        assertThat(result.getBoardState()).isEqualTo("----X----");
+    }
+
+    @Test
+    void save_ShouldOnlySnapshotBoardEverySnapshotIntervalInEventsMode() {
+        properties.setBoardStorage(BoardStorage.EVENTS);
+        properties.setSnapshotInterval(2);
+        Game game = gameRepository.save(Game.builder().build());
+
+        game.makeMove(CellValue.X, 1, 1);
+        gameRepository.save(game);
+
+        assertThat(game.getBoardState()).isEqualTo("---------");
+        assertThat(game.getSnapshotMoveCount()).isZero();
+
+        game.makeMove(CellValue.O, 2, 2);
+        gameRepository.save(game);
+
+        assertThat(game.getBoardState()).isEqualTo("X---O----");
+        assertThat(game.getSnapshotMoveCount()).isEqualTo(2);
+        assertThat(game.getCells()).isEmpty();
+    }
+
+    @Test
+    void findById_ShouldReplayMovesAfterSnapshotInEventsMode() {
+        properties.setBoardStorage(BoardStorage.EVENTS);
+        Game stored = Game.builder().id(1L).boardState("X--------").moveCount(3).snapshotMoveCount(1).build();
+        when(jpaGameRepository.findById(1L)).thenReturn(Optional.of(stored));
+        when(moveRepository.findByGameId(1L, 1)).thenReturn(List.of(
+                Move.builder().gameId(1L).sequence(2).player(CellValue.O).x(2).y(2).build(),
+                Move.builder().gameId(1L).sequence(3).player(CellValue.X).x(3).y(3).build()));
+
+        Game result = gameRepository.findById(1L);
+
+        assertThat(result.getBoard().encode()).isEqualTo("X---O---X");
+    }
+
+    @Test
+    void findById_ShouldNotQueryMovesWhenSnapshotIsCurrent() {
+        properties.setBoardStorage(BoardStorage.EVENTS);
+        Game stored = Game.builder().id(1L).boardState("X--------").moveCount(1).snapshotMoveCount(1).build();
+        when(jpaGameRepository.findById(1L)).thenReturn(Optional.of(stored));
+
+        gameRepository.findById(1L);
+
+        verifyNoInteractions(moveRepository);
+    }
+
+    @Test
+    void findReadOnlyById_ShouldLoadTheEntityWhenBoardStateIsMissing() {
+        properties.setBoardStorage(BoardStorage.COMPACT);
+        when(jdbcTemplate.query(anyString(), ArgumentMatchers.<ResultSetExtractor<Game>>any(), eq(1L)))
+                .thenReturn(Game.builder().id(1L).build());
+        Game stored = Game.builder().id(1L).boardState("X--------").build();
+        when(jpaGameRepository.findById(1L)).thenReturn(Optional.of(stored));
+
+        Game result = gameRepository.findReadOnlyById(1L);
+
+        assertThat(result).isSameAs(stored);
+        assertThat(meterRegistry.get("game.jdbc.queries").tag("query", "read_only").timer().count()).isEqualTo(1);
+    }
+
+    @Test
+    void summarySql_ShouldSeekPastCursorWithinFilters() {
+        LocalDateTime from = LocalDateTime.of(2025, 1, 1, 0, 0);
+        LocalDateTime to = LocalDateTime.of(2025, 2, 1, 0, 0);
+        LocalDateTime last = LocalDateTime.of(2025, 1, 15, 12, 0);
+
+        GameRepositoryImpl.SummarySql sql = GameRepositoryImpl.summarySql(
+                new GameQuery(GameStatus.IN_PROGRESS, from, to, last, 42L));
+
+        assertThat(sql.text()).endsWith(
+                "FROM games WHERE status = ? AND created_at >= ? AND created_at < ? AND (created_at, id) > (?, ?)"
+                        + " ORDER BY created_at, id");
+        assertThat(sql.args()).containsExactly("IN_PROGRESS", from, to, last, 42L);
+    }
+
+    @Test
+    void summarySql_ShouldListEverythingWithoutFilters() {
+        GameRepositoryImpl.SummarySql sql = GameRepositoryImpl.summarySql(new GameQuery(null, null, null, null, null));
+
+        assertThat(sql.text()).endsWith("FROM games ORDER BY created_at, id");
+        assertThat(sql.args()).isEmpty();
+    }
+}
@@ -0,0 +1,57 @@
+package com.vgs.web_service.infrastructure.persistence;
+
+import com.vgs.web_service.domain.model.CellValue;
+import com.vgs.web_service.domain.model.Move;
+import org.hibernate.exception.ConstraintViolationException;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.dao.OptimisticLockingFailureException;
+
+import java.sql.SQLException;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class MoveRepositoryImplTest {
+
+    private static final List<Move> MOVES = List.of(
+            Move.builder().gameId(1L).sequence(2).player(CellValue.O).x(2).y(2).build());
+
+    @Mock
+    private JpaMoveRepository jpaMoveRepository;
+
+    @InjectMocks
+    private MoveRepositoryImpl moveRepository;
+
+    @Test
+    void appendAll_ShouldReportATakenSequenceAsAConcurrentMove() {
+        // Given
+        when(jpaMoveRepository.saveAllAndFlush(MOVES)).thenThrow(violation(MoveRepositoryImpl.SEQUENCE_CONSTRAINT));
+
+        // When / Then
+        assertThatThrownBy(() -> moveRepository.appendAll(MOVES))
+                .isInstanceOf(OptimisticLockingFailureException.class);
+    }
+
+    @Test
+    void appendAll_ShouldPropagateOtherIntegrityViolations() {
+        // Given
+        when(jpaMoveRepository.saveAllAndFlush(MOVES)).thenThrow(violation("moves_player_check"));
+
+        // When / Then
+        assertThatThrownBy(() -> moveRepository.appendAll(MOVES))
+                .isInstanceOf(DataIntegrityViolationException.class)
+                .isNotInstanceOf(OptimisticLockingFailureException.class);
+    }
+
+    private static DataIntegrityViolationException violation(String constraint) {
+        return new DataIntegrityViolationException("could not execute batch",
+                new ConstraintViolationException("violates " + constraint, new SQLException(), constraint));
+    }
+}
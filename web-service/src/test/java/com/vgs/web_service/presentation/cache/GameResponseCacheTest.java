@@ -0,0 +1,78 @@
+package com.vgs.web_service.presentation.cache;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.jayway.jsonpath.JsonPath;
+import com.vgs.web_service.application.event.GameUpdatedEvent;
+import com.vgs.web_service.domain.model.CellValue;
+import com.vgs.web_service.domain.model.Game;
+import org.junit.jupiter.api.Test;
+import org.springframework.util.unit.DataSize;
+
+import java.nio.charset.StandardCharsets;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class GameResponseCacheTest {
+
+    private final GameResponseCache cache =
+            new GameResponseCache(new ObjectMapper().findAndRegisterModules(), DataSize.ofMegabytes(1));
+
+    @Test
+    void get_ShouldReuseTheBodyWhileTheVersionIsUnchanged() {
+        // Given
+        Game game = Game.builder().id(1L).version(2L).build();
+
+        // When
+        GameResponseCache.CachedResponse first = cache.get(game);
+        GameResponseCache.CachedResponse second = cache.get(game.copy());
+
+        // Then
+        assertThat(second.body()).isSameAs(first.body());
+        assertThat(second.etag()).isEqualTo("\"1-2\"");
+    }
+
+    @Test
+    void get_ShouldSerializeAgainOnceTheGameHasANewVersion() {
+        // Given
+        Game game = Game.builder().id(1L).version(2L).build();
+        cache.get(game);
+
+        // When
+        game.makeMove(CellValue.X, 1, 1);
+        game.setVersion(3L);
+        GameResponseCache.CachedResponse response = cache.get(game);
+
+        // Then
+        assertThat(response.etag()).isEqualTo("\"1-3\"");
+        String value = JsonPath.read(new String(response.body(), StandardCharsets.UTF_8), "$.board[0].value");
+        assertThat(value).isEqualTo("X");
+    }
+
+    @Test
+    void get_ShouldNotReplaceANewerBodyWithAnOlderOne() {
+        // Given
+        Game older = Game.builder().id(1L).version(2L).build();
+        Game newer = older.copy();
+        newer.setVersion(3L);
+        cache.get(newer);
+
+        // When
+        cache.get(older);
+
+        // Then
+        assertThat(cache.get(newer).version()).isEqualTo(3L);
+    }
+
+    @Test
+    void onGameUpdated_ShouldDropTheCachedBody() {
+        // Given
+        Game game = Game.builder().id(1L).version(2L).build();
+        cache.get(game);
+
+        // When
+        cache.onGameUpdated(new GameUpdatedEvent(game, 1, 1, CellValue.X));
+
+        // Then
+        assertThat(cache.size()).isZero();
+    }
+}
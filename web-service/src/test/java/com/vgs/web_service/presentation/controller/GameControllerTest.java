@@ -1,24 +1,57 @@
 package com.vgs.web_service.presentation.controller;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.databind.CBORMapper;
+import com.jayway.jsonpath.JsonPath;
+import com.vgs.web_service.application.command.MoveCommand;
+import com.vgs.web_service.application.command.MoveResult;
 import com.vgs.web_service.application.service.GameService;
+import com.vgs.web_service.domain.exception.ConcurrentMoveException;
 import com.vgs.web_service.domain.exception.GameNotFoundException;
+import com.vgs.web_service.domain.exception.InvalidGameConfigurationException;
 import com.vgs.web_service.domain.exception.InvalidMoveException;
 import com.vgs.web_service.domain.model.CellValue;
 import com.vgs.web_service.domain.model.Game;
+import com.vgs.web_service.domain.model.GameMode;
 import com.vgs.web_service.domain.model.GameStatus;
+import com.vgs.web_service.domain.model.GameSummary;
+import com.vgs.web_service.domain.model.Move;
+import com.vgs.web_service.domain.repository.GameQuery;
+import com.vgs.web_service.presentation.cache.GameResponseCache;
+import com.vgs.web_service.presentation.dto.CompactGameResponse;
+import com.vgs.web_service.presentation.dto.MoveBatchRequest;
 import com.vgs.web_service.presentation.dto.MoveRequest;
 import com.vgs.web_service.presentation.dto.MoveRequest.Square;
+import com.vgs.web_service.presentation.exception.GlobalExceptionHandler;
+import com.vgs.web_service.presentation.stream.AsyncTimeoutInterceptor;
+import com.vgs.web_service.presentation.stream.GameStreamBroker;
 
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.test.util.ReflectionTestUtils;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
 import org.springframework.test.web.servlet.setup.MockMvcBuilders;
-
+import org.springframework.util.unit.DataSize;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
@@ -31,19 +64,29 @@ class GameControllerTest {
     @Mock
     private GameService gameService;
 
+    @Mock
+    private GameStreamBroker gameStreamBroker;
+
+    @Spy
+    private ObjectMapper objectMapper = new ObjectMapper().findAndRegisterModules();
+
+    @Spy
+    private GameResponseCache gameResponseCache = new GameResponseCache(objectMapper, DataSize.ofMegabytes(1));
+
     @InjectMocks
     private GameController gameController;
 
     @Test
     void createGame_ShouldReturnNewGame() throws Exception {
-        mockMvc = MockMvcBuilders.standaloneSetup(gameController).build();
+        mockMvc = MockMvcBuilders.standaloneSetup(gameController)
+                .setControllerAdvice(new GlobalExceptionHandler()).build();
 
         Game mockGame = Game.builder()
                 .id(1L)
                 .build();
         mockGame.initializeBoard();
 
-        when(gameService.createGame()).thenReturn(mockGame);
+        when(gameService.createGame(GameMode.TWO_PLAYER, 3, 3)).thenReturn(mockGame);
 
         mockMvc.perform(post("/api/games/create"))
                 .andExpect(status().isOk())
@@ -54,9 +97,113 @@ class GameControllerTest {
                 .andExpect(jsonPath("$.board.length()").value(9));
     }    
 
+    @Test
+    void createGame_ShouldCreateGameInRequestedMode() throws Exception {
+        mockMvc = MockMvcBuilders.standaloneSetup(gameController)
+                .setControllerAdvice(new GlobalExceptionHandler()).build();
+
+        Game mockGame = Game.builder()
+                .id(1L)
+                .mode(GameMode.VS_COMPUTER)
+                .build();
+
+        when(gameService.createGame(GameMode.VS_COMPUTER, 3, 3)).thenReturn(mockGame);
+
+        mockMvc.perform(post("/api/games/create").param("mode", "VS_COMPUTER"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.mode").value(GameMode.VS_COMPUTER.toString()));
+    }
+
+    @Test
+    void createGame_ShouldCreateBoardOfRequestedSize() throws Exception {
+        mockMvc = MockMvcBuilders.standaloneSetup(gameController)
+                .setControllerAdvice(new GlobalExceptionHandler()).build();
+
+        Game mockGame = Game.builder()
+                .id(1L)
+                .boardSize(15)
+                .winLength(5)
+                .build();
+
+        when(gameService.createGame(GameMode.TWO_PLAYER, 15, 5)).thenReturn(mockGame);
+
+        mockMvc.perform(post("/api/games/create").param("size", "15").param("winLength", "5"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.size").value(15))
+                .andExpect(jsonPath("$.winLength").value(5))
+                .andExpect(jsonPath("$.board.length()").value(225));
+    }
+
+    @Test
+    void createGame_ShouldReturnBadRequestForInvalidBoard() throws Exception {
+        mockMvc = MockMvcBuilders.standaloneSetup(gameController)
+                .setControllerAdvice(new GlobalExceptionHandler()).build();
+
+        when(gameService.createGame(GameMode.TWO_PLAYER, 2, 3))
+                .thenThrow(new InvalidGameConfigurationException("Board size must be between 3 and 32, got 2"));
+
+        mockMvc.perform(post("/api/games/create").param("size", "2"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.message").value("Board size must be between 3 and 32, got 2"));
+    }
+
+    @Test
+    void createGames_ShouldStreamCreatedIds() throws Exception {
+        mockMvc = MockMvcBuilders.standaloneSetup(gameController)
+                .setControllerAdvice(new GlobalExceptionHandler()).build();
+
+        when(gameService.createGames(3)).thenReturn(Stream.of(7L, 8L, 9L));
+
+        MvcResult result = mockMvc.perform(post("/api/games/create:bulk")
+                .contentType("application/json")
+                .content("{\"count\":3}"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk())
+                .andExpect(content().json("[7,8,9]"));
+    }
+
+    @Test
+    void createGames_ShouldCloseTheArrayWithAnErrorWhenALaterChunkFails() throws Exception {
+        mockMvc = MockMvcBuilders.standaloneSetup(gameController)
+                .setControllerAdvice(new GlobalExceptionHandler()).build();
+
+        when(gameService.createGames(3)).thenReturn(Stream.concat(Stream.of(7L, 8L), Stream.<Long>generate(() -> {
+            throw new DataAccessResourceFailureException("connection lost");
+        })));
+
+        MvcResult result = mockMvc.perform(post("/api/games/create:bulk")
+                .contentType("application/json")
+                .content("{\"count\":3}"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(3))
+                .andExpect(jsonPath("$[0]").value(7))
+                .andExpect(jsonPath("$[1]").value(8))
+                .andExpect(jsonPath("$[2].status").value(500))
+                .andExpect(jsonPath("$[2].message").value("Created 2 of 3 games"));
+    }
+
+    @Test
+    void createGames_ShouldRejectCountOutOfRange() throws Exception {
+        mockMvc = MockMvcBuilders.standaloneSetup(gameController)
+                .setControllerAdvice(new GlobalExceptionHandler()).build();
+
+        mockMvc.perform(post("/api/games/create:bulk")
+                .contentType("application/json")
+                .content("{\"count\":0}"))
+                .andExpect(status().isBadRequest());
+    }
+
     @Test
     void getGameStatus_ShouldReturnGameStatusForValidId() throws Exception {
-        mockMvc = MockMvcBuilders.standaloneSetup(gameController).build();
+        mockMvc = MockMvcBuilders.standaloneSetup(gameController)
+                .setControllerAdvice(new GlobalExceptionHandler()).build();
 
         Long validGameId = 1L;
         Game mockGame = Game.builder()
@@ -64,7 +211,7 @@ class GameControllerTest {
                 .build();
         mockGame.initializeBoard();
 
-        when(gameService.getGame(validGameId)).thenReturn(mockGame);
+        when(gameService.getReadOnlyGame(validGameId)).thenReturn(mockGame);
 
         mockMvc.perform(get("/api/games/status").param("matchId", validGameId.toString()))
                 .andExpect(status().isOk())
@@ -75,13 +222,82 @@ class GameControllerTest {
                 .andExpect(jsonPath("$.board.length()").value(9));
     }
 
+    @Test
+    void getGameStatus_ShouldAnswerNotModifiedUntilTheGameVersionChanges() throws Exception {
+        mockMvc = MockMvcBuilders.standaloneSetup(gameController)
+                .setControllerAdvice(new GlobalExceptionHandler()).build();
+
+        Game game = Game.builder().id(1L).version(3L).build();
+        when(gameService.getReadOnlyGame(1L)).thenReturn(game);
+
+        mockMvc.perform(get("/api/games/status").param("matchId", "1"))
+                .andExpect(status().isOk())
+                .andExpect(header().string("ETag", "\"1-3\""));
+
+        mockMvc.perform(get("/api/games/status").param("matchId", "1").header("If-None-Match", "\"1-3\""))
+                .andExpect(status().isNotModified())
+                .andExpect(content().string(""));
+
+        game.makeMove(CellValue.X, 1, 1);
+        game.setVersion(4L);
+
+        mockMvc.perform(get("/api/games/status").param("matchId", "1").header("If-None-Match", "\"1-3\""))
+                .andExpect(status().isOk())
+                .andExpect(header().string("ETag", "\"1-4\""))
+                .andExpect(jsonPath("$.board[0].value").value("X"));
+    }
+
+    @Test
+    void getGameStatus_ShouldReturnCompactBoardWhenAskedFor() throws Exception {
+        mockMvc = MockMvcBuilders.standaloneSetup(gameController)
+                .setControllerAdvice(new GlobalExceptionHandler()).build();
+
+        Game game = Game.builder().id(1L).version(2L).build();
+        game.makeMove(CellValue.X, 1, 1);
+        game.makeMove(CellValue.O, 2, 2);
+        when(gameService.getReadOnlyGame(1L)).thenReturn(game);
+
+        mockMvc.perform(get("/api/games/status").param("matchId", "1")
+                        .header("Accept", "application/vnd.tictactoe.compact+json"))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType("application/vnd.tictactoe.compact+json"))
+                .andExpect(header().string("ETag", "\"1-2-compact\""))
+                .andExpect(header().string("Vary", "Accept"))
+                .andExpect(jsonPath("$.board").value("X---O----"))
+                .andExpect(jsonPath("$.currentTurn").value("X"))
+                .andExpect(jsonPath("$.size").value(3));
+    }
+
+    @Test
+    void getGameStatus_ShouldEncodeCompactBoardAsCbor() throws Exception {
+        mockMvc = MockMvcBuilders.standaloneSetup(gameController)
+                .setControllerAdvice(new GlobalExceptionHandler()).build();
+
+        Game game = Game.builder().id(1L).version(2L).build();
+        game.makeMove(CellValue.X, 3, 3);
+        when(gameService.getReadOnlyGame(1L)).thenReturn(game);
+
+        byte[] body = mockMvc.perform(get("/api/games/status").param("matchId", "1")
+                        .header("Accept", "application/cbor"))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType("application/cbor"))
+                .andReturn()
+                .getResponse()
+                .getContentAsByteArray();
+
+        CompactGameResponse response = new CBORMapper().findAndRegisterModules().readValue(body, CompactGameResponse.class);
+        assertThat(response.getBoard()).isEqualTo("--------X");
+        assertThat(response.getCurrentTurn()).isEqualTo(CellValue.O);
+    }
+
     @Test
     void getGameStatus_ShouldReturnNotFoundForInvalidId() throws Exception {
-        mockMvc = MockMvcBuilders.standaloneSetup(gameController).build();
+        mockMvc = MockMvcBuilders.standaloneSetup(gameController)
+                .setControllerAdvice(new GlobalExceptionHandler()).build();
 
         Long invalidGameId = 123L;
 
-        when(gameService.getGame(invalidGameId)).thenThrow(new GameNotFoundException(invalidGameId));
+        when(gameService.getReadOnlyGame(invalidGameId)).thenThrow(new GameNotFoundException(invalidGameId));
 
         mockMvc.perform(get("/api/games/status").param("matchId", invalidGameId.toString()))
                 .andExpect(status().isNotFound())
@@ -93,7 +309,8 @@ class GameControllerTest {
 
     @Test
     void makeMove_ShouldUpdateGameStateWhenMoveIsValid() throws Exception {
-        mockMvc = MockMvcBuilders.standaloneSetup(gameController).build();
+        mockMvc = MockMvcBuilders.standaloneSetup(gameController)
+                .setControllerAdvice(new GlobalExceptionHandler()).build();
 
         Long gameId = 1L;
         Game updatedGame = Game.builder()
@@ -124,7 +341,8 @@ class GameControllerTest {
 
     @Test
     void makeMove_ShouldReturnNotFoundWhenGameDoesNotExist() throws Exception {
-        mockMvc = MockMvcBuilders.standaloneSetup(gameController).build();
+        mockMvc = MockMvcBuilders.standaloneSetup(gameController)
+                .setControllerAdvice(new GlobalExceptionHandler()).build();
 
         Long gameId = 123L;
         when(gameService.makeMove(gameId, CellValue.X, 1, 1))
@@ -150,7 +368,8 @@ class GameControllerTest {
 
     @Test
     void makeMove_ShouldReturnBadRequestWhenMoveIsInvalid() throws Exception {
-        mockMvc = MockMvcBuilders.standaloneSetup(gameController).build();
+        mockMvc = MockMvcBuilders.standaloneSetup(gameController)
+                .setControllerAdvice(new GlobalExceptionHandler()).build();
 
         Long gameId = 1L;
         when(gameService.makeMove(gameId, CellValue.X, 1, 1))
@@ -174,9 +393,74 @@ class GameControllerTest {
                 .andExpect(jsonPath("$.message").value("Cell at position (1,1) is already occupied"));
     }
 
+    @Test
+    void makeMove_ShouldReturnConflictWhenGameIsModifiedConcurrently() throws Exception {
+        mockMvc = MockMvcBuilders.standaloneSetup(gameController)
+                .setControllerAdvice(new GlobalExceptionHandler()).build();
+
+        Long gameId = 1L;
+        when(gameService.makeMove(gameId, CellValue.X, 1, 1))
+                .thenThrow(new ConcurrentMoveException(gameId));
+
+        MoveRequest moveRequest = MoveRequest.builder()
+        .            matchId(1L)
+        .            playerId(CellValue.X)
+        .            square(new Square(1, 1))
+        .build();
+
+        ObjectMapper objectMapper = new ObjectMapper();
+        String requestJson = objectMapper.writeValueAsString(moveRequest);
+
+        mockMvc.perform(post("/api/games/move")
+                .contentType("application/json")
+                .content(requestJson))
+                .andExpect(status().isConflict())
+                .andExpect(jsonPath("$.status").value(409))
+                .andExpect(jsonPath("$.error").value("Conflict"))
+                .andExpect(jsonPath("$.message").value("Game with id " + gameId + " was modified concurrently, please retry"));
+    }
+
+    @Test
+    void makeMove_ShouldReturnJsonErrorWhenCompactRepresentationIsAccepted() throws Exception {
+        mockMvc = MockMvcBuilders.standaloneSetup(gameController)
+                .setControllerAdvice(new GlobalExceptionHandler()).build();
+
+        // Given
+        when(gameService.makeMove(1L, CellValue.O, 1, 1))
+                .thenThrow(new InvalidMoveException("Not your turn. Current turn: X"));
+
+        // When & Then
+        mockMvc.perform(post("/api/games/move")
+                .contentType("application/json")
+                .accept("application/vnd.tictactoe.compact+json")
+                .content("{\"matchId\":1,\"playerId\":\"O\",\"square\":{\"x\":1,\"y\":1}}"))
+                .andExpect(status().isBadRequest())
+                .andExpect(content().contentType("application/json"))
+                .andExpect(jsonPath("$.message").value("Not your turn. Current turn: X"))
+                .andExpect(jsonPath("$.path").value("/api/games/move"));
+    }
+
+    @Test
+    void streamGame_ShouldReturnJsonNotFoundWhenGameDoesNotExist() throws Exception {
+        mockMvc = MockMvcBuilders.standaloneSetup(gameController)
+                .setControllerAdvice(new GlobalExceptionHandler()).build();
+
+        // Given
+        when(gameService.getReadOnlyGame(999L)).thenThrow(new GameNotFoundException(999L));
+        when(gameStreamBroker.subscribe(eq(999L), any()))
+                .thenAnswer(invocation -> invocation.<Supplier<Game>>getArgument(1).get());
+
+        // When & Then
+        mockMvc.perform(get("/api/games/stream").param("matchId", "999").accept("text/event-stream"))
+                .andExpect(status().isNotFound())
+                .andExpect(content().contentType("application/json"))
+                .andExpect(jsonPath("$.status").value(404));
+    }
+
     @Test
     void makeMove_ShouldReturnGameStatusWhenPlayerWins() throws Exception {
-        mockMvc = MockMvcBuilders.standaloneSetup(gameController).build();
+        mockMvc = MockMvcBuilders.standaloneSetup(gameController)
+                .setControllerAdvice(new GlobalExceptionHandler()).build();
 
         Long gameId = 1L;
         Game winningGame = Game.builder()
@@ -210,7 +494,8 @@ class GameControllerTest {
 
     @Test
     void makeMove_ShouldReturnGameStatusWhenDraw() throws Exception {
-        mockMvc = MockMvcBuilders.standaloneSetup(gameController).build();
+        mockMvc = MockMvcBuilders.standaloneSetup(gameController)
+                .setControllerAdvice(new GlobalExceptionHandler()).build();
 
         Long gameId = 1L;
         Game drawGame = Game.builder()
@@ -245,4 +530,157 @@ class GameControllerTest {
                 .andExpect(status().isOk())
                 .andExpect(jsonPath("$.status").value(GameStatus.DRAW.toString()));
     }
+
+    @Test
+    void makeMoves_ShouldReturnResultPerMove() throws Exception {
+        mockMvc = MockMvcBuilders.standaloneSetup(gameController)
+                .setControllerAdvice(new GlobalExceptionHandler()).build();
+
+        MoveCommand applied = new MoveCommand(1L, CellValue.X, 1, 1);
+        MoveCommand rejected = new MoveCommand(1L, CellValue.X, 2, 2);
+        when(gameService.makeMoves(List.of(applied, rejected))).thenReturn(List.of(
+                new MoveResult(applied, MoveResult.Outcome.APPLIED, GameStatus.IN_PROGRESS, CellValue.O, null),
+                MoveResult.failed(rejected, MoveResult.Outcome.REJECTED, "Not your turn")));
+
+        MoveBatchRequest batchRequest = MoveBatchRequest.builder()
+                .moves(List.of(
+                        MoveRequest.builder().matchId(1L).playerId(CellValue.X).square(new Square(1, 1)).build(),
+                        MoveRequest.builder().matchId(1L).playerId(CellValue.X).square(new Square(2, 2)).build()))
+                .build();
+
+        ObjectMapper objectMapper = new ObjectMapper();
+        String requestJson = objectMapper.writeValueAsString(batchRequest);
+
+        mockMvc.perform(post("/api/games/moves:batch")
+                .contentType("application/json")
+                .content(requestJson))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.results.length()").value(2))
+                .andExpect(jsonPath("$.results[0].outcome").value("APPLIED"))
+                .andExpect(jsonPath("$.results[0].currentTurn").value(CellValue.O.toString()))
+                .andExpect(jsonPath("$.results[1].outcome").value("REJECTED"))
+                .andExpect(jsonPath("$.results[1].square.x").value(2))
+                .andExpect(jsonPath("$.results[1].error").value("Not your turn"));
+    }
+
+    @Test
+    void getMoves_ShouldReturnPageWithNextCursor() throws Exception {
+        mockMvc = MockMvcBuilders.standaloneSetup(gameController)
+                .setControllerAdvice(new GlobalExceptionHandler()).build();
+
+        when(gameService.getMoves(1L, 0, 3)).thenReturn(List.of(
+                Move.builder().gameId(1L).sequence(1).player(CellValue.X).x(1).y(1).build(),
+                Move.builder().gameId(1L).sequence(2).player(CellValue.O).x(2).y(2).build(),
+                Move.builder().gameId(1L).sequence(3).player(CellValue.X).x(1).y(2).build()));
+
+        mockMvc.perform(get("/api/games/1/moves").param("limit", "2"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.matchId").value(1))
+                .andExpect(jsonPath("$.moves.length()").value(2))
+                .andExpect(jsonPath("$.moves[1].sequence").value(2))
+                .andExpect(jsonPath("$.moves[1].playerId").value("O"))
+                .andExpect(jsonPath("$.moves[1].square.x").value(2))
+                .andExpect(jsonPath("$.nextCursor").value(2));
+    }
+
+    @Test
+    void getMoves_ShouldOmitCursorOnLastPage() throws Exception {
+        mockMvc = MockMvcBuilders.standaloneSetup(gameController)
+                .setControllerAdvice(new GlobalExceptionHandler()).build();
+
+        when(gameService.getMoves(1L, 2, 101)).thenReturn(List.of(
+                Move.builder().gameId(1L).sequence(3).player(CellValue.X).x(1).y(2).build()));
+
+        mockMvc.perform(get("/api/games/1/moves").param("after", "2"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.moves.length()").value(1))
+                .andExpect(jsonPath("$.nextCursor").doesNotExist());
+    }
+
+    @Test
+    void getMoves_ShouldReturnNotFoundForUnknownGame() throws Exception {
+        mockMvc = MockMvcBuilders.standaloneSetup(gameController)
+                .setControllerAdvice(new GlobalExceptionHandler()).build();
+
+        when(gameService.getMoves(99L, 0, 101)).thenThrow(new GameNotFoundException(99L));
+
+        mockMvc.perform(get("/api/games/99/moves"))
+                .andExpect(status().isNotFound());
+    }
+
+    @Test
+    void listGames_ShouldReturnPageWithCursorForNextPage() throws Exception {
+        mockMvc = MockMvcBuilders.standaloneSetup(gameController)
+                .setControllerAdvice(new GlobalExceptionHandler()).build();
+
+        LocalDateTime createdAt = LocalDateTime.of(2025, 3, 1, 10, 0);
+        List<GameSummary> games = List.of(summary(1L, createdAt), summary(2L, createdAt), summary(3L, createdAt));
+        GameQuery firstPage = new GameQuery(GameStatus.IN_PROGRESS, null, null, null, null);
+        when(gameService.listGames(firstPage, 3)).thenReturn(games);
+
+        String response = mockMvc.perform(get("/api/games").param("status", "IN_PROGRESS").param("limit", "2"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.games.length()").value(2))
+                .andExpect(jsonPath("$.games[1].id").value(2))
+                .andExpect(jsonPath("$.games[1].size").value(3))
+                .andExpect(jsonPath("$.nextCursor").isString())
+                .andReturn()
+                .getResponse()
+                .getContentAsString();
+
+        String cursor = JsonPath.read(response, "$.nextCursor");
+        GameQuery secondPage = new GameQuery(GameStatus.IN_PROGRESS, null, null, createdAt, 2L);
+        when(gameService.listGames(secondPage, 3)).thenReturn(List.of(games.get(2)));
+
+        mockMvc.perform(get("/api/games").param("status", "IN_PROGRESS").param("limit", "2").param("cursor", cursor))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.games.length()").value(1))
+                .andExpect(jsonPath("$.nextCursor").doesNotExist());
+    }
+
+    @Test
+    void listGames_ShouldRejectMalformedCursor() throws Exception {
+        mockMvc = MockMvcBuilders.standaloneSetup(gameController)
+                .setControllerAdvice(new GlobalExceptionHandler()).build();
+
+        mockMvc.perform(get("/api/games").param("cursor", "not-a-cursor"))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    void exportGames_ShouldWriteOneJsonObjectPerLine() throws Exception {
+        mockMvc = MockMvcBuilders.standaloneSetup(gameController)
+                .setControllerAdvice(new GlobalExceptionHandler()).build();
+
+        LocalDateTime createdAt = LocalDateTime.of(2025, 3, 1, 10, 0);
+        doAnswer(invocation -> {
+            Consumer<GameSummary> sink = invocation.getArgument(1);
+            sink.accept(summary(1L, createdAt));
+            sink.accept(summary(2L, createdAt));
+            return null;
+        }).when(gameService).exportGames(eq(new GameQuery(GameStatus.DRAW, null, null, null, null)), any());
+
+        ReflectionTestUtils.setField(gameController, "exportTimeout", Duration.ofHours(1));
+
+        MvcResult result = mockMvc.perform(get("/api/games/export").param("status", "DRAW"))
+                .andExpect(request().asyncStarted())
+                .andExpect(request().attribute(AsyncTimeoutInterceptor.TIMEOUT_ATTRIBUTE, Duration.ofHours(1)))
+                .andReturn();
+
+        String body = mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType("application/x-ndjson"))
+                .andReturn()
+                .getResponse()
+                .getContentAsString();
+
+        String[] lines = body.split("\n");
+        assertThat(lines).hasSize(2);
+        assertThat((Integer) JsonPath.read(lines[0], "$.id")).isEqualTo(1);
+        assertThat((Integer) JsonPath.read(lines[1], "$.id")).isEqualTo(2);
+    }
+
+    private static GameSummary summary(Long id, LocalDateTime createdAt) {
+        return new GameSummary(id, GameStatus.IN_PROGRESS, CellValue.X, GameMode.TWO_PLAYER, 3, 3, 0, createdAt);
+    }
 }
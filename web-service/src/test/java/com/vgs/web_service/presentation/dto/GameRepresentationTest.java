@@ -0,0 +1,26 @@
+package com.vgs.web_service.presentation.dto;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class GameRepresentationTest {
+
+    @Test
+    void negotiate_ShouldDefaultToJson() {
+        assertThat(GameRepresentation.negotiate(null)).isEqualTo(GameRepresentation.JSON);
+        assertThat(GameRepresentation.negotiate("*/*")).isEqualTo(GameRepresentation.JSON);
+        assertThat(GameRepresentation.negotiate("text/html")).isEqualTo(GameRepresentation.JSON);
+        assertThat(GameRepresentation.negotiate("not a media type")).isEqualTo(GameRepresentation.JSON);
+    }
+
+    @Test
+    void negotiate_ShouldPickTheCompactRepresentationsWhenPreferred() {
+        assertThat(GameRepresentation.negotiate("application/vnd.tictactoe.compact+json, application/json;q=0.5"))
+                .isEqualTo(GameRepresentation.COMPACT_JSON);
+        assertThat(GameRepresentation.negotiate("application/json;q=0.5, application/cbor"))
+                .isEqualTo(GameRepresentation.COMPACT_CBOR);
+        assertThat(GameRepresentation.negotiate("application/cbor;q=0.2, */*;q=0.8"))
+                .isEqualTo(GameRepresentation.JSON);
+    }
+}
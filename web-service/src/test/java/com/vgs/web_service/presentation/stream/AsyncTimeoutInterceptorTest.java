@@ -0,0 +1,44 @@
+package com.vgs.web_service.presentation.stream;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.context.request.async.StandardServletAsyncWebRequest;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class AsyncTimeoutInterceptorTest {
+
+    private final AsyncTimeoutInterceptor interceptor = new AsyncTimeoutInterceptor();
+
+    @Test
+    void beforeConcurrentHandling_ShouldApplyTheTimeoutTheHandlerAskedFor() {
+        assertThat(startAsync(Duration.ofHours(2))).isEqualTo(Duration.ofHours(2).toMillis());
+    }
+
+    @Test
+    void beforeConcurrentHandling_ShouldNeverTimeOutForANonPositiveDuration() {
+        assertThat(startAsync(Duration.ZERO)).isEqualTo(-1);
+    }
+
+    @Test
+    void beforeConcurrentHandling_ShouldKeepTheDefaultTimeoutOtherwise() {
+        assertThat(startAsync(null)).isEqualTo(300_000);
+    }
+
+    private long startAsync(Duration timeout) {
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        request.setAsyncSupported(true);
+        request.setAttribute(AsyncTimeoutInterceptor.TIMEOUT_ATTRIBUTE, timeout);
+        StandardServletAsyncWebRequest asyncRequest =
+                new StandardServletAsyncWebRequest(request, new MockHttpServletResponse());
+        asyncRequest.setTimeout(300_000L);
+
+        interceptor.beforeConcurrentHandling(asyncRequest, () -> null);
+        asyncRequest.startAsync();
+
+        return request.getAsyncContext().getTimeout();
+    }
+}
@@ -0,0 +1,126 @@
+package com.vgs.web_service.presentation.stream;
+
+import com.vgs.web_service.application.event.GameUpdatedEvent;
+import com.vgs.web_service.domain.model.CellValue;
+import com.vgs.web_service.domain.model.Game;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class GameStreamBrokerTest {
+
+    // Names of the events sent, in order
+    private final List<String> sent = new ArrayList<>();
+
+    private final GameStreamBroker broker = new GameStreamBroker(Duration.ofMinutes(1)) {
+        @Override
+        SseEmitter createEmitter() {
+            return new SseEmitter() {
+                @Override
+                public void send(SseEventBuilder event) throws IOException {
+                    event.build().stream()
+                            .map(part -> part.getData().toString())
+                            .filter(text -> text.startsWith("event:"))
+                            .forEach(text -> sent.add(text.substring("event:".length(), text.indexOf('\n'))));
+                    super.send(event);
+                }
+            };
+        }
+    };
+
+    @Test
+    void subscribe_ShouldRegisterSubscriberForActiveGame() {
+        broker.subscribe(1L, () -> Game.builder().id(1L).build());
+        broker.subscribe(1L, () -> Game.builder().id(1L).build());
+        broker.subscribe(2L, () -> Game.builder().id(2L).build());
+
+        assertThat(broker.subscriberCount()).isEqualTo(3);
+    }
+
+    @Test
+    void onGameUpdated_ShouldReleaseSubscribersWhenGameFinishes() {
+        Game game = Game.builder().id(1L).build();
+        broker.subscribe(1L, () -> game);
+
+        game.makeMove(CellValue.X, 1, 1);
+        game.makeMove(CellValue.O, 2, 1);
+        game.makeMove(CellValue.X, 1, 2);
+        game.makeMove(CellValue.O, 2, 2);
+        broker.onGameUpdated(new GameUpdatedEvent(game, 2, 2, CellValue.O));
+        assertThat(broker.subscriberCount()).isEqualTo(1);
+
+        game.makeMove(CellValue.X, 1, 3);
+        broker.onGameUpdated(new GameUpdatedEvent(game, 1, 3, CellValue.X));
+
+        assertThat(broker.subscriberCount()).isZero();
+    }
+
+    @Test
+    void subscribe_ShouldNotRegisterSubscriberForFinishedGame() {
+        Game game = Game.builder().id(1L).build();
+        game.makeMove(CellValue.X, 1, 1);
+        game.makeMove(CellValue.O, 2, 1);
+        game.makeMove(CellValue.X, 1, 2);
+        game.makeMove(CellValue.O, 2, 2);
+        game.makeMove(CellValue.X, 1, 3);
+
+        broker.subscribe(1L, () -> game);
+
+        assertThat(broker.subscriberCount()).isZero();
+        assertThat(sent).containsExactly("state");
+    }
+
+    @Test
+    void subscribe_ShouldSendMovesCommittedWhileLoadingAfterTheStateAndSkipTheOnesItHas() {
+        // Given
+        Game game = Game.builder().id(1L).build();
+        game.makeMove(CellValue.X, 1, 1);
+        Game loaded = game.copy();
+        game.makeMove(CellValue.O, 2, 2);
+        Game afterNextMove = game.copy();
+
+        // When
+        broker.subscribe(1L, () -> {
+            // One move the loaded state has, one it is missing
+            Game stale = Game.builder().id(1L).build();
+            stale.makeMove(CellValue.X, 1, 1);
+            broker.onGameUpdated(new GameUpdatedEvent(stale, 1, 1, CellValue.X));
+            broker.onGameUpdated(new GameUpdatedEvent(afterNextMove, 2, 2, CellValue.O));
+            return loaded;
+        });
+        game.makeMove(CellValue.X, 3, 3);
+        broker.onGameUpdated(new GameUpdatedEvent(game, 3, 3, CellValue.X));
+
+        // Then
+        assertThat(sent).containsExactly("state", "move", "move");
+        assertThat(broker.subscriberCount()).isEqualTo(1);
+    }
+
+    @Test
+    void subscribe_ShouldCompleteWhenAMoveWhileLoadingFinishesTheGame() {
+        // Given
+        Game game = Game.builder().id(1L).build();
+        game.makeMove(CellValue.X, 1, 1);
+        game.makeMove(CellValue.O, 2, 1);
+        game.makeMove(CellValue.X, 1, 2);
+        game.makeMove(CellValue.O, 2, 2);
+        Game loaded = game.copy();
+        game.makeMove(CellValue.X, 1, 3);
+
+        // When
+        broker.subscribe(1L, () -> {
+            broker.onGameUpdated(new GameUpdatedEvent(game, 1, 3, CellValue.X));
+            return loaded;
+        });
+
+        // Then
+        assertThat(sent).containsExactly("state", "move");
+        assertThat(broker.subscriberCount()).isZero();
+    }
+}